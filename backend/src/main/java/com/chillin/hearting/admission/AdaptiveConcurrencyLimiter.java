@@ -0,0 +1,98 @@
+package com.chillin.hearting.admission;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시에 처리하는 요청 수를 응답 시간에 맞춰 조절합니다. (Gradient)
+ * 평소 응답 시간(longRtt, 지수이동평균)보다 최근 응답 시간이 길어지면 DB 대기가 쌓이고 있다고 보고 한도를 줄이고,
+ * 응답 시간이 평소 수준이면 한도를 조금씩 늘립니다. 한도를 넘은 요청은 기다리지 않고 바로 거절합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 평소 응답 시간을 계산할 때 최근 샘플의 비중
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    // 새로 계산한 한도를 반영하는 비율
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    // 평소 응답 시간의 몇 배까지를 정상으로 볼지
+    private final double rttTolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("동시 요청 한도 설정이 올바르지 않습니다. - " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 처리 중인 요청 수를 늘리고 true를 반환합니다. true를 받은 경우 처리 후 반드시 {@link #release(long)}를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * 요청 처리를 마치고 걸린 시간으로 한도를 다시 계산합니다.
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos > 0) update(rttNanos, current);
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtRelease) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        }
+
+        // 과부하가 길어져 평소 응답 시간까지 늘어난 경우, 회복 후 한도를 다시 올릴 수 있도록 평소 응답 시간을 줄입니다.
+        if (longRttNanos > rttNanos * 2) longRttNanos *= 0.95;
+
+        // 한도의 절반도 쓰지 않았으면 응답 시간으로 한도를 판단할 수 없으므로 그대로 둡니다.
+        if (inFlightAtRelease < limit / 2) return;
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.chillin.hearting.admission;
+
+import com.chillin.hearting.exception.ServiceOverloadedException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/**
+ * 한 경로 그룹의 요청을 {@link AdaptiveConcurrencyLimiter} 한도 안에서만 처리하고, 넘은 요청은 503으로 바로 거절합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String ATTRIBUTE_STARTED_AT = AdmissionControlInterceptor.class.getName() + ".startedAt.";
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter limiter;
+    @Getter
+    private final List<String> paths;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String attribute = ATTRIBUTE_STARTED_AT + limiter.getName();
+        // 같은 요청의 재호출(forward, async 재디스패치)은 다시 세지 않습니다.
+        if (request.getAttribute(attribute) != null) return true;
+
+        if (!limiter.tryAcquire()) {
+            log.debug("동시 요청 한도 초과로 거절 : {} {} (한도 {})", limiter.getName(), request.getRequestURI(), limiter.getLimit());
+            throw new ServiceOverloadedException();
+        }
+        request.setAttribute(attribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String attribute = ATTRIBUTE_STARTED_AT + limiter.getName();
+        Object startedAt = request.getAttribute(attribute);
+        if (startedAt == null) return;
+
+        request.removeAttribute(attribute);
+        limiter.release(System.nanoTime() - (long) startedAt);
+    }
+}
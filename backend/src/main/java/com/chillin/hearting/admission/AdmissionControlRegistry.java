@@ -0,0 +1,62 @@
+package com.chillin.hearting.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설정한 경로 그룹(메시지 전송, 보드 조회, 도감, 알림, 마이그레이션)마다 {@link AdaptiveConcurrencyLimiter}를 만들고,
+ * 그룹별 한도, 처리 중인 요청 수, 거절 수를 Micrometer 지표로 등록합니다.
+ * 그룹에 속하지 않은 가벼운 요청은 제한하지 않으므로, DB가 느려져도 계속 응답합니다.
+ */
+@Slf4j
+@Component
+public class AdmissionControlRegistry implements MeterBinder {
+
+    private final List<AdmissionControlInterceptor> interceptors = new ArrayList<>();
+
+    public AdmissionControlRegistry(AdmissionProperties admissionProperties) {
+        if (!admissionProperties.isEnabled()) return;
+
+        for (Map.Entry<String, AdmissionProperties.Group> entry : admissionProperties.getGroups().entrySet()) {
+            AdmissionProperties.Group group = entry.getValue();
+            if (group.getPaths().isEmpty()) continue;
+
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(entry.getKey(),
+                    group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(), group.getRttTolerance());
+            interceptors.add(new AdmissionControlInterceptor(limiter, group.getPaths()));
+            log.info("동시 요청 제한 그룹 등록 : {} {} (한도 {} ~ {})", entry.getKey(), group.getPaths(), group.getMinLimit(), group.getMaxLimit());
+        }
+    }
+
+    public List<AdmissionControlInterceptor> getInterceptors() {
+        return Collections.unmodifiableList(interceptors);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdmissionControlInterceptor interceptor : interceptors) {
+            AdaptiveConcurrencyLimiter limiter = interceptor.getLimiter();
+            Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("group", limiter.getName())
+                    .description("동시 요청 한도")
+                    .register(registry);
+            Gauge.builder("admission.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("group", limiter.getName())
+                    .description("처리 중인 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("admission.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                    .tag("group", limiter.getName())
+                    .description("한도를 넘어 503으로 거절한 요청 수")
+                    .register(registry);
+        }
+    }
+}
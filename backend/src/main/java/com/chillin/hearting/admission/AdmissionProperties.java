@@ -0,0 +1,33 @@
+package com.chillin.hearting.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "hearting.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // 그룹 이름 -> 설정
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        private double rttTolerance = 1.5;
+    }
+}
@@ -5,14 +5,14 @@ import com.chillin.hearting.api.data.HeartData;
 import com.chillin.hearting.api.data.HeartListData;
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.facade.HeartFacade;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @Slf4j
@@ -31,32 +31,28 @@ public class HeartController {
 
 
     @GetMapping("")
-    public ResponseEntity<ResponseDTO> findAllHearts(HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> findAllHearts(@LoginUser UserPrincipal user) {
         Data data = heartFacade.findAllHearts(user);
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(FIND_ALLHEARTS_SUCCESS).data(data).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     @GetMapping("/user-hearts")
-    public ResponseEntity<ResponseDTO> findUserHearts(HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> findUserHearts(@LoginUser UserPrincipal user) {
         List<HeartData> messageHearts = heartFacade.findMessageHearts(user);
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(FIND_MSGHEARTS_SUCCESS).data(HeartListData.builder().heartList(messageHearts).build()).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     @GetMapping("/{heartId}")
-    public ResponseEntity<ResponseDTO> findHeartDetail(@PathVariable("heartId") Long heartId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> findHeartDetail(@PathVariable("heartId") Long heartId, @LoginUser UserPrincipal user) {
         Data data = heartFacade.findHeartDetail(user, heartId);
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(FIND_HEART_DETAIL_SUCCESS).data(data).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     @PostMapping("/user-hearts/{heartId}")
-    public ResponseEntity<ResponseDTO> saveUserHearts(@PathVariable("heartId") Long heartId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> saveUserHearts(@PathVariable("heartId") Long heartId, @LoginUser UserPrincipal user) {
         heartFacade.saveUserHearts(user.getId(), heartId);
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(SAVE_USER_HEART_SUCCESS).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
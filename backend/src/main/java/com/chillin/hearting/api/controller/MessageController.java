@@ -5,9 +5,12 @@ import com.chillin.hearting.api.data.SendMessageData;
 import com.chillin.hearting.api.request.ReportReq;
 import com.chillin.hearting.api.request.SendMessageReq;
 import com.chillin.hearting.api.response.ResponseDTO;
+import com.chillin.hearting.api.service.MessageIdempotencyService;
+import com.chillin.hearting.api.service.MessageRateLimiter;
 import com.chillin.hearting.api.service.facade.MessageFacade;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.*;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,11 +28,12 @@ public class MessageController {
 
     private static final String SUCCESS = "success";
     private final MessageFacade messageFacade;
+    private final MessageRateLimiter messageRateLimiter;
+    private final MessageIdempotencyService messageIdempotencyService;
 
     @PostMapping("")
-    public ResponseEntity<ResponseDTO> sendMessage(@Valid @RequestBody SendMessageReq sendMessageReq, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> sendMessage(@Valid @RequestBody SendMessageReq sendMessageReq, @LoginUser UserPrincipal user,
+                                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey, HttpServletRequest httpServletRequest) {
 
         if (user != null) {
             // Check if logged-in user is same as sender
@@ -49,14 +53,17 @@ public class MessageController {
         }
 
         // Get client IP
-        String clientIp = httpServletRequest.getHeader("X-Forwarded-For");
-        if (clientIp == null || clientIp.isEmpty()) {
-            clientIp = httpServletRequest.getRemoteAddr();
-        } else {
-            clientIp = clientIp.split(",")[0];
-        }
-
-        SendMessageData data = messageFacade.sendMessage(sendMessageReq.getHeartId(), sendMessageReq.getSenderId(), sendMessageReq.getReceiverId(), sendMessageReq.getTitle(), sendMessageReq.getContent(), clientIp);
+        // X-Forwarded-For는 신뢰하는 프록시가 붙인 값만 server.forward-headers-strategy가 remoteAddr에 반영함
+        String clientIp = httpServletRequest.getRemoteAddr();
+
+        // 같은 Idempotency-Key로 다시 보낸 요청은 전송하지 않고 처음 결과를 반환
+        String senderIp = clientIp;
+        String idempotencyScope = user == null ? "ip:" + clientIp : user.getId();
+        SendMessageData data = messageIdempotencyService.sendOnce(idempotencyKey, idempotencyScope, sendMessageReq, () -> {
+            // IP, 보낸 유저, (보낸 유저, 받는 유저) 별 전송 횟수 제한
+            messageRateLimiter.acquire(senderIp, user == null ? null : user.getId(), sendMessageReq.getReceiverId());
+            return messageFacade.sendMessage(sendMessageReq.getHeartId(), sendMessageReq.getSenderId(), sendMessageReq.getReceiverId(), sendMessageReq.getTitle(), sendMessageReq.getContent(), senderIp);
+        });
 
         ResponseDTO responseDTO = ResponseDTO.builder()
                 .status(SUCCESS)
@@ -67,8 +74,7 @@ public class MessageController {
     }
 
     @DeleteMapping("/{messageId}")
-    public ResponseEntity<ResponseDTO> deleteMessage(@PathVariable("messageId") long messageId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> deleteMessage(@PathVariable("messageId") long messageId, @LoginUser UserPrincipal user) {
 
         // Check if user has permissions
         if (user == null) {
@@ -89,9 +95,7 @@ public class MessageController {
     }
 
     @PostMapping("/{messageId}/reports")
-    public ResponseEntity<ResponseDTO> reportMessage(@Valid @RequestBody ReportReq reportReq, @PathVariable("messageId") long messageId, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> reportMessage(@Valid @RequestBody ReportReq reportReq, @PathVariable("messageId") long messageId, @LoginUser UserPrincipal user) {
 
         // Check if user has permissions
         if (user == null) {
@@ -113,9 +117,7 @@ public class MessageController {
     }
 
     @PostMapping("/{messageId}/emojis/{emojiId}")
-    public ResponseEntity<ResponseDTO> addEmoji(@PathVariable("messageId") long messageId, @PathVariable("emojiId") long emojiId, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> addEmoji(@PathVariable("messageId") long messageId, @PathVariable("emojiId") long emojiId, @LoginUser UserPrincipal user) {
 
         // Check if user has permissions
         if (user == null) {
@@ -3,17 +3,21 @@ package com.chillin.hearting.api.controller;
 import com.chillin.hearting.api.data.InboxData;
 import com.chillin.hearting.api.data.InboxDetailData;
 import com.chillin.hearting.api.data.InboxListData;
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.MessageInboxService;
 import com.chillin.hearting.db.domain.Message;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -39,18 +43,26 @@ public class MessageInboxController {
     }
 
     @GetMapping("")
-    public ResponseEntity<ResponseDTO> findInboxMessages(HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> findInboxMessages(@RequestParam(value = "cursorDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                                         @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                         @RequestParam(value = "limit", required = false) Integer limit, @LoginUser UserPrincipal user) {
         log.debug("사용자 정보: {}", user);
-        List<InboxData> inboxList = messageInboxService.findInboxMessages(user.getId());
-        log.debug("영구 보관 메시지 개수: {}", inboxList.size());
-        ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).data(InboxListData.builder().inboxList(inboxList).build()).message(INBOX_FIND_SUCCESS).build();
+
+        // limit이 없으면 전체 목록을 반환 (기존 클라이언트 호환)
+        InboxListData inboxListData;
+        if (limit == null) {
+            List<InboxData> inboxList = messageInboxService.findInboxMessages(user.getId());
+            inboxListData = InboxListData.builder().inboxList(inboxList).build();
+        } else {
+            inboxListData = messageInboxService.findInboxMessages(user.getId(), MessageCursor.of(cursorDate, cursorId), limit);
+        }
+        log.debug("영구 보관 메시지 개수: {}", inboxListData.getInboxList().size());
+        ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).data(inboxListData).message(INBOX_FIND_SUCCESS).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     @GetMapping("/{messageId}")
-    public ResponseEntity<ResponseDTO> findInboxDetailMessage(@PathVariable("messageId") Long messageId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> findInboxDetailMessage(@PathVariable("messageId") Long messageId, @LoginUser UserPrincipal user) {
         log.debug("사용자 정보: {}", user);
         Message findMessage = messageInboxService.findInboxDetailMessage(user.getId(), messageId);
         log.debug("영구 보관 상세 메시지 ID : {}", messageId);
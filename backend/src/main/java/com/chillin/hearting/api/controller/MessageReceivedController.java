@@ -2,21 +2,31 @@ package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.data.Data;
 import com.chillin.hearting.api.response.ResponseDTO;
+import com.chillin.hearting.api.data.MessageCursor;
+import com.chillin.hearting.api.data.ReceivedMessageData;
+import com.chillin.hearting.api.service.BoardVersionService;
 import com.chillin.hearting.api.service.MessageReceivedService;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.MessageDetailFailException;
 import com.chillin.hearting.exception.ReceivedMessagesListFailException;
 import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Slf4j
 @RestController
@@ -26,11 +36,14 @@ public class MessageReceivedController {
 
     private static final String SUCCESS = "success";
     private final MessageReceivedService messageReceivedService;
+    private final BoardVersionService boardVersionService;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<ResponseDTO> getReceivedMessages(@PathVariable("userId") String userId, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> getReceivedMessages(@PathVariable("userId") String userId,
+                                                           @RequestParam(value = "cursorDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                                           @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                           @RequestParam(value = "limit", required = false) Integer limit,
+                                                           @LoginUser UserPrincipal user, HttpServletRequest httpServletRequest) {
 
         // Check if the user is requesting his own page
         boolean isSelf = false;
@@ -40,7 +53,17 @@ public class MessageReceivedController {
             }
         }
 
-        Data data = messageReceivedService.getReceivedMessages(userId, isSelf);
+        // 보드가 바뀌지 않았으면 DB 조회 없이 304 반환
+        long version = boardVersionService.getVersion(userId);
+        String ifNoneMatch = httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (BoardVersionService.isNotModified(ifNoneMatch, version, isSelf, LocalDateTime.now(ZoneId.of("Asia/Seoul")))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ifNoneMatch).build();
+        }
+
+        // limit이 없으면 전체 목록을 반환 (기존 클라이언트 호환)
+        ReceivedMessageData data = limit == null
+                ? messageReceivedService.getReceivedMessages(userId, isSelf)
+                : messageReceivedService.getReceivedMessages(userId, isSelf, MessageCursor.of(cursorDate, cursorId), limit);
 
         if (data == null) {
             throw new ReceivedMessagesListFailException();
@@ -52,13 +75,14 @@ public class MessageReceivedController {
                 .data(data)
                 .build();
 
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(BoardVersionService.toETag(version, isSelf, data.getMessageList()))
+                .cacheControl(CacheControl.noCache())
+                .body(responseDTO);
     }
 
     @GetMapping("/detail/{messageId}")
-    public ResponseEntity<ResponseDTO> getMessageDetail(@PathVariable("messageId") long messageId, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> getMessageDetail(@PathVariable("messageId") long messageId, @LoginUser UserPrincipal user) {
 
         if (user == null) {
             throw new UnAuthorizedException();
@@ -1,19 +1,23 @@
 package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.data.Data;
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.MessageSentService;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 
 @Slf4j
 @RestController
@@ -27,10 +31,14 @@ public class MessageSentController {
     private static final String SENT_MSG_DETAIL_SUCCESS = "보낸 메시지 상세 조회를 성공했습니다.";
 
     @GetMapping("")
-    public ResponseEntity<ResponseDTO> getSentMessages(HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> getSentMessages(@RequestParam(value = "cursorDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                                       @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                       @RequestParam(value = "limit", required = false) Integer limit, @LoginUser UserPrincipal user) {
 
-        Data data = messageSentService.getSentMessages(user.getId());
+        // limit이 없으면 전체 목록을 반환 (기존 클라이언트 호환)
+        Data data = limit == null
+                ? messageSentService.getSentMessages(user.getId())
+                : messageSentService.getSentMessages(user.getId(), MessageCursor.of(cursorDate, cursorId), limit);
 
         ResponseDTO responseDTO = ResponseDTO.builder()
                 .status(SUCCESS)
@@ -42,8 +50,7 @@ public class MessageSentController {
     }
 
     @GetMapping("/{messageId}")
-    public ResponseEntity<ResponseDTO> getSentMessageDetail(@PathVariable("messageId") Long messageId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> getSentMessageDetail(@PathVariable("messageId") Long messageId, @LoginUser UserPrincipal user) {
 
         Data data = messageSentService.getSentMessageDetail(user.getId(), messageId);
 
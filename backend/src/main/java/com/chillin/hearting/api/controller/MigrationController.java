@@ -2,8 +2,9 @@ package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.MigrationService;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,8 +13,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.servlet.http.HttpServletRequest;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/migration")
@@ -26,12 +25,13 @@ public class MigrationController {
     private static final String MIGRATE_HEART_INFO_SUCCESS = "Redis 하트 정보를 MySQL과 동기화에 성공했습니다.";
     private static final String MIGRATE_USER_SENT_HEART_SUCCESS = "Redis 유저 보낸 하트 정보를 MySQL과 동기화에 성공했습니다.";
     private static final String MIGRATE_USER_RECEIVED_HEART_SUCCESS = "Redis 유저 받은 하트 정보를 MySQL과 동기화에 성공했습니다.";
+    private static final String RELOAD_HEART_CATALOG_SUCCESS = "하트 카탈로그를 MySQL과 동기화에 성공했습니다.";
+    private static final String MIGRATE_USER_HEART_MASK_SUCCESS = "Redis 유저 획득 하트 정보를 MySQL과 동기화에 성공했습니다.";
 
     @GetMapping("/heartInfo")
-    public ResponseEntity<ResponseDTO> migrateHeartInfo(HttpServletRequest httpServletRequest) {
+    public ResponseEntity<ResponseDTO> migrateHeartInfo(@LoginUser UserPrincipal user) {
         log.info("MySQL to Redis 데이터 마이그레이션 - heartInfo");
 
-        User user = (User) httpServletRequest.getAttribute("user");
 //        if (!ROLE_ADMIN.equals(user.getRole())) throw new UnAuthorizedException(UNAUTHORIZED_MESSAGE);
 
         migrationService.migrateHeartInfo();
@@ -40,21 +40,18 @@ public class MigrationController {
     }
 
     @GetMapping("/heartList")
-    public ResponseEntity<ResponseDTO> migrateHeartList(HttpServletRequest httpServletRequest) {
+    public ResponseEntity<ResponseDTO> migrateHeartList() {
         log.info("MySQL to Redis 데이터 마이그레이션 - heartList");
 
-        User user = (User) httpServletRequest.getAttribute("user");
-
         migrationService.migrateHeartList();
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(MIGRATE_HEART_INFO_SUCCESS).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     @GetMapping("/userSentHeart")
-    public ResponseEntity<ResponseDTO> migrateUserSentHeart(HttpServletRequest httpServletRequest) {
+    public ResponseEntity<ResponseDTO> migrateUserSentHeart(@LoginUser UserPrincipal user) {
         log.info("MySQL to Redis 데이터 마이그레이션 - userSentHeart");
 
-        User user = (User) httpServletRequest.getAttribute("user");
         if (!ROLE_ADMIN.equals(user.getRole())) throw new UnAuthorizedException(UNAUTHORIZED_MESSAGE);
 
         migrationService.migrateAllUserSentHeart();
@@ -63,14 +60,35 @@ public class MigrationController {
     }
 
     @GetMapping("/userReceivedHeart")
-    public ResponseEntity<ResponseDTO> migrateUserReceivedHeart(HttpServletRequest httpServletRequest) {
+    public ResponseEntity<ResponseDTO> migrateUserReceivedHeart(@LoginUser UserPrincipal user) {
         log.info("MySQL to Redis 데이터 마이그레이션 - userReceivedHeart");
 
-        User user = (User) httpServletRequest.getAttribute("user");
         if (!ROLE_ADMIN.equals(user.getRole())) throw new UnAuthorizedException(UNAUTHORIZED_MESSAGE);
 
         migrationService.migrateAllUserReceivedHeart();
         ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(MIGRATE_USER_RECEIVED_HEART_SUCCESS).build();
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
+
+    @GetMapping("/userHeartMask")
+    public ResponseEntity<ResponseDTO> migrateUserHeartMask(@LoginUser UserPrincipal user) {
+        log.info("MySQL to Redis 데이터 마이그레이션 - userHeartMask");
+
+        if (!ROLE_ADMIN.equals(user.getRole())) throw new UnAuthorizedException(UNAUTHORIZED_MESSAGE);
+
+        migrationService.migrateAllUserHeartMask();
+        ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(MIGRATE_USER_HEART_MASK_SUCCESS).build();
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/heartCatalog")
+    public ResponseEntity<ResponseDTO> reloadHeartCatalog(@LoginUser UserPrincipal user) {
+        log.info("MySQL to 하트 카탈로그 다시 불러오기");
+
+        if (!ROLE_ADMIN.equals(user.getRole())) throw new UnAuthorizedException(UNAUTHORIZED_MESSAGE);
+
+        migrationService.reloadHeartCatalog();
+        ResponseDTO responseDTO = ResponseDTO.builder().status(MESSAGE_SUCCESS).message(RELOAD_HEART_CATALOG_SUCCESS).build();
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
 }
@@ -3,18 +3,17 @@ package com.chillin.hearting.api.controller;
 import com.chillin.hearting.api.data.Data;
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.NotificationService;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.NotificationListFailException;
 import com.chillin.hearting.exception.NotificationReadFailException;
 import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.servlet.http.HttpServletRequest;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -27,8 +26,7 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping("")
-    public ResponseEntity<ResponseDTO> getNotifications(HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> getNotifications(@LoginUser UserPrincipal user) {
 
         // Check if user has permissions
         if (user == null) {
@@ -47,8 +45,7 @@ public class NotificationController {
     }
 
     @PostMapping("/{notificationId}")
-    public ResponseEntity<ResponseDTO> readNotification(@PathVariable("notificationId") Long notificationId, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> readNotification(@PathVariable("notificationId") Long notificationId, @LoginUser UserPrincipal user) {
 
         // Check if user has permissions
         if (user == null) {
@@ -1,6 +1,7 @@
 package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.data.Data;
+import com.chillin.hearting.api.data.SocialLoginResultData;
 import com.chillin.hearting.api.request.LoginTestReq;
 import com.chillin.hearting.api.request.TwitterLoginReq;
 import com.chillin.hearting.api.request.UpdateNicknameReq;
@@ -8,9 +9,13 @@ import com.chillin.hearting.api.request.UpdateStatusMessageReq;
 import com.chillin.hearting.api.response.ResponseDTO;
 import com.chillin.hearting.api.service.OAuthService;
 import com.chillin.hearting.api.service.UserService;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.NotFoundException;
+import com.chillin.hearting.jwt.LoginUser;
+import com.chillin.hearting.oauth.client.SocialLoginExecutor;
+import com.chillin.hearting.oauth.client.SocialOAuthClient;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@code UserController}는 회원과 관련된 API를 처리하는 컨트롤러입니다.
@@ -35,31 +41,40 @@ public class UserController {
 
     private final OAuthService oAuthService;
 
+    private final SocialOAuthClient socialOAuthClient;
+
+    private final SocialLoginExecutor socialLoginExecutor;
+
 
     /**
      * (트위터 제외) 소셜 로그인 처리합니다.
+     * provider에 토큰, 사용자 정보를 요청하는 동안 요청 스레드를 반납하고, 응답을 받으면 로그인 처리 후 응답합니다.
+     * 로그인 처리는 HttpClient 스레드가 아닌 로그인 전용 스레드(SocialLoginExecutor)에서 실행하며,
+     * 요청 스레드 밖이므로 HttpServletResponse에 직접 쓰지 않고 refresh token 쿠키를 응답 헤더로 내려줍니다.
      *
-     * @param provider            소셜 회사명
-     * @param code                소셜에서 넘겨준 인가코드
-     * @param httpServletRequest
-     * @param httpServletResponse
+     * @param provider 소셜 회사명
+     * @param code     소셜에서 넘겨준 인가코드
      * @return 성공 시 로그인 처리된 유저 정보를 {@code ResponseEntity}로 반환합니다.
      * @throws NotFoundException
      * @throws IllegalArgumentException
      */
     @GetMapping("/guests/social/{provider}")
-    public ResponseEntity<ResponseDTO> socialLogin(@PathVariable("provider") String provider, @RequestParam("code") String code, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws NotFoundException, IllegalArgumentException {
-
-        Data socialLoginData = oAuthService.socialLogin(code, provider, httpServletRequest, httpServletResponse);
-
-        ResponseDTO responseDTO = ResponseDTO.builder()
-                .status(SUCCESS)
-                .message("소셜 로그인 성공")
-                .data(socialLoginData)
-                .build();
-
-
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<ResponseDTO>> socialLogin(@PathVariable("provider") String provider, @RequestParam("code") String code) throws NotFoundException, IllegalArgumentException {
+
+        return socialOAuthClient.requestUserAttribute(code, provider)
+                .thenApplyAsync(oAuth2Attribute -> {
+                    SocialLoginResultData socialLoginResultData = oAuthService.socialLogin(oAuth2Attribute, provider);
+
+                    ResponseDTO responseDTO = ResponseDTO.builder()
+                            .status(SUCCESS)
+                            .message("소셜 로그인 성공")
+                            .data(socialLoginResultData.getSocialLoginData())
+                            .build();
+
+                    return ResponseEntity.status(HttpStatus.OK)
+                            .header(HttpHeaders.SET_COOKIE, socialLoginResultData.getRefreshTokenCookie().toString())
+                            .body(responseDTO);
+                }, socialLoginExecutor);
     }
 
     /**
@@ -133,9 +148,7 @@ public class UserController {
      * @return 성공 시 수정된 닉네임 정보를 {@code ResponseEntity}로 반환합니다.
      */
     @PatchMapping("/users/nickname")
-    public ResponseEntity<ResponseDTO> updateNickname(@Valid @RequestBody UpdateNicknameReq updateNicknameReq, HttpServletRequest httpServletRequest) {
-
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> updateNickname(@Valid @RequestBody UpdateNicknameReq updateNicknameReq, @LoginUser UserPrincipal user) {
 
         Data data = userService.updateNickname(user.getId(), updateNicknameReq.getNickname());
 
@@ -156,8 +169,7 @@ public class UserController {
      * @return 성공 시 수정된 상태메시지 정보를 {@code ResponseEntity}로 반환합니다.
      */
     @PatchMapping("/users/status-message")
-    public ResponseEntity<ResponseDTO> updateStatusMessage(@Valid @RequestBody UpdateStatusMessageReq updateStatusMessageReq, HttpServletRequest httpServletRequest) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> updateStatusMessage(@Valid @RequestBody UpdateStatusMessageReq updateStatusMessageReq, @LoginUser UserPrincipal user) {
 
         Data data = userService.updateStatusMessage(user.getId(), updateStatusMessageReq.getStatusMessage());
 
@@ -178,8 +190,7 @@ public class UserController {
      * @return 성공 시 메시지를 반환합니다.
      */
     @PatchMapping("/users/logout")
-    public ResponseEntity<ResponseDTO> logoutUser(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
-        User user = (User) httpServletRequest.getAttribute("user");
+    public ResponseEntity<ResponseDTO> logoutUser(@LoginUser UserPrincipal user, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
         userService.deleteRefreshToken(user.getId(), httpServletRequest, httpServletResponse);
 
@@ -1,15 +1,14 @@
 package com.chillin.hearting.api.data;
 
 import com.chillin.hearting.db.domain.Heart;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.Setter;
-import lombok.ToString;
+import lombok.*;
 
 @Getter
 @Setter
 @ToString
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class HeartConditionData implements Data {
     private Long heartId;
     private String name;
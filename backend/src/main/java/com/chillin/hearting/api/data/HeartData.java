@@ -8,7 +8,7 @@ import lombok.ToString;
 
 @Getter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 public class HeartData implements Data {
 
     private Long heartId;
@@ -41,4 +41,18 @@ public class InboxData {
                 .build();
 
     }
+
+    public static InboxData of(InboxMessageDTO dto) {
+        return InboxData.builder()
+                .messageId(dto.getMessageId())
+                .title(dto.getTitle())
+                .messageContent(dto.getMessageContent())
+                .heartId(dto.getHeartId())
+                .heartUrl(dto.getHeartUrl())
+                .emojiId(dto.getEmojiId())
+                .emojiName(dto.getEmojiName())
+                .emojiUrl(dto.getEmojiUrl())
+                .createdDate(dto.getCreatedDate())
+                .build();
+    }
 }
@@ -13,8 +13,12 @@ import java.util.List;
 public class InboxListData implements Data {
     private List<InboxData> inboxList;
 
+    // 다음 페이지 커서 (커서 조회가 아니거나 마지막 페이지면 null)
+    private MessageCursor nextCursor;
+
     @Builder
-    public InboxListData(List<InboxData> inboxList) {
+    public InboxListData(List<InboxData> inboxList, MessageCursor nextCursor) {
         this.inboxList = inboxList;
+        this.nextCursor = nextCursor;
     }
 }
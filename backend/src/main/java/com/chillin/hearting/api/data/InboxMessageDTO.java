@@ -0,0 +1,23 @@
+package com.chillin.hearting.api.data;
+
+import java.time.LocalDateTime;
+
+public interface InboxMessageDTO {
+    Long getMessageId();
+
+    String getTitle();
+
+    String getMessageContent();
+
+    Long getHeartId();
+
+    String getHeartUrl();
+
+    Long getEmojiId();
+
+    String getEmojiName();
+
+    String getEmojiUrl();
+
+    LocalDateTime getCreatedDate();
+}
@@ -0,0 +1,69 @@
+package com.chillin.hearting.api.data;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 메시지 목록 커서 페이지네이션의 기준 (createdDate, id)입니다.
+ * 다음 페이지는 커서보다 뒤에 오는 메시지부터 조회합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MessageCursor {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 내림차순 조회의 첫 페이지 커서 (MySQL datetime 최대값)
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private LocalDateTime createdDate;
+    private Long id;
+
+    /**
+     * 요청 파라미터로 커서를 만듭니다.
+     *
+     * @return 둘 중 하나라도 없으면 null (첫 페이지)
+     */
+    public static MessageCursor of(LocalDateTime createdDate, Long id) {
+        if (createdDate == null || id == null) return null;
+        return new MessageCursor(createdDate, id);
+    }
+
+    /**
+     * 최신순 조회의 첫 페이지 커서입니다.
+     */
+    public static MessageCursor latest() {
+        return new MessageCursor(MAX_DATE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 오래된 순 조회에서 since 이후 메시지부터 조회하는 첫 페이지 커서입니다.
+     */
+    public static MessageCursor since(LocalDateTime since) {
+        return new MessageCursor(since, 0L);
+    }
+
+    /**
+     * 페이지 크기를 1 ~ MAX_PAGE_SIZE 사이로 맞춥니다.
+     */
+    public static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * limit + 1개를 조회한 결과로 다음 페이지 커서를 만듭니다.
+     *
+     * @return 다음 페이지가 없으면 null
+     */
+    public static <T> MessageCursor next(List<T> rows, int limit, Function<T, LocalDateTime> createdDate, Function<T, Long> id) {
+        if (rows.size() <= limit) return null;
+        T last = rows.get(limit - 1);
+        return new MessageCursor(createdDate.apply(last), id.apply(last));
+    }
+}
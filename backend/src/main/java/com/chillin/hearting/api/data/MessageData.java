@@ -37,4 +37,18 @@ public class MessageData implements Data {
     private String content;
     private String shortDescription;
 
+    public static MessageData of(ReceivedMessageDTO dto) {
+        return MessageData.builder()
+                .messageId(dto.getMessageId())
+                .title(dto.getTitle())
+                .heartId(dto.getHeartId())
+                .heartName(dto.getHeartName())
+                .heartUrl(dto.getHeartUrl())
+                .emojiId(dto.getEmojiId() != null ? dto.getEmojiId() : -1)
+                .emojiName(dto.getEmojiName())
+                .emojiUrl(dto.getEmojiUrl())
+                .createdDate(dto.getCreatedDate())
+                .expiredDate(dto.getExpiredDate())
+                .build();
+    }
 }
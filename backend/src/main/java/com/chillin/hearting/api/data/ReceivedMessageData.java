@@ -13,4 +13,7 @@ public class ReceivedMessageData implements Data {
 
     private List<MessageData> messageList;
 
+    // 다음 페이지 커서 (커서 조회가 아니거나 마지막 페이지면 null)
+    private MessageCursor nextCursor;
+
 }
@@ -0,0 +1,7 @@
+package com.chillin.hearting.api.data;
+
+public interface ReceiverMessageCountDTO {
+    String getReceiverId();
+
+    Long getMessageCount();
+}
@@ -0,0 +1,27 @@
+package com.chillin.hearting.api.data;
+
+import java.time.LocalDateTime;
+
+public interface SentMessageDTO {
+    Long getMessageId();
+
+    String getTitle();
+
+    String getShortDescription();
+
+    Long getHeartId();
+
+    String getHeartName();
+
+    String getHeartUrl();
+
+    Long getEmojiId();
+
+    String getEmojiName();
+
+    String getEmojiUrl();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getExpiredDate();
+}
@@ -45,4 +45,20 @@ public class SentMessageData implements Data {
                 .expiredDate(message.getExpiredDate())
                 .build();
     }
+
+    public static SentMessageData of(SentMessageDTO dto) {
+        return SentMessageData.builder()
+                .messageId(dto.getMessageId())
+                .title(dto.getTitle())
+                .shortDescription(dto.getShortDescription())
+                .heartId(dto.getHeartId())
+                .heartName(dto.getHeartName())
+                .heartUrl(dto.getHeartUrl())
+                .emojiId(dto.getEmojiId())
+                .emojiName(dto.getEmojiName())
+                .emojiUrl(dto.getEmojiUrl())
+                .createdDate(dto.getCreatedDate())
+                .expiredDate(dto.getExpiredDate())
+                .build();
+    }
 }
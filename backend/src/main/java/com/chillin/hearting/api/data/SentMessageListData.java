@@ -11,4 +11,7 @@ import java.util.List;
 @ToString
 public class SentMessageListData implements Data {
     private List<SentMessageData> sentMessageList;
+
+    // 다음 페이지 커서 (커서 조회가 아니거나 마지막 페이지면 null)
+    private MessageCursor nextCursor;
 }
@@ -0,0 +1,20 @@
+package com.chillin.hearting.api.data;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 로그인 응답 본문(SocialLoginData)과 응답 헤더로 내려줄 refresh token 쿠키를 함께 담습니다.
+ */
+@Getter
+@Builder
+@ToString(onlyExplicitlyIncluded = true)
+public class SocialLoginResultData {
+
+    @ToString.Include
+    private final SocialLoginData socialLoginData;
+
+    private final ResponseCookie refreshTokenCookie;
+}
@@ -0,0 +1,17 @@
+package com.chillin.hearting.api.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class SuspendedUserData {
+
+    private String userId;
+    private char status;
+    private LocalDateTime endDate;
+}
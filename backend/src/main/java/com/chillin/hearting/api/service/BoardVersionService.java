@@ -0,0 +1,147 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.MessageData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 유저별 받은 메시지 보드(하트판)의 버전을 Redis에 관리합니다.
+ * 보드 내용을 바꾸는 작업은 버전을 올리고, 조회 API는 버전과 가장 가까운 메시지 만료 시간으로 ETag를 만들어
+ * 변경이 없으면 MySQL 조회 없이 304로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardVersionService {
+
+    public static final String KEY_BOARD_VERSION_PREFIX = "boardVersion:";
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final long NO_EXPIRY = 0L;
+
+    // 키가 없으면 현재 시각(ms)으로 초기화하므로, 키가 유실되어도 이전에 발급한 버전이 다시 나오지 않습니다.
+    // KEYS[1]: 보드 버전, ARGV[1]: 초기값, ARGV[2]: ttl(초)
+    private static final RedisScript<Long> GET_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[1]) " +
+                    "if version then return tonumber(version) end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+                    "return tonumber(ARGV[1])", Long.class);
+
+    private static final RedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "redis.call('SET', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "local version = redis.call('INCR', KEYS[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "return version", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${hearting.board-version.ttl-hours:168}")
+    private long ttlHours;
+
+    /**
+     * 보드의 현재 버전을 조회합니다.
+     *
+     * @param receiverId 보드 주인
+     */
+    public long getVersion(String receiverId) {
+        Long version = stringRedisTemplate.execute(GET_VERSION_SCRIPT, List.of(getKey(receiverId)),
+                String.valueOf(System.currentTimeMillis()), getTtlSeconds());
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * 보드 버전을 올립니다. 트랜잭션 안에서 호출되면 커밋 후에 올려서,
+     * 커밋 전의 데이터가 새 버전의 ETag로 응답되지 않도록 합니다.
+     *
+     * @param receiverId 보드 주인
+     */
+    public void bump(String receiverId) {
+        if (receiverId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(receiverId);
+                }
+            });
+        } else {
+            bumpNow(receiverId);
+        }
+    }
+
+    private void bumpNow(String receiverId) {
+        stringRedisTemplate.execute(BUMP_VERSION_SCRIPT, List.of(getKey(receiverId)),
+                String.valueOf(System.currentTimeMillis()), getTtlSeconds());
+        log.debug("{} 유저의 보드 버전을 올렸습니다.", receiverId);
+    }
+
+    /**
+     * 보드 버전, 조회 주체(본인/방문자), 가장 먼저 만료되는 메시지의 만료 시간으로 ETag를 만듭니다.
+     *
+     * @param version  조회 전에 읽은 보드 버전
+     * @param isSelf   본인 보드 조회 여부 (읽음 여부 포함)
+     * @param messages 응답할 메시지 목록
+     */
+    public static String toETag(long version, boolean isSelf, List<MessageData> messages) {
+        long nextExpiry = messages.stream()
+                .map(MessageData::getExpiredDate)
+                .filter(Objects::nonNull)
+                .map(expiredDate -> expiredDate.atZone(ZONE_ID).toEpochSecond())
+                .min(Long::compare)
+                .orElse(NO_EXPIRY);
+        return "\"" + version + "-" + (isSelf ? "s" : "p") + "-" + nextExpiry + "\"";
+    }
+
+    /**
+     * If-None-Match로 받은 ETag가 현재 보드와 같은지 확인합니다.
+     * 버전이 같더라도 응답에 포함된 메시지가 만료되었으면 변경된 것으로 봅니다.
+     *
+     * @param ifNoneMatch If-None-Match 헤더
+     * @param version     현재 보드 버전
+     * @param isSelf      본인 보드 조회 여부
+     * @param now         현재 시간
+     */
+    public static boolean isNotModified(String ifNoneMatch, long version, boolean isSelf, LocalDateTime now) {
+        if (ifNoneMatch == null) return false;
+
+        String etag = ifNoneMatch.trim();
+        if (etag.startsWith("W/")) etag = etag.substring(2);
+        etag = etag.replace("\"", "");
+
+        String[] parts = etag.split("-");
+        if (parts.length != 3) return false;
+
+        try {
+            if (Long.parseLong(parts[0]) != version) return false;
+            if (!parts[1].equals(isSelf ? "s" : "p")) return false;
+            long nextExpiry = Long.parseLong(parts[2]);
+            return nextExpiry == NO_EXPIRY || now.atZone(ZONE_ID).toEpochSecond() < nextExpiry;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private String getKey(String receiverId) {
+        return KEY_BOARD_VERSION_PREFIX + receiverId;
+    }
+
+    private String getTtlSeconds() {
+        return String.valueOf(Duration.ofHours(ttlHours).getSeconds());
+    }
+}
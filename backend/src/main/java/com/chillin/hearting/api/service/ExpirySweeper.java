@@ -0,0 +1,87 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.MessageRepository;
+import com.chillin.hearting.db.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.BiFunction;
+
+/**
+ * 만료 시간이 지난 메시지와 알림을 주기적으로 비활성화합니다.
+ * 한 번의 update는 chunk-size 행까지만 처리하고, chunk 사이에 쉬어 DB 부하와 락 점유 시간을 제한합니다.
+ * 조회 API는 만료 시간으로 거르기만 하고 비활성화는 이 작업에서만 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpirySweeper {
+
+    public static final String JOB_NAME = "expirySweeper";
+
+    private final MessageRepository messageRepository;
+    private final NotificationRepository notificationRepository;
+    private final JobLockService jobLockService;
+
+    @Value("${hearting.expiry-sweeper.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${hearting.expiry-sweeper.max-chunks:50}")
+    private int maxChunks;
+
+    @Value("${hearting.expiry-sweeper.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${hearting.expiry-sweeper.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    /**
+     * 다른 인스턴스가 실행 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${hearting.expiry-sweeper.interval-ms:60000}")
+    public void sweep() {
+        String token = jobLockService.tryLock(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (token == null) return;
+
+        try {
+            LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+            int messages = sweepChunks(now, messageRepository::deactivateExpiredMessages);
+            int notifications = sweepChunks(now, notificationRepository::deactivateExpiredNotifications);
+
+            if (messages > 0 || notifications > 0) {
+                log.info("만료된 메시지 {}개, 알림 {}개를 비활성화했습니다.", messages, notifications);
+            }
+        } finally {
+            jobLockService.unlock(JOB_NAME, token);
+        }
+    }
+
+    /**
+     * 만료된 행이 chunk-size보다 적게 남을 때까지, 최대 max-chunks번 반복해서 비활성화합니다.
+     * 남은 행은 다음 주기에 이어서 처리합니다.
+     *
+     * @return 비활성화한 행 수
+     */
+    int sweepChunks(LocalDateTime now, BiFunction<LocalDateTime, Integer, Integer> deactivate) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int updated = deactivate.apply(now, chunkSize);
+            total += updated;
+            if (updated < chunkSize) break;
+
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,80 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.HeartData;
+import com.chillin.hearting.api.service.enums.HeartType;
+import com.chillin.hearting.db.domain.Heart;
+
+import java.util.*;
+
+/**
+ * 하트 테이블 전체를 담은 불변 스냅샷입니다.
+ * 하트 ID로 바로 찾을 수 있도록 배열에 담고, 타입별 목록과 응답용 HeartData 템플릿을 미리 만들어 둡니다.
+ */
+public final class HeartCatalog {
+
+    private final Heart[] heartsById;
+    private final HeartData[] heartDataTemplates;
+    private final List<Heart> allHearts;
+    private final List<Heart> defaultHearts;
+    private final List<Heart> specialHearts;
+
+    private HeartCatalog(List<Heart> hearts) {
+        List<Heart> sorted = new ArrayList<>(hearts);
+        sorted.sort(Comparator.comparing(Heart::getId));
+
+        long maxId = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1).getId();
+        this.heartsById = new Heart[(int) maxId + 1];
+        this.heartDataTemplates = new HeartData[(int) maxId + 1];
+
+        List<Heart> defaults = new ArrayList<>();
+        List<Heart> specials = new ArrayList<>();
+        for (Heart heart : sorted) {
+            int id = heart.getId().intValue();
+            heartsById[id] = heart;
+            heartDataTemplates[id] = HeartData.of(heart);
+            if (HeartType.isDefault(heart.getType())) defaults.add(heart);
+            if (HeartType.SPECIAL.name().equals(heart.getType())) specials.add(heart);
+        }
+
+        this.allHearts = List.copyOf(sorted);
+        this.defaultHearts = List.copyOf(defaults);
+        this.specialHearts = List.copyOf(specials);
+    }
+
+    public static HeartCatalog of(List<Heart> hearts) {
+        return new HeartCatalog(hearts);
+    }
+
+    public Optional<Heart> findById(long heartId) {
+        if (heartId < 0 || heartId >= heartsById.length) return Optional.empty();
+        return Optional.ofNullable(heartsById[(int) heartId]);
+    }
+
+    public List<Heart> getAllHearts() {
+        return allHearts;
+    }
+
+    public List<Heart> getDefaultHearts() {
+        return defaultHearts;
+    }
+
+    public List<Heart> getSpecialHearts() {
+        return specialHearts;
+    }
+
+    /**
+     * 하트 ID 순서로 응답용 HeartData를 새로 만들어 반환합니다.
+     * HeartData는 잠금 여부 등을 바꿔서 사용하므로 템플릿을 복사해서 돌려줍니다.
+     */
+    public List<HeartData> newHeartDataList(List<Heart> hearts) {
+        List<HeartData> result = new ArrayList<>(hearts.size());
+        for (Heart heart : hearts) {
+            result.add(heartDataTemplates[heart.getId().intValue()].toBuilder().build());
+        }
+        return result;
+    }
+
+    public int size() {
+        return allHearts.size();
+    }
+}
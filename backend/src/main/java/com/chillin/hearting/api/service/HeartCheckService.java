@@ -2,11 +2,17 @@ package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.HeartConditionData;
 import com.chillin.hearting.api.service.heartcheck.HeartChecker;
+import com.chillin.hearting.api.service.heartcheck.HeartCounter;
+import com.chillin.hearting.cache.CacheType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -16,14 +22,34 @@ public class HeartCheckService {
     private final HeartChecker heartChecker;
 
     public boolean isUserAcquirableHeart(String userId, long heartId) {
-        heartChecker.init(userId, heartId);
-
-        return heartChecker.isAcquirable();
+        return heartChecker.isAcquirable(userId, heartId);
     }
 
+    /**
+     * 하트 획득 조건 달성 현황을 조회합니다.
+     * 유저의 카운터가 바뀌면 {@link #evictSpecialHeartAcqCondition}으로 캐시를 삭제합니다.
+     */
+    @Cacheable(cacheNames = CacheType.Names.HEART_CONDITIONS, key = "#userId + ':' + #heartId")
     public List<HeartConditionData> getSpecialHeartAcqCondition(String userId, Long heartId) {
-        heartChecker.init(userId, heartId);
+        return heartChecker.getAcqCondition(userId, heartId);
+    }
+
+    @CacheEvict(cacheNames = CacheType.Names.HEART_CONDITIONS, key = "#userId + ':' + #heartId")
+    public void evictSpecialHeartAcqCondition(String userId, Long heartId) {
+        // 캐시 삭제는 @CacheEvict 에서 처리합니다.
+    }
+
+    /**
+     * 여러 하트 중 유저가 획득 조건을 달성한 하트 ID 목록을 조회합니다.
+     */
+    public Set<Long> findAcquirableHeartIds(String userId, Collection<Long> heartIds) {
+        return heartChecker.findAcquirableHeartIds(userId, heartIds);
+    }
 
-        return heartChecker.getAcqCondition();
+    /**
+     * 변경된 카운터에 영향을 받는 하트 ID 목록을 조회합니다.
+     */
+    public Set<Long> findAffectedHeartIds(Collection<HeartCounter> changedCounters) {
+        return heartChecker.findDependentHeartIds(changedCounters);
     }
 }
@@ -1,42 +1,113 @@
 package com.chillin.hearting.api.service;
 
-import com.chillin.hearting.api.service.enums.HeartType;
+import com.chillin.hearting.api.data.HeartData;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.repository.*;
 import com.chillin.hearting.exception.HeartNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 하트 정보는 거의 바뀌지 않으므로 처음 조회할 때 전체를 불러와 메모리의 {@link HeartCatalog}에서 제공합니다.
+ * 하트 정보가 바뀌면 관리자 요청으로 모든 인스턴스의 카탈로그를 다시 불러옵니다.
+ */
 @Service
 @Transactional(readOnly = true)
 @Slf4j
 @RequiredArgsConstructor
 public class HeartService {
 
+    public static final String CHANNEL_CATALOG_RELOAD = "heartCatalog:reload";
+
     private final HeartRepository heartRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final AtomicReference<HeartCatalog> catalog = new AtomicReference<>();
+    // 다시 불러오기 알림을 보낸 인스턴스를 구분합니다.
+    private final String instanceId = UUID.randomUUID().toString();
 
     @Transactional(readOnly = true)
     public List<Heart> findDefaultTypeHearts() {
-        return heartRepository.findAllByType(HeartType.DEFAULT.name());
+        return getCatalog().getDefaultHearts();
     }
 
     @Transactional(readOnly = true)
     public List<Heart> findSpecialTypeHearts() {
-        return heartRepository.findAllByType(HeartType.SPECIAL.name());
+        return getCatalog().getSpecialHearts();
     }
 
     @Transactional(readOnly = true)
     public Heart findById(Long id) {
-        return heartRepository.findById(id).orElseThrow(HeartNotFoundException::new);
+        return getCatalog().findById(id)
+                .orElseGet(() -> heartRepository.findById(id).orElseThrow(HeartNotFoundException::new));
     }
 
     @Transactional(readOnly = true)
     public List<Heart> findAll() {
-        return heartRepository.findAll();
+        return getCatalog().getAllHearts();
+    }
+
+    /**
+     * 모든 하트의 응답용 데이터를 하트 ID 순서로 반환합니다. 반환된 데이터는 호출자가 수정해도 됩니다.
+     */
+    public List<HeartData> findAllHeartData() {
+        HeartCatalog current = getCatalog();
+        return current.newHeartDataList(current.getAllHearts());
+    }
+
+    /**
+     * 기본 하트의 응답용 데이터를 하트 ID 순서로 반환합니다. 반환된 데이터는 호출자가 수정해도 됩니다.
+     */
+    public List<HeartData> findDefaultHeartData() {
+        HeartCatalog current = getCatalog();
+        return current.newHeartDataList(current.getDefaultHearts());
+    }
+
+    public HeartCatalog getCatalog() {
+        HeartCatalog current = catalog.get();
+        if (current != null) return current;
+
+        HeartCatalog loaded = loadCatalog();
+        // 동시에 처음 불러온 경우 먼저 등록된 카탈로그를 사용합니다.
+        return catalog.compareAndSet(null, loaded) ? loaded : catalog.get();
+    }
+
+    /**
+     * 이 인스턴스의 하트 카탈로그를 MySQL에서 다시 불러와 교체합니다.
+     */
+    public HeartCatalog reloadCatalog() {
+        HeartCatalog loaded = loadCatalog();
+        catalog.set(loaded);
+        return loaded;
+    }
+
+    /**
+     * 이 인스턴스의 카탈로그를 다시 불러온 뒤, 다른 인스턴스에도 다시 불러오도록 알립니다.
+     * 알림에는 이 인스턴스의 ID를 담아, 알림을 받은 자신은 다시 불러오지 않게 합니다.
+     */
+    public void reloadCatalogOnAllInstances() {
+        reloadCatalog();
+        stringRedisTemplate.convertAndSend(CHANNEL_CATALOG_RELOAD, instanceId);
+    }
+
+    /**
+     * @param message 다시 불러오기 알림 내용 (보낸 인스턴스 ID)
+     * @return 이 인스턴스가 보낸 알림이면 true
+     */
+    public boolean isSentByThisInstance(String message) {
+        return instanceId.equals(message);
     }
 
+    private HeartCatalog loadCatalog() {
+        HeartCatalog loaded = HeartCatalog.of(heartRepository.findAll());
+        log.info("하트 카탈로그를 불러왔습니다. - {}개", loaded.size());
+        return loaded;
+    }
 }
@@ -1,14 +1,24 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.TotalMessageCountData;
+import com.chillin.hearting.api.service.ingest.MessageIngestionPipeline;
 import com.chillin.hearting.db.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * {@code HomeService}는 메인 홈페이지 관련 로직을 처리하는 서비스입니다.
+ * 서비스 전체 누적 메시지 수는 Redis 카운터로 관리하고, 주기적으로 MySQL과 비교해 보정합니다.
  *
  * @author wjdwn03
  */
@@ -18,7 +28,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class HomeService {
 
+    public static final String KEY_TOTAL_MESSAGE_COUNT = "totalMessageCount";
+    public static final String RECONCILE_JOB_NAME = "totalMessageCountReconcile";
+
+    private static final String ADMIN_SENDER_IP = "ADMIN";
+
+    // 카운터가 없으면 증가시키지 않고, 다음 조회 시 MySQL 값으로 초기화합니다.
+    // KEYS[1]: 누적 메시지 수
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('INCR', KEYS[1])", Long.class);
+
+    // 보정 값을 더합니다. 카운터가 없으면 다음 조회 시 MySQL 값으로 초기화합니다.
+    // KEYS[1]: 누적 메시지 수, ARGV[1]: 보정 값
+    private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+
     private final MessageRepository messageRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobLockService jobLockService;
+    private final MessageIngestionPipeline messageIngestionPipeline;
+
+    @Value("${hearting.total-message-count.lock-ttl-ms:60000}")
+    private long reconcileLockTtlMs;
 
     /**
      * "하팅!"서비스 전체 누적 메시지 수를 반환합니다.
@@ -28,12 +61,57 @@ public class HomeService {
     // 홈 화면 - 서비스 전체 누적 메시지 수
     public TotalMessageCountData totalMessageCount() {
 
-        Long count = messageRepository.countBySenderIpNotOrIsNull("ADMIN");
+        String cached = stringRedisTemplate.opsForValue().get(KEY_TOTAL_MESSAGE_COUNT);
+        long count;
+        if (cached != null) {
+            count = Long.parseLong(cached);
+        } else {
+            count = countFromDB();
+            stringRedisTemplate.opsForValue().setIfAbsent(KEY_TOTAL_MESSAGE_COUNT, String.valueOf(count));
+        }
 
-        log.info("서비스 누적 메시지 수(관리자가 전송한 메시지 제외) : {}", count);
+        log.debug("서비스 누적 메시지 수(관리자가 전송한 메시지 제외) : {}", count);
 
         return TotalMessageCountData.builder().totalHeartCount(count).build();
     }
 
-}
+    /**
+     * 유저가 메시지를 보낼 때 전체 누적 메시지 수를 1 증가시킵니다.
+     * 관리자 샘플 메시지는 집계 대상이 아니므로 호출하지 않습니다.
+     */
+    public void incrementTotalMessageCount() {
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(KEY_TOTAL_MESSAGE_COUNT));
+    }
 
+    /**
+     * Redis 카운터를 MySQL 집계 값으로 보정합니다.
+     * 롤백된 전송이나 Redis 장애로 생긴 오차를 바로잡으며, 여러 인스턴스 중 하나만 실행합니다.
+     * 집계하는 동안 늘어난 카운트를 덮어쓰지 않도록, 집계 전에 읽은 값과의 차이만 더합니다.
+     * write-behind 큐에서 아직 저장되지 않은 메시지는 카운트에 이미 포함되어 있으므로 집계 값에 더합니다.
+     */
+    @Scheduled(fixedDelayString = "${hearting.total-message-count.reconcile-interval-ms:600000}")
+    public void reconcileTotalMessageCount() {
+        String token = jobLockService.tryLock(RECONCILE_JOB_NAME, Duration.ofMillis(reconcileLockTtlMs));
+        if (token == null) return;
+
+        try {
+            String snapshot = stringRedisTemplate.opsForValue().get(KEY_TOTAL_MESSAGE_COUNT);
+            // 카운터가 없으면 다음 조회 시 MySQL 값으로 초기화됩니다.
+            if (snapshot == null) return;
+
+            long count = countFromDB() + messageIngestionPipeline.pendingCount();
+            long delta = count - Long.parseLong(snapshot);
+            if (delta == 0) return;
+
+            Long adjusted = stringRedisTemplate.execute(ADJUST_IF_EXISTS_SCRIPT, List.of(KEY_TOTAL_MESSAGE_COUNT), String.valueOf(delta));
+            log.info("서비스 누적 메시지 수를 보정했습니다. {} -> {} (보정 값:{})", snapshot, adjusted, delta);
+        } finally {
+            jobLockService.unlock(RECONCILE_JOB_NAME, token);
+        }
+    }
+
+    private long countFromDB() {
+        Long count = messageRepository.countBySenderIpNotOrIsNull(ADMIN_SENDER_IP);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.chillin.hearting.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스에서 동시에 실행되면 안 되는 배치 작업을 위한 Redis 락입니다.
+ * SET NX PX로 락을 잡고, 락을 잡은 토큰과 일치할 때만 해제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLockService {
+
+    public static final String KEY_JOB_LOCK_PREFIX = "jobLock:";
+
+    // KEYS[1]: 락 키, ARGV[1]: 락을 잡을 때 사용한 토큰
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 작업 락을 획득합니다. 인스턴스가 비정상 종료되어도 ttl이 지나면 락이 풀립니다.
+     *
+     * @param jobName
+     * @param ttl     락 유지 시간
+     * @return 락 해제에 사용할 토큰, 다른 인스턴스가 락을 잡고 있으면 null
+     */
+    public String tryLock(String jobName, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(KEY_JOB_LOCK_PREFIX + jobName, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("{} 작업 락을 다른 인스턴스가 점유하고 있습니다.", jobName);
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * 작업 락을 해제합니다. ttl이 지나 다른 인스턴스가 잡은 락은 해제하지 않습니다.
+     *
+     * @param jobName
+     * @param token   tryLock에서 받은 토큰
+     */
+    public void unlock(String jobName, String token) {
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_JOB_LOCK_PREFIX + jobName), token);
+        if (released == null || released == 0) {
+            log.warn("{} 작업 락이 이미 만료되어 해제하지 않았습니다.", jobName);
+        }
+    }
+}
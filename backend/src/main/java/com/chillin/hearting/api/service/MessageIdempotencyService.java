@@ -0,0 +1,140 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.SendMessageData;
+import com.chillin.hearting.api.request.SendMessageReq;
+import com.chillin.hearting.exception.DuplicateException;
+import com.chillin.hearting.exception.InvalidIdempotencyKeyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 메시지 전송 요청의 Idempotency-Key를 Redis에 보관하여, 같은 키로 다시 온 요청(재시도, 중복 터치)은 전송하지 않고 처음 응답을 돌려줍니다.
+ * 처리 중에는 "P|요청 지문|토큰", 전송이 끝나면 "D|요청 지문|SendMessageData(JSON)"을 저장합니다.
+ * 전송에 실패하면 키를 지워 다시 시도할 수 있게 하고, Redis에 문제가 있으면 키 없이 전송합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageIdempotencyService {
+
+    public static final String KEY_IDEMPOTENCY_PREFIX = "idempotency:message:";
+
+    private static final String STATUS_PENDING = "P";
+    private static final String STATUS_DONE = "D";
+    private static final String SEPARATOR = "|";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // KEYS[1]: 키, ARGV[1]: 처리 중일 때 저장한 값
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 전송 결과 보관 시간
+    @Value("${hearting.message.idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 처리 중 표시 보관 시간, 인스턴스가 비정상 종료되어도 이 시간이 지나면 다시 보낼 수 있습니다.
+    @Value("${hearting.message.idempotency.pending-ttl-ms:30000}")
+    private long pendingTtlMs;
+
+    /**
+     * 키가 없으면 바로 전송하고, 처음 받은 키이면 전송 후 결과를 보관합니다. 이미 전송한 키이면 보관한 결과를 반환합니다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더, 없으면 null
+     * @param scope          키를 구분할 범위 (로그인 유저 ID 또는 IP)
+     * @param sendMessageReq 요청 내용, 같은 키로 다른 내용을 보내면 InvalidIdempotencyKeyException
+     * @param send           실제 전송
+     * @throws DuplicateException 같은 키의 요청을 아직 처리하고 있는 경우
+     */
+    public SendMessageData sendOnce(String idempotencyKey, String scope, SendMessageReq sendMessageReq, Supplier<SendMessageData> send) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return send.get();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) throw new InvalidIdempotencyKeyException("Idempotency-Key가 너무 깁니다.");
+
+        String key = KEY_IDEMPOTENCY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(sendMessageReq);
+        String pending = STATUS_PENDING + SEPARATOR + fingerprint + SEPARATOR + UUID.randomUUID();
+
+        Boolean reserved;
+        try {
+            reserved = stringRedisTemplate.opsForValue().setIfAbsent(key, pending, Duration.ofMillis(pendingTtlMs));
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key를 확인하지 못해 그대로 전송합니다. - {}", key, e);
+            return send.get();
+        }
+        if (!Boolean.TRUE.equals(reserved)) return replay(key, fingerprint);
+
+        SendMessageData data;
+        try {
+            data = send.get();
+        } catch (RuntimeException e) {
+            release(key, pending);
+            throw e;
+        }
+
+        try {
+            String done = STATUS_DONE + SEPARATOR + fingerprint + SEPARATOR + OBJECT_MAPPER.writeValueAsString(data);
+            stringRedisTemplate.opsForValue().set(key, done, Duration.ofSeconds(ttlSeconds));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("메시지 전송 결과를 보관하지 못했습니다. - {}", key, e);
+        }
+        return data;
+    }
+
+    private SendMessageData replay(String key, String fingerprint) {
+        String value = stringRedisTemplate.opsForValue().get(key);
+        // 확인하는 사이 처리 중 표시가 지워진 경우 (앞선 전송 실패)
+        if (value == null) throw new DuplicateException("같은 메시지 전송을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.");
+
+        String[] parts = value.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3) throw new IllegalStateException("보관한 메시지 전송 결과 형식이 올바르지 않습니다. - " + key);
+        if (!parts[1].equals(fingerprint)) throw new InvalidIdempotencyKeyException();
+        if (STATUS_PENDING.equals(parts[0])) throw new DuplicateException("같은 메시지 전송을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.");
+
+        try {
+            log.debug("이미 전송한 메시지 요청입니다. 보관한 결과를 반환합니다. - {}", key);
+            return OBJECT_MAPPER.readValue(parts[2], SendMessageData.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관한 메시지 전송 결과를 읽지 못했습니다. - " + key, e);
+        }
+    }
+
+    private void release(String key, String pending) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), pending);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 처리 중 표시를 지우지 못했습니다. - {}", key, e);
+        }
+    }
+
+    private static String fingerprint(SendMessageReq req) {
+        String source = req.getHeartId() + SEPARATOR + req.getSenderId() + SEPARATOR + req.getReceiverId()
+                + SEPARATOR + req.getTitle() + SEPARATOR + req.getContent();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.InboxData;
+import com.chillin.hearting.api.data.InboxListData;
+import com.chillin.hearting.api.data.MessageCursor;
+import com.chillin.hearting.api.data.InboxMessageDTO;
 import com.chillin.hearting.db.domain.Message;
 import com.chillin.hearting.db.repository.InboxRepository;
 import com.chillin.hearting.exception.MessageAlreadyExpiredException;
 import com.chillin.hearting.exception.MessageNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +26,7 @@ import java.util.stream.Collectors;
 public class MessageInboxService {
 
     private final InboxRepository inboxRepository;
+    private final BoardVersionService boardVersionService;
 
     @Transactional
     public void storeMessage(Long messageId) {
@@ -31,12 +36,31 @@ public class MessageInboxService {
         findMessage.toInbox();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<InboxData> findInboxMessages(String userId) {
-        List<Message> findMessages = inboxRepository.findAllByReceiverIdAndIsStored(userId, true);
+        List<InboxMessageDTO> findMessages = inboxRepository.findInboxMessages(userId);
         return findMessages.stream().map(InboxData::of).collect(Collectors.toList());
     }
 
+    /**
+     * 영구 보관 메시지를 (createdDate, id) 커서 기준 최신순으로 limit개씩 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param limit  페이지 크기 (최대 MessageCursor.MAX_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public InboxListData findInboxMessages(String userId, MessageCursor cursor, int limit) {
+        MessageCursor from = cursor != null ? cursor : MessageCursor.latest();
+        int size = MessageCursor.pageSize(limit);
+
+        List<InboxMessageDTO> rows = inboxRepository.findInboxMessagesBefore(userId, from.getCreatedDate(), from.getId(), PageRequest.of(0, size + 1));
+
+        return InboxListData.builder()
+                .inboxList(rows.subList(0, Math.min(rows.size(), size)).stream().map(InboxData::of).collect(Collectors.toList()))
+                .nextCursor(MessageCursor.next(rows, size, InboxMessageDTO::getCreatedDate, InboxMessageDTO::getMessageId))
+                .build();
+    }
+
     @Transactional
     public Message findInboxDetailMessage(String userId, Long messageId) {
         return inboxRepository.findByIdAndReceiverIdAndIsStored(messageId, userId, true).orElseThrow(MessageNotFoundException::new);
@@ -47,5 +71,6 @@ public class MessageInboxService {
         Message findMessage = inboxRepository.findById(messageId).orElseThrow(MessageNotFoundException::new);
         findMessage.deleteInbox();
         findMessage.deleteMessage();
+        boardVersionService.bump(findMessage.getReceiver().getId());
     }
 }
@@ -0,0 +1,122 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.exception.TooManyRequestsException;
+import com.chillin.hearting.util.RedisScriptUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송 횟수를 IP, 보낸 유저, (보낸 유저, 받는 유저) 별로 제한합니다.
+ * 각 키는 기간(period) 동안 limit번까지 몰아서 보낼 수 있고, 이후에는 period / limit 간격으로 한 번씩 보낼 수 있습니다. (GCRA)
+ * 모든 키를 Redis Lua 스크립트 한 번으로 확인하고, 하나라도 초과하면 어느 키에도 기록하지 않습니다.
+ * 제한된 키는 다시 보낼 수 있는 시각까지 로컬에 기억하여 Redis를 거치지 않고 거절합니다.
+ * Redis에 문제가 있으면 전송을 막지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageRateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:message:";
+
+    // KEYS : 제한 키, ARGV : 키마다 [전송 간격(ms), 기간(ms)]
+    // 반환 : {0, 0} 허용, {다시 보낼 수 있을 때까지 남은 시간(ms), 제한된 키 번호(1부터)} 거절
+    private static final RedisScript<List<Long>> RATE_LIMIT_SCRIPT = RedisScriptUtil.longListScript(
+            "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local retry, limited, tats = 0, 0, {} " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "  local interval = tonumber(ARGV[i * 2 - 1]) " +
+                    "  local period = tonumber(ARGV[i * 2]) " +
+                    "  local tat = math.max(tonumber(redis.call('GET', key) or '0'), now) " +
+                    "  local allowAt = tat + interval - period " +
+                    "  if allowAt > now and allowAt - now > retry then retry, limited = allowAt - now, i end " +
+                    "  tats[i] = tat + interval " +
+                    "end " +
+                    "if retry > 0 then return {retry, limited} end " +
+                    "for i, key in ipairs(KEYS) do redis.call('SET', key, tats[i], 'PX', tats[i] - now) end " +
+                    "return {0, 0}");
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${hearting.rate-limit.message.ip.limit:30}")
+    private int ipLimit;
+
+    @Value("${hearting.rate-limit.message.sender.limit:20}")
+    private int senderLimit;
+
+    @Value("${hearting.rate-limit.message.pair.limit:5}")
+    private int pairLimit;
+
+    @Value("${hearting.rate-limit.message.period-ms:60000}")
+    private long periodMs;
+
+    // 제한된 키 -> 다시 보낼 수 있는 시각(ms)
+    private Cache<String, Long> blockedUntil;
+
+    @PostConstruct
+    public void start() {
+        blockedUntil = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(periodMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 전송 횟수를 기록합니다.
+     *
+     * @param clientIp   보낸 사람의 IP
+     * @param senderId   보낸 유저 ID, 비로그인이면 null
+     * @param receiverId 받는 유저 ID
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void acquire(String clientIp, String senderId, String receiverId) {
+        List<String> keys = new ArrayList<>(3);
+        List<String> args = new ArrayList<>(6);
+        addKey(keys, args, "ip:" + clientIp, ipLimit);
+        if (senderId != null) {
+            addKey(keys, args, "sender:" + senderId, senderLimit);
+            addKey(keys, args, "pair:" + senderId + ":" + receiverId, pairLimit);
+        }
+
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+            Long until = blockedUntil.getIfPresent(key);
+            if (until != null && until > now) throw new TooManyRequestsException(until - now);
+        }
+
+        List<Long> result;
+        try {
+            result = stringRedisTemplate.execute(RATE_LIMIT_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("메시지 전송 횟수를 확인하지 못해 제한 없이 전송합니다. - {}", keys, e);
+            return;
+        }
+        if (result == null || result.size() != 2) return;
+
+        long retryAfterMs = result.get(0);
+        if (retryAfterMs <= 0) return;
+
+        String limitedKey = keys.get(result.get(1).intValue() - 1);
+        blockedUntil.put(limitedKey, now + retryAfterMs);
+        log.info("메시지 전송 횟수 제한 : {} ({}ms 후 가능)", limitedKey, retryAfterMs);
+        throw new TooManyRequestsException(retryAfterMs);
+    }
+
+    private void addKey(List<String> keys, List<String> args, String key, int limit) {
+        keys.add(KEY_PREFIX + key);
+        args.add(String.valueOf(Math.max(1, periodMs / limit)));
+        args.add(String.valueOf(periodMs));
+    }
+}
@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.api.data.MessageData;
+import com.chillin.hearting.api.data.ReceivedMessageDTO;
 import com.chillin.hearting.api.data.ReceivedMessageData;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
@@ -10,7 +12,7 @@ import com.chillin.hearting.exception.MessageNotFoundException;
 import com.chillin.hearting.exception.UnAuthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,19 +28,18 @@ import java.util.List;
 public class MessageReceivedService {
 
     private final MessageRepository messageRepository;
+    private final BoardVersionService boardVersionService;
 
-    @Transactional
     public ReceivedMessageData getReceivedMessages(String userId, boolean isSelf) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
 
-        // Get list of all received messages
-        List<Message> initialList = messageRepository.findByReceiverIdAndIsActiveTrue(userId, Sort.by(Sort.Direction.DESC, "createdDate"));
-
-        // Update expired messages
+        // 만료된 메시지의 비활성화는 ExpirySweeper가 처리하므로 조회 시에는 만료 시간으로 거르기만 합니다.
+        // 만료되지 않은 메시지를 하트, 이모지와 함께 필요한 컬럼만 조회합니다.
         ReceivedMessageData receivedMessageData = ReceivedMessageData.builder()
                 .messageList(new ArrayList<>()).build();
 
-        for (Message m : initialList) {
-            processMessage(m, receivedMessageData, isSelf);
+        for (ReceivedMessageDTO dto : messageRepository.findReceivedMessages(userId, now)) {
+            receivedMessageData.getMessageList().add(toMessageData(dto, isSelf));
         }
 
         log.info(userId + " 유저가 메시지 리스트를 조회했습니다. 총 " + receivedMessageData.getMessageList().size() + "개의 메시지가 조회되었습니다.");
@@ -46,38 +47,39 @@ public class MessageReceivedService {
         return receivedMessageData;
     }
 
-    private void processMessage(Message m, ReceivedMessageData receivedMessageData, boolean isSelf) {
+    /**
+     * 받은 메시지를 (createdDate, id) 커서 기준 최신순으로 limit개씩 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param limit  페이지 크기 (최대 MessageCursor.MAX_PAGE_SIZE)
+     */
+    public ReceivedMessageData getReceivedMessages(String userId, boolean isSelf, MessageCursor cursor, int limit) {
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalDateTime expiredDate = m.getExpiredDate();
-        if (expiredDate.isAfter(now)) {
-            // Not yet expired
-            // Create MessageData
-            Heart heart = m.getHeart();
-            Emoji emoji = m.getEmoji();
-            long emojiId = emoji != null ? emoji.getId() : -1;
-            String emojiName = emoji != null ? emoji.getName() : null;
-            String emojiUrl = emoji != null ? emoji.getImageUrl() : null;
-            MessageData messageData = MessageData.builder()
-                    .messageId(m.getId())
-                    .title(m.getTitle())
-                    .heartId(heart.getId())
-                    .heartName(heart.getName())
-                    .heartUrl(heart.getImageUrl())
-                    .emojiId(emojiId)
-                    .emojiName(emojiName)
-                    .emojiUrl(emojiUrl)
-                    .createdDate(m.getCreatedDate())
-                    .expiredDate(m.getExpiredDate()).build();
-            if (isSelf) {
-                messageData.setRead(m.isRead());
-            }
-
-            receivedMessageData.getMessageList().add(messageData);
-        } else {
-            // Expired, need to persist to DB
-            m.deleteMessage();
-            messageRepository.save(m);
+        MessageCursor from = cursor != null ? cursor : MessageCursor.latest();
+        int size = MessageCursor.pageSize(limit);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<ReceivedMessageDTO> rows = messageRepository.findReceivedMessagesBefore(userId, now, from.getCreatedDate(), from.getId(), PageRequest.of(0, size + 1));
+
+        List<MessageData> messageList = new ArrayList<>();
+        for (ReceivedMessageDTO dto : rows.subList(0, Math.min(rows.size(), size))) {
+            messageList.add(toMessageData(dto, isSelf));
+        }
+
+        log.info(userId + " 유저가 메시지 리스트를 조회했습니다. " + messageList.size() + "개의 메시지가 조회되었습니다.");
+
+        return ReceivedMessageData.builder()
+                .messageList(messageList)
+                .nextCursor(MessageCursor.next(rows, size, ReceivedMessageDTO::getCreatedDate, ReceivedMessageDTO::getMessageId))
+                .build();
+    }
+
+    private MessageData toMessageData(ReceivedMessageDTO dto, boolean isSelf) {
+        MessageData messageData = MessageData.of(dto);
+        if (isSelf) {
+            messageData.setRead(Boolean.TRUE.equals(dto.getIsRead()));
         }
+        return messageData;
     }
 
     @Transactional
@@ -92,8 +94,11 @@ public class MessageReceivedService {
         }
 
         // Read message and persist
-        message.readMessage();
-        messageRepository.save(message);
+        if (!message.isRead()) {
+            message.readMessage();
+            messageRepository.save(message);
+            boardVersionService.bump(userId);
+        }
 
         Heart heart = message.getHeart();
         Emoji emoji = message.getEmoji();
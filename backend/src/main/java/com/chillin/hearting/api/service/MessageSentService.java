@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.Data;
+import com.chillin.hearting.api.data.MessageCursor;
+import com.chillin.hearting.api.data.SentMessageDTO;
 import com.chillin.hearting.api.data.SentMessageData;
 import com.chillin.hearting.api.data.SentMessageListData;
 import com.chillin.hearting.db.domain.Message;
@@ -9,6 +11,7 @@ import com.chillin.hearting.exception.MessageAlreadyExpiredException;
 import com.chillin.hearting.exception.MessageNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,14 +29,38 @@ public class MessageSentService {
     private final SentMessageRepository sentMessageRepository;
 
     public SentMessageListData getSentMessages(String userId) {
-        List<Message> findMessages = sentMessageRepository.findBySenderIdAndExpiredDateAfterOrderByExpiredDate(userId, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        List<SentMessageDTO> findMessages = sentMessageRepository.findSentMessages(userId, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         List<SentMessageData> sendMessageDatas = new ArrayList<>();
-        for (Message message : findMessages) {
-            sendMessageDatas.add(SentMessageData.of(message));
+        for (SentMessageDTO dto : findMessages) {
+            sendMessageDatas.add(SentMessageData.of(dto));
         }
         return SentMessageListData.builder().sentMessageList(sendMessageDatas).build();
     }
 
+    /**
+     * 만료되지 않은 보낸 메시지를 (createdDate, id) 커서 기준 오래된 순(먼저 만료되는 순)으로 limit개씩 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param limit  페이지 크기 (최대 MessageCursor.MAX_PAGE_SIZE)
+     */
+    public SentMessageListData getSentMessages(String userId, MessageCursor cursor, int limit) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        // 만료되지 않은 메시지는 EXPIRY_TIME 이내에 보낸 메시지이므로 그 이후부터 조회
+        MessageCursor from = cursor != null ? cursor : MessageCursor.since(now.minusHours(Message.EXPIRY_TIME));
+        int size = MessageCursor.pageSize(limit);
+
+        List<SentMessageDTO> rows = sentMessageRepository.findSentMessagesAfter(userId, now, from.getCreatedDate(), from.getId(), PageRequest.of(0, size + 1));
+
+        List<SentMessageData> sendMessageDatas = new ArrayList<>();
+        for (SentMessageDTO dto : rows.subList(0, Math.min(rows.size(), size))) {
+            sendMessageDatas.add(SentMessageData.of(dto));
+        }
+        return SentMessageListData.builder()
+                .sentMessageList(sendMessageDatas)
+                .nextCursor(MessageCursor.next(rows, size, SentMessageDTO::getCreatedDate, SentMessageDTO::getMessageId))
+                .build();
+    }
+
     public Data getSentMessageDetail(String userId, Long messageId) {
         Message findMessage = sentMessageRepository.findByIdAndSenderId(messageId, userId).orElseThrow(MessageNotFoundException::new);
         if (findMessage.getExpiredDate().isBefore(LocalDateTime.now(ZoneId.of("Asia/Seoul")))) {
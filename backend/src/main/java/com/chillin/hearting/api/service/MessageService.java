@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.HeartCountDTO;
+import com.chillin.hearting.api.data.ReceiverMessageCountDTO;
+import com.chillin.hearting.api.service.enums.HeartInfo;
 import com.chillin.hearting.db.domain.*;
 import com.chillin.hearting.db.repository.*;
 import com.chillin.hearting.exception.*;
@@ -10,7 +12,10 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -23,9 +28,56 @@ public class MessageService {
 
     public static final String KEY_SEND_HEARTS_PREFIX = "userSentHeart:";
     public static final String KEY_RECEIVED_HEARTS_PREFIX = "userReceivedHeart:";
+    public static final String KEY_SENT_HEART_PER_RECEIVER_PREFIX = "userSentHeartPerReceiver:";
+    public static final String FIELD_MAX_RECEIVER_COUNT = "_max";
 
+    // 수신자별 보낸 개수를 Redis에 관리하는 하트 (돋보기 하트 획득 조건)
+    private static final Set<Long> RECEIVER_COUNT_INDEXED_HEART_IDS = Set.of(HeartInfo.PINK.getId());
+
+    /**
+     * 유저가 같은 사람에게 보낸 특정 하트 메시지 수 중 최댓값을 조회합니다.
+     * 수신자별 개수를 관리하는 하트는 Redis의 최댓값을 읽고, 없으면 MySQL로부터 다시 만듭니다.
+     *
+     * @param userId  sender
+     * @param heartId
+     * @return 같은 receiver에게 보낸 메시지 수의 최댓값
+     */
     public Integer findMaxMessageCountToSameUser(String userId, long heartId) {
-        return messageRepository.findMaxMessageCountToSameUser(userId, heartId);
+        if (!isReceiverCountIndexed(heartId)) {
+            return messageRepository.findMaxMessageCountToSameUser(userId, heartId);
+        }
+
+        Integer max = (Integer) redisTemplate.opsForHash().get(getReceiverCountKey(userId, heartId), FIELD_MAX_RECEIVER_COUNT);
+        return max == null ? migrateReceiverCount(userId, heartId) : max;
+    }
+
+    /**
+     * 유저가 보낸 특정 하트 메시지의 수신자별 개수와 최댓값을 MySQL로부터 다시 만들어 Redis에 저장합니다.
+     *
+     * @param userId  sender
+     * @param heartId
+     * @return 같은 receiver에게 보낸 메시지 수의 최댓값
+     */
+    public int migrateReceiverCount(String userId, long heartId) {
+        Map<String, Object> counts = new HashMap<>();
+        int max = 0;
+        for (ReceiverMessageCountDTO dto : messageRepository.findMessageCountPerReceiver(userId, heartId)) {
+            int count = dto.getMessageCount().intValue();
+            counts.put(dto.getReceiverId(), count);
+            max = Math.max(max, count);
+        }
+        // 보낸 메시지가 없어도 키가 남도록 최댓값 필드는 항상 저장합니다.
+        counts.put(FIELD_MAX_RECEIVER_COUNT, max);
+        redisTemplate.opsForHash().putAll(getReceiverCountKey(userId, heartId), counts);
+        return max;
+    }
+
+    public static boolean isReceiverCountIndexed(long heartId) {
+        return RECEIVER_COUNT_INDEXED_HEART_IDS.contains(heartId);
+    }
+
+    public static String getReceiverCountKey(String userId, long heartId) {
+        return KEY_SENT_HEART_PER_RECEIVER_PREFIX + userId + ":" + heartId;
     }
 
     public Message save(Message m) {
@@ -0,0 +1,148 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 누적 수신 메시지 수(user.message_total)를 Redis 카운터로 관리합니다.
+ * 메시지 전송 시에는 Redis 카운터만 증가시키고, 변경된 유저의 값은 주기적으로 모아서 MySQL에 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MessageTotalService {
+
+    public static final String KEY_MESSAGE_TOTAL_PREFIX = "userMessageTotal:";
+    public static final String KEY_DIRTY_USERS = "userMessageTotal:dirty";
+
+    private static final long KEY_NOT_FOUND = -1L;
+    private static final String NO_SEED = "";
+
+    private static final String UPDATE_MESSAGE_TOTAL = "UPDATE `user` SET message_total = ? WHERE id = ?";
+
+    // KEYS[1]: 유저 카운터, KEYS[2]: DB 반영 대기 유저 set
+    // ARGV[1]: userId, ARGV[2]: 증가량, ARGV[3]: 카운터가 없을 때 사용할 DB 값
+    // 카운터가 없고 DB 값도 주어지지 않으면 -1을 반환합니다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "if ARGV[3] == '' then return -1 end " +
+                    "redis.call('SET', KEYS[1], ARGV[3]) " +
+                    "end " +
+                    "local total = redis.call('INCRBY', KEYS[1], ARGV[2]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[1]) " +
+                    "return total", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${hearting.message-total.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    /**
+     * 유저의 누적 메시지 수를 증가시킵니다.
+     * Redis에 카운터가 없으면 MySQL의 값으로 초기화한 뒤 증가시킵니다.
+     *
+     * @param userId
+     * @param delta  증가량
+     * @return 증가된 누적 메시지 수
+     */
+    public long increment(String userId, long delta) {
+        List<String> keys = List.of(KEY_MESSAGE_TOTAL_PREFIX + userId, KEY_DIRTY_USERS);
+        Long total = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, userId, String.valueOf(delta), NO_SEED);
+
+        if (total != null && total == KEY_NOT_FOUND) {
+            long persisted = userRepository.findMessageTotalById(userId).orElse(0L);
+            total = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, userId, String.valueOf(delta), String.valueOf(persisted));
+        }
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * 유저의 누적 메시지 수를 증가시킵니다. 트랜잭션 안에서 호출되면 커밋 후에 증가시켜,
+     * 롤백된 전송이 누적 메시지 수에 남지 않도록 합니다.
+     *
+     * @param userId
+     * @param delta  증가량
+     */
+    public void incrementAfterCommit(String userId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(userId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    increment(userId, delta);
+                } catch (RuntimeException e) {
+                    log.error("누적 메시지 수를 증가시키지 못했습니다. - {} {}", userId, delta, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 누적 메시지 수를 조회합니다. Redis에 카운터가 없으면 MySQL에 저장된 값을 반환합니다.
+     *
+     * @param userId
+     * @param persisted MySQL에 저장된 message_total
+     */
+    public long getMessageTotal(String userId, Long persisted) {
+        String total = stringRedisTemplate.opsForValue().get(KEY_MESSAGE_TOTAL_PREFIX + userId);
+        if (total != null) return Long.parseLong(total);
+        return persisted == null ? 0 : persisted;
+    }
+
+    /**
+     * 카운터가 변경된 유저들의 누적 메시지 수를 MySQL에 배치로 반영합니다.
+     * 대기 set에서 SPOP으로 꺼낸 유저만 처리하므로 여러 인스턴스에서 동시에 실행되어도 안전합니다.
+     */
+    @Scheduled(fixedDelayString = "${hearting.message-total.flush-interval-ms:5000}")
+    @Transactional
+    public void flushMessageTotals() {
+        int flushed = 0;
+        List<String> userIds;
+        do {
+            userIds = stringRedisTemplate.opsForSet().pop(KEY_DIRTY_USERS, flushBatchSize);
+            if (userIds == null || userIds.isEmpty()) break;
+
+            List<String> keys = userIds.stream().map(id -> KEY_MESSAGE_TOTAL_PREFIX + id).collect(Collectors.toList());
+            List<String> totals = stringRedisTemplate.opsForValue().multiGet(keys);
+
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                String total = totals == null ? null : totals.get(i);
+                if (total != null) batchArgs.add(new Object[]{Long.parseLong(total), userIds.get(i)});
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_MESSAGE_TOTAL, batchArgs);
+            } catch (RuntimeException e) {
+                // 반영에 실패한 유저는 다음 주기에 다시 처리합니다.
+                stringRedisTemplate.opsForSet().add(KEY_DIRTY_USERS, userIds.toArray(new String[0]));
+                log.error("누적 메시지 수 반영에 실패했습니다. 대상 유저 수:{}", userIds.size(), e);
+                return;
+            }
+            flushed += batchArgs.size();
+        } while (userIds.size() == flushBatchSize);
+
+        if (flushed > 0) log.debug("{}명의 누적 메시지 수를 DB에 반영했습니다.", flushed);
+    }
+}
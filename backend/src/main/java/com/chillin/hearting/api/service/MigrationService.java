@@ -6,14 +6,18 @@ import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.db.repository.HeartRepository;
 import com.chillin.hearting.db.repository.UserRepository;
 import com.chillin.hearting.exception.RedisKeyNotFoundException;
+import com.chillin.hearting.util.RedisScriptUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,14 +29,41 @@ import java.util.Map;
 public class MigrationService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     private final HeartService heartService;
     private final MessageService messageService;
     private final UserService userService;
+    private final UserHeartService userHeartService;
 
     private static final String KEY_SEND_HEARTS_PREFIX = "userSentHeart:";
     private static final String KEY_RECEIVED_HEARTS_PREFIX = "userReceivedHeart:";
 
+    private static final long KEY_NOT_FOUND = -1L;
+
+    // KEYS[1..ARGV[2]]: 하트 개수 해시 키 목록, KEYS[ARGV[2]+1]: (선택) sender의 수신자별 개수 해시 키
+    // ARGV[1]: heartId, ARGV[2]: 하트 개수 해시 키 수, ARGV[3]: receiverId
+    // 키가 있으면 HINCRBY 결과를, 없으면 -1을 키 순서대로 반환합니다.
+    // 수신자별 개수 해시는 receiver 필드를 증가시키고 _max 필드에 최댓값을 유지합니다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List<Long>> INCREMENT_HEART_COUNT_SCRIPT = RedisScriptUtil.longListScript(
+            "local result = {} " +
+                    "local counterKeys = tonumber(ARGV[2]) " +
+                    "for i = 1, counterKeys do " +
+                    "if redis.call('EXISTS', KEYS[i]) == 1 then result[i] = redis.call('HINCRBY', KEYS[i], ARGV[1], 1) " +
+                    "else result[i] = -1 end " +
+                    "end " +
+                    "local perReceiverKey = KEYS[counterKeys + 1] " +
+                    "if perReceiverKey then " +
+                    "if redis.call('EXISTS', perReceiverKey) == 1 then " +
+                    "local count = redis.call('HINCRBY', perReceiverKey, ARGV[3], 1) " +
+                    "local max = tonumber(redis.call('HGET', perReceiverKey, '" + MessageService.FIELD_MAX_RECEIVER_COUNT + "') or '0') " +
+                    "if count > max then redis.call('HSET', perReceiverKey, '" + MessageService.FIELD_MAX_RECEIVER_COUNT + "', count) end " +
+                    "result[counterKeys + 1] = count " +
+                    "else result[counterKeys + 1] = -1 end " +
+                    "end " +
+                    "return result");
+
     /**
      * MySQL에 저장된 모든 하트 정보를 Redis에 업데이트 합니다.
      */
@@ -121,54 +152,53 @@ public class MigrationService {
     }
 
     /**
-     * 유저가 보낸 메시지를 바탕으로 보낸 하트 개수를 업데이트합니다.
+     * 메시지 한 건에 대해 receiver의 받은 하트 개수와 sender의 보낸 하트 개수를 함께 증가시킵니다.
+     * 두 카운터는 하나의 Lua 스크립트로 한 번에 증가하며, Redis에 키가 없는 카운터는 MySQL에서 다시 마이그레이션합니다.
      *
-     * @param userId
+     * @param senderId   비로그인 유저가 보낸 경우 null
+     * @param receiverId
      * @param heartId
      */
-    public void updateSentHeartCount(String userId, Long heartId) {
-        log.info("Redis에 userSentHeart를 업데이트합니다. userId:{} heartId:{}", userId, heartId);
-        try {
-            updateUserSentHeartCnt(userId, heartId);
-        } catch (RedisKeyNotFoundException e) {
-            log.info(e.getMessage());
-            migrateUserSentHeart(userId);
+    public void updateHeartCount(String senderId, String receiverId, Long heartId) {
+        log.info("Redis에 하트 개수를 업데이트합니다. senderId:{} receiverId:{} heartId:{}", senderId, receiverId, heartId);
+        List<String> keys = new ArrayList<>();
+        keys.add(KEY_RECEIVED_HEARTS_PREFIX + receiverId);
+        if (senderId != null) keys.add(KEY_SEND_HEARTS_PREFIX + senderId);
+        int counterKeys = keys.size();
+        boolean perReceiver = senderId != null && MessageService.isReceiverCountIndexed(heartId);
+        if (perReceiver) keys.add(MessageService.getReceiverCountKey(senderId, heartId));
+
+        List<Long> result = stringRedisTemplate.execute(INCREMENT_HEART_COUNT_SCRIPT, keys,
+                heartId.toString(), String.valueOf(counterKeys), receiverId);
+
+        if (result == null) return;
+        if (result.get(0) == KEY_NOT_FOUND) {
+            log.info(new RedisKeyNotFoundException(keys.get(0)).getMessage());
+            migrateUserReceivedHeart(receiverId);
+        }
+        if (senderId != null && result.get(1) == KEY_NOT_FOUND) {
+            log.info(new RedisKeyNotFoundException(keys.get(1)).getMessage());
+            migrateUserSentHeart(senderId);
+        }
+        if (perReceiver && result.get(counterKeys) == KEY_NOT_FOUND) {
+            log.info(new RedisKeyNotFoundException(keys.get(counterKeys)).getMessage());
+            messageService.migrateReceiverCount(senderId, heartId);
         }
     }
 
     /**
-     * 유저가 받은 메시지를 바탕으로 받은 하트 개수를 업데이트합니다.
-     *
-     * @param userId
-     * @param heartId
+     * MySQL의 user_heart 테이블로 모든 유저의 획득 하트 마스크를 Redis에 다시 만듭니다.
      */
-    public void updateReceivedHeartCount(String userId, Long heartId) {
-        log.info("Redis에 userReceivedHeart를 업데이트합니다. userId:{} heartId:{}", userId, heartId);
-        try {
-            updateUserReceivedHeartCnt(userId, heartId);
-        } catch (RedisKeyNotFoundException e) {
-            log.info(e.getMessage());
-            migrateUserReceivedHeart(userId);
-        }
+    public void migrateAllUserHeartMask() {
+        int count = userHeartService.rebuildAllHeartMasks();
+        log.info("모든 유저 하트 마스크 마이그레이션에 성공했습니다. - {}명", count);
     }
 
-    @Transactional
-    public void updateUserSentHeartCnt(String userId, Long heartId) {
-        HashOperations<String, String, Object> hashOperations = redisTemplate.opsForHash();
-        String key = KEY_SEND_HEARTS_PREFIX + userId;
-
-        // update sent heart count
-        if (!redisTemplate.hasKey(key)) throw new RedisKeyNotFoundException(key);
-        hashOperations.put(key, heartId.toString(), ((Integer) hashOperations.get(key, heartId.toString())).longValue() + 1);
-    }
-
-    @Transactional
-    public void updateUserReceivedHeartCnt(String userId, Long heartId) {
-        HashOperations<String, String, Object> hashOperations = redisTemplate.opsForHash();
-        String key = KEY_RECEIVED_HEARTS_PREFIX + userId;
-
-        // update received heart count
-        if (!redisTemplate.hasKey(key)) throw new RedisKeyNotFoundException(key);
-        hashOperations.put(key, heartId.toString(), ((Integer) hashOperations.get(key, heartId.toString())).longValue() + 1);
+    /**
+     * MySQL의 하트 정보로 모든 인스턴스의 하트 카탈로그를 다시 불러옵니다.
+     */
+    public void reloadHeartCatalog() {
+        heartService.reloadCatalogOnAllInstances();
+        log.info("하트 카탈로그 다시 불러오기를 모든 인스턴스에 알렸습니다.");
     }
 }
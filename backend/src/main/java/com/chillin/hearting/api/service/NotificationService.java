@@ -33,10 +33,11 @@ public class NotificationService {
     private final HeartService heartService;
     private final UserService userService;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public NotificationListData getNotifications(String userId) {
-        List<Notification> notificationList = notificationRepository.findByUserIdAndIsActiveTrue(userId, Sort.by(Sort.Direction.DESC, "createdDate"));
-//        System.out.println(notificationList.get(0));
+        // 만료된 알림의 비활성화는 ExpirySweeper가 처리하므로 조회 시에는 만료 시간으로 거르기만 합니다.
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        List<Notification> notificationList = notificationRepository.findByUserIdAndIsActiveTrueAndExpiredDateAfter(userId, now, Sort.by(Sort.Direction.DESC, "createdDate"));
         NotificationListData notificationListData = NotificationListData.builder().notificationList(new ArrayList<>()).build();
 
         for (Notification n : notificationList) {
@@ -59,7 +60,6 @@ public class NotificationService {
         Long messageId = message != null ? message.getId() : null;
 
         if (expiredDate.isAfter(now)) {
-            // Not yet expired
             NotificationData notificationData = NotificationData.builder()
                     .notificationId(n.getId())
                     .heartName(heartName)
@@ -69,10 +69,6 @@ public class NotificationService {
                     .createdDate(n.getCreatedDate())
                     .isChecked(n.isChecked()).build();
             notificationListData.getNotificationList().add(notificationData);
-        } else {
-            // Expired, need to persist to DB
-            n.deleteNotification();
-            notificationRepository.save(n);
         }
     }
 
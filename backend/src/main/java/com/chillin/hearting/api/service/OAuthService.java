@@ -2,6 +2,7 @@ package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.SocialLoginBeforeTokenIssueData;
 import com.chillin.hearting.api.data.SocialLoginData;
+import com.chillin.hearting.api.data.SocialLoginResultData;
 import com.chillin.hearting.api.data.TwitterRedirectData;
 import com.chillin.hearting.api.service.facade.MessageFacade;
 import com.chillin.hearting.db.domain.BlockedUser;
@@ -17,13 +18,10 @@ import com.chillin.hearting.util.CookieUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.env.Environment;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.social.oauth1.AuthorizedRequestToken;
 import org.springframework.social.oauth1.OAuth1Operations;
@@ -39,16 +37,8 @@ import org.springframework.web.client.RestTemplate;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.*;
-import java.math.BigInteger;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -63,15 +53,14 @@ import java.util.concurrent.TimeUnit;
 public class OAuthService {
 
     private static final String REFRESH_TOKEN = "refreshToken";
-    private static final String CLIENT_PROVIDER = "spring.security.oauth2.client.provider.";
-    private static final String CLIENT_REGISTRATION = "spring.security.oauth2.client.registration.";
 
     private static final String EMPTY_USER_INFO = "로부터 user 정보를 가져오지 못했습니다.";
 
     private final UserRepository userRepository;
     private final BlockedUserRepository blockedUserRepository;
-    private final Environment environment;
     private final UserService userService;
+    private final UserIdAllocator userIdAllocator;
+    private final SuspendedUserRegistry suspendedUserRegistry;
     private final MigrationService migrationService;
     private final MessageFacade messageFacade;
 
@@ -93,170 +82,28 @@ public class OAuthService {
 
     /**
      * 트위터를 제외한 소셜 로그인을 처리합니다.
+     * provider 요청은 {@link com.chillin.hearting.oauth.client.SocialOAuthClient}에서 마친 뒤 받아온 사용자 정보로 호출합니다.
+     * 요청 스레드가 아닌 곳에서 호출되므로 HttpServletRequest/Response를 사용하지 않고, refresh token 쿠키는 응답 헤더로 내려주도록 반환합니다.
      *
-     * @param code                provider에서 제공한 인가 코드
-     * @param provider            소셜 회사명
-     * @param httpServletRequest
-     * @param httpServletResponse
-     * @return 성공 시 user id, 닉네임, 상태메시지, access token, isFirst(회원가입인지 아닌지)를 담은 SocialLoginData 타입의 객체를 반환합니다.
+     * @param oAuth2Attribute provider에서 받아온 사용자 정보
+     * @param provider        소셜 회사명
+     * @return 성공 시 SocialLoginData와 refresh token 쿠키를 담은 SocialLoginResultData 타입의 객체를 반환합니다.
      * @throws NotFoundException 소셜에서 회원 정보를 받아오지 못한 경우
      */
     @Transactional
-    public SocialLoginData socialLogin(String code, String provider, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws NotFoundException {
-
-        String socialAccessToken = getSocialAccessToken(code, provider);
-
-        SocialLoginData socialLoginData = null;
+    public SocialLoginResultData socialLogin(OAuth2Attribute oAuth2Attribute, String provider) throws NotFoundException {
 
         try {
-            SocialLoginBeforeTokenIssueData socialLoginBeforeTokenIssueData = getSocialUserInfo(socialAccessToken, provider);
-            log.info("getSocialUserInfo 리턴값 : {}", socialLoginBeforeTokenIssueData);
-
-            socialLoginData = issueTokenCookie(socialLoginBeforeTokenIssueData, provider, httpServletRequest, httpServletResponse);
-
+            SocialLoginBeforeTokenIssueData socialLoginBeforeTokenIssueData = checkSocialUserInfoFromDB(oAuth2Attribute.getEmail(), provider);
+            log.info("checkSocialUserInfoFromDB 리턴값 : {}", socialLoginBeforeTokenIssueData);
 
+            return issueToken(socialLoginBeforeTokenIssueData, provider);
         } catch (IllegalArgumentException e) {
             log.error("로그인 실패 : {}", e.getMessage());
             throw new IllegalArgumentException(provider + EMPTY_USER_INFO);
         } catch (NotFoundException e) {
             throw new NotFoundException(e.getMessage());
         }
-        return socialLoginData;
-
-    }
-
-    /**
-     * (트위터 제외) 카카오, 구글에서 제공한 인가코드로 access token을 받아옵니다.
-     *
-     * @param code     카카오, 구글에서 제공한 인가코드
-     * @param provider 소셜 회사명
-     * @return 성공 시 소셜에서 받아온 access token을 String 타입으로 반환합니다.
-     */
-    public String getSocialAccessToken(String code, String provider) {
-
-        String socialAccessToken = "";
-        try {
-            String tokenUri = environment.getProperty(CLIENT_PROVIDER + provider + ".token-uri");
-            URL url = new URL(tokenUri);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setDoOutput(true);
-
-            String clientId = environment.getProperty(CLIENT_REGISTRATION + provider + ".client-id");
-            String clientSecret = environment.getProperty(CLIENT_REGISTRATION + provider + ".client-secret");
-            String redirectUri = environment.getProperty(CLIENT_REGISTRATION + provider + ".redirect-uri");
-
-            BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(conn.getOutputStream()));
-            StringBuilder sb = new StringBuilder();
-            sb.append("grant_type=authorization_code");
-            sb.append("&client_id=").append(clientId);
-            sb.append("&client_secret=").append(clientSecret);
-            sb.append("&redirect_uri=").append(redirectUri);
-            sb.append("&code=").append(code);
-
-            bw.write(sb.toString());
-            bw.flush();
-
-            int responseCode = conn.getResponseCode();
-            log.info(provider + "에서 access token 받아오기 response code : {}  ", responseCode);
-
-            BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-
-            String line = "";
-            StringBuilder socialResponse = new StringBuilder();
-
-            while ((line = br.readLine()) != null) {
-                socialResponse.append(line);
-            }
-            JSONParser parser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) parser.parse(socialResponse.toString());
-
-            socialAccessToken = (String) jsonObject.get("access_token");
-
-            br.close();
-            bw.close();
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new UnAuthorizedException(provider + "에서 access token을 받아올 때 문제가 있었습니다.");
-        }
-
-        return socialAccessToken;
-    }
-
-    /**
-     * (트위터 제외) 소셜에서 받아온 access token으로 사용자 정보를 요청합니다.
-     *
-     * @param socialAccessToken 소셜에서 넘겨준 access toekn
-     * @param provider          소셜 회사명
-     * @return 성공 시 소셜 로그인 처리된 user 객체와 회원가입인지 아닌지 여부를 보여주는 isFirst를 담은 SocialLoginBeforeTokenIssueData 타입의 객체를 반환한다.
-     */
-    @Transactional
-    public SocialLoginBeforeTokenIssueData getSocialUserInfo(String socialAccessToken, String provider) {
-
-        SocialLoginBeforeTokenIssueData socialLoginBeforeTokenIssueData = null;
-
-        try {
-            String userInfoUri = environment.getProperty(CLIENT_PROVIDER + provider + ".user-info-uri");
-            URL url = new URL(userInfoUri);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Authorization", "Bearer " + socialAccessToken);
-            int responseCode = conn.getResponseCode();
-            log.info(provider + "에서 사용자 정보 받아온 responseCode : {} ", responseCode);
-
-
-            BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-
-            String line = "";
-            StringBuilder socialResponse = new StringBuilder();
-
-            while ((line = br.readLine()) != null) {
-                socialResponse.append(line);
-            }
-
-            log.info(provider + "에서 사용자 정보 가져오기 response body : {} ", socialResponse);
-
-            JSONParser parser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) parser.parse(socialResponse.toString());
-
-            OAuth2Attribute oAuth2Attribute = OAuth2Attribute.of(provider, jsonObject);
-
-            log.info("oauth2attribute test : {}", oAuth2Attribute.getAttributes());
-            log.info(provider + "에 등록된 이메일 : {}", oAuth2Attribute.getEmail());
-
-
-            socialLoginBeforeTokenIssueData = checkSocialUserInfoFromDB(oAuth2Attribute.getEmail(), provider);
-        } catch (UnAuthorizedException e) {
-            log.error("로그인 한 회원 status : {}", e.getMessage());
-            throw new UnAuthorizedException(e.getMessage());
-        } catch (IOException | ParseException e) {
-            log.error(e.getMessage());
-            throw new UserNotFoundException(provider + "에서 사용자 정보를 받아오지 못했습니다.");
-        }
-        return socialLoginBeforeTokenIssueData;
-    }
-
-    /**
-     * 최초 회원가입 시 생성한 uuid를 10자로 줄여준다.
-     *
-     * @param uuid 10자로 줄여줄 uuid
-     * @return 길이를 10자로 줄인 String 타입의 id를 반환한다.
-     */
-    public static String parseToShortUUID(String uuid) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(uuid.getBytes(StandardCharsets.UTF_8));
-            BigInteger number = new BigInteger(1, digest);
-            StringBuilder sb = new StringBuilder(number.toString(36));
-
-            while (sb.length() < 10) {
-                sb.insert(0, '0');
-            }
-
-            return sb.substring(0, 10);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
     }
 
     /**
@@ -370,6 +217,8 @@ public class OAuthService {
 
                         log.info("계정 일시 정지 해제 시간 : {}", nowLocalTime);
                         user.updateUserStatusToActive(nowLocalTime);
+                        userService.evictUserPrincipal(user.getId());
+                        suspendedUserRegistry.release(user.getId());
                         log.info("계정 일시 정지 풀고 난 후 user status : {}", user.getStatus());
 
                         socialLoginBeforeTokenIssueData = SocialLoginBeforeTokenIssueData.builder()
@@ -396,19 +245,12 @@ public class OAuthService {
             } else {
                 log.info(provider + " 로그인 최초입니다.");
 
-                String nickname = "하팅" + (userRepository.count() + 1);
-
-                UUID uuid = UUID.randomUUID();
-                String shortUuid = parseToShortUUID(uuid.toString());
-                log.info("uuid short version : {}", shortUuid);
+                long userNo = userIdAllocator.nextUserNo();
+                String nickname = UserIdAllocator.toNickname(userNo);
+                String userId = UserIdAllocator.toUserId(userNo);
+                log.info("신규 유저 번호 : {}, id : {}", userNo, userId);
 
-                if (userRepository.findById(shortUuid).isPresent()) {
-                    log.info("uuid 중복입니다.");
-                    uuid = UUID.randomUUID();
-                    shortUuid = parseToShortUUID(uuid.toString());
-                }
-
-                user = User.builder().id(shortUuid).type(provider.toUpperCase()).email(email).nickname(nickname).build();
+                user = User.builder().id(userId).type(provider.toUpperCase()).email(email).nickname(nickname).build();
 
                 socialLoginBeforeTokenIssueData = SocialLoginBeforeTokenIssueData.builder()
                         .user(userRepository.saveAndFlush(user))
@@ -436,7 +278,25 @@ public class OAuthService {
     @Transactional
     public SocialLoginData issueTokenCookie(SocialLoginBeforeTokenIssueData socialLoginBeforeTokenIssueData, String provider, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
-        SocialLoginData socialLoginData = null;
+        SocialLoginResultData socialLoginResultData = issueToken(socialLoginBeforeTokenIssueData, provider);
+
+        CookieUtil.deleteCookie(httpServletRequest, httpServletResponse, REFRESH_TOKEN);
+        httpServletResponse.addHeader(HttpHeaders.SET_COOKIE, socialLoginResultData.getRefreshTokenCookie().toString());
+
+        return socialLoginResultData.getSocialLoginData();
+    }
+
+    /**
+     * JWT를 발급하고, refresh token을 담은 쿠키를 만듭니다.
+     *
+     * @param socialLoginBeforeTokenIssueData 토큰을 발급할 유저 정보가 담긴 객체
+     * @param provider                        소셜 회사명
+     * @return 성공 시 SocialLoginData와 refresh token 쿠키를 담은 SocialLoginResultData 타입의 객체를 반환합니다.
+     */
+    @Transactional
+    public SocialLoginResultData issueToken(SocialLoginBeforeTokenIssueData socialLoginBeforeTokenIssueData, String provider) {
+
+        SocialLoginResultData socialLoginResultData = null;
 
         try {
 
@@ -476,7 +336,7 @@ public class OAuthService {
             log.info("refresh token redis에 저장했다?");
 
 
-            socialLoginData = SocialLoginData.builder()
+            SocialLoginData socialLoginData = SocialLoginData.builder()
                     .userId(socialUser.getId())
                     .nickname(socialUser.getNickname())
                     .statusMessage(socialUser.getStatusMessage())
@@ -487,15 +347,17 @@ public class OAuthService {
             log.info("social 로그인 성공 후 반환 값 : {}", socialLoginData);
             int cookieMaxAge = (int) refreshTokenExpiry / 60;
 
-            CookieUtil.deleteCookie(httpServletRequest, httpServletResponse, REFRESH_TOKEN);
-            CookieUtil.addCookie(httpServletResponse, REFRESH_TOKEN, refreshToken.getToken(), cookieMaxAge);
+            socialLoginResultData = SocialLoginResultData.builder()
+                    .socialLoginData(socialLoginData)
+                    .refreshTokenCookie(CookieUtil.createCookie(REFRESH_TOKEN, refreshToken.getToken(), cookieMaxAge))
+                    .build();
         } catch (IllegalArgumentException e) {
             log.error("로그인 실패 : {}", e.getMessage());
             throw new IllegalArgumentException(provider + EMPTY_USER_INFO);
         } catch (NotFoundException e) {
             throw new NotFoundException(e.getMessage());
         }
-        return socialLoginData;
+        return socialLoginResultData;
     }
 
 }
@@ -0,0 +1,181 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.SuspendedUserData;
+import com.chillin.hearting.db.repository.BlockedUserRepository;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계정이 정지된 유저(P : 일시정지, O : 영구정지)를 인스턴스 메모리에 보관합니다.
+ * 정지, 해제는 Redis Pub/Sub으로 모든 인스턴스에 알리고, 알림이 유실되어도 주기적으로 DB(BlockedUser)와 다시 맞춥니다.
+ * 인증 필터와 메시지 전송은 DB 조회 없이 {@link #checkActive(String)}로 정지 여부를 확인하므로, 이미 발급된 access token도 정지 즉시 사용할 수 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuspendedUserRegistry implements MessageListener {
+
+    public static final String CHANNEL_USER_SUSPENSION = "user:suspension";
+
+    private static final String SEPARATOR = "|";
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final char STATUS_ACTIVE = 'A';
+    private static final char STATUS_PAUSE = 'P';
+    private static final char STATUS_OUT = 'O';
+    private static final List<Character> SUSPENDED_STATUSES = Arrays.asList(STATUS_PAUSE, STATUS_OUT);
+
+    private final BlockedUserRepository blockedUserRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 정지된 유저 ID -> 정지 정보, 해제된 유저는 다음 resync까지 상태 A로 남겨 DB 조회 결과가 해제를 되돌리지 않게 합니다.
+    private final Map<String, Suspension> suspendedUsers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_USER_SUSPENSION));
+        resync();
+    }
+
+    /**
+     * 정지된 유저이면 로그인 시와 같은 메시지(pause, out)로 UnAuthorizedException을 던집니다.
+     * 정지 기간이 지난 유저는 정지되지 않은 것으로 봅니다.
+     */
+    public void checkActive(String userId) {
+        if (userId == null) return;
+
+        Suspension suspension = suspendedUsers.get(userId);
+        if (suspension == null || suspension.status == STATUS_ACTIVE || suspension.endMillis <= System.currentTimeMillis()) return;
+
+        throw new UnAuthorizedException(suspension.status == STATUS_OUT ? "out" : "pause");
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 유저를 정지 목록에 추가하고 다른 인스턴스에 알립니다.
+     */
+    public void suspend(String userId, char status, LocalDateTime endDate) {
+        afterCommit(encode(userId, status, endDate.atZone(ZONE_ID).toInstant().toEpochMilli()));
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 유저를 정지 목록에서 제거하고 다른 인스턴스에 알립니다.
+     */
+    public void release(String userId) {
+        afterCommit(encode(userId, STATUS_ACTIVE, 0));
+    }
+
+    /**
+     * DB 기준으로 정지 목록을 다시 맞춥니다. 맞추는 도중 알림으로 반영된 정지, 해제는 DB 조회 결과로 덮어쓰지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${hearting.suspended-user.resync-interval-ms:60000}", initialDelayString = "${hearting.suspended-user.resync-interval-ms:60000}")
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        List<SuspendedUserData> latest;
+        try {
+            latest = blockedUserRepository.findSuspendedUsers(SUSPENDED_STATUSES, LocalDateTime.now(ZONE_ID));
+        } catch (RuntimeException e) {
+            log.error("정지 유저 목록을 DB와 맞추지 못했습니다.", e);
+            return;
+        }
+
+        Map<String, Suspension> loaded = new ConcurrentHashMap<>();
+        for (SuspendedUserData data : latest) {
+            loaded.put(data.getUserId(), new Suspension(data.getStatus(), data.getEndDate().atZone(ZONE_ID).toInstant().toEpochMilli(), startedAt));
+        }
+        loaded.forEach((userId, suspension) ->
+                suspendedUsers.merge(userId, suspension, (current, fromDb) -> current.appliedAt > startedAt ? current : fromDb));
+        suspendedUsers.entrySet().removeIf(entry -> !loaded.containsKey(entry.getKey()) && entry.getValue().appliedAt <= startedAt);
+        log.debug("정지 유저 목록을 DB와 맞췄습니다. : {}명", size());
+    }
+
+    public int size() {
+        return (int) suspendedUsers.values().stream().filter(suspension -> suspension.status != STATUS_ACTIVE).count();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!apply(body)) log.warn("정지 유저 알림 형식이 올바르지 않습니다. - {}", body);
+    }
+
+    /**
+     * "유저ID|상태|정지 종료 시각(epoch millis)" 형식의 알림을 반영합니다. 상태가 A이면 정지 목록에서 제거합니다.
+     */
+    boolean apply(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || parts[0].isEmpty() || parts[1].length() != 1) return false;
+
+        char status = parts[1].charAt(0);
+        if (status == STATUS_ACTIVE) {
+            suspendedUsers.put(parts[0], new Suspension(STATUS_ACTIVE, 0, System.currentTimeMillis()));
+            return true;
+        }
+
+        try {
+            suspendedUsers.put(parts[0], new Suspension(status, Long.parseLong(parts[2]), System.currentTimeMillis()));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private void afterCommit(String message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndPublish(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndPublish(message);
+            }
+        });
+    }
+
+    private void applyAndPublish(String message) {
+        apply(message);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_USER_SUSPENSION, message);
+        } catch (RuntimeException e) {
+            // 알림이 유실되어도 다른 인스턴스는 다음 resync에서 반영합니다.
+            log.warn("정지 유저 알림을 보내지 못했습니다. - {}", message, e);
+        }
+    }
+
+    private static String encode(String userId, char status, long endMillis) {
+        return userId + SEPARATOR + status + SEPARATOR + endMillis;
+    }
+
+    private static class Suspension {
+
+        private final char status;
+        private final long endMillis;
+        // 이 인스턴스에 반영된 시각
+        private final long appliedAt;
+
+        Suspension(char status, long endMillis, long appliedAt) {
+            this.status = status;
+            this.endMillis = endMillis;
+            this.appliedAt = appliedAt;
+        }
+    }
+}
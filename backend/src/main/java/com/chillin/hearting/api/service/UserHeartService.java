@@ -4,10 +4,22 @@ import com.chillin.hearting.db.domain.UserHeart;
 import com.chillin.hearting.db.repository.UserHeartRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -17,20 +29,144 @@ import java.util.Optional;
 public class UserHeartService {
 
     private final UserHeartRepository userHeartRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static final String KEY_HEART_MASK_PREFIX = "userHeartMask:";
+
+    // Lua 숫자(double)로 정확히 표현할 수 있는 최대 비트 위치
+    private static final long MAX_MASK_HEART_ID = 52L;
+
+    // KEYS[1]: 유저 하트 마스크, ARGV[1]: 2^heartId, ARGV[2]: TTL(초)
+    // 마스크가 있을 때만 비트를 켭니다. 없으면 다음 조회 때 user_heart로부터 다시 만듭니다.
+    private static final RedisScript<Long> ADD_HEART_SCRIPT = new DefaultRedisScript<>(
+            "local mask = redis.call('GET', KEYS[1]) " +
+                    "if not mask then return 0 end " +
+                    "mask = tonumber(mask) " +
+                    "local bit = tonumber(ARGV[1]) " +
+                    "if math.floor(mask / bit) % 2 == 0 then mask = mask + bit end " +
+                    "redis.call('SET', KEYS[1], string.format('%.0f', mask), 'EX', ARGV[2]) " +
+                    "return 1", Long.class);
+
+    @Value("${hearting.user-heart-mask.ttl-hours:24}")
+    private long heartMaskTtlHours;
 
     public List<UserHeart> findAllByUserIdOrderByHeartId(String userId) {
         return userHeartRepository.findAllByUserIdOrderByHeartId(userId);
     }
 
     public boolean isUserAcquiredHeart(String userId, long heartId) {
-        Optional<UserHeart> result = userHeartRepository.findByHeartIdAndUserId(heartId, userId);
-        return !result.isEmpty();
+        return hasHeart(getAcquiredHeartMask(userId), heartId);
+    }
+
+    /**
+     * 유저가 획득한 하트를 하트 ID 위치의 비트로 표시한 마스크를 조회합니다.
+     * Redis에 마스크가 없으면 user_heart 테이블로부터 다시 만들어 저장합니다.
+     * 그 사이 다른 요청이 먼저 저장한 마스크(새로 획득한 하트가 반영되었을 수 있음)는 덮어쓰지 않습니다.
+     *
+     * @param userId
+     * @return 획득 하트 비트마스크
+     */
+    public long getAcquiredHeartMask(String userId) {
+        String key = KEY_HEART_MASK_PREFIX + userId;
+        String mask = stringRedisTemplate.opsForValue().get(key);
+        if (mask != null) return Long.parseLong(mask);
+
+        long rebuilt = toHeartMask(userHeartRepository.findHeartIdsByUserId(userId));
+        Boolean stored = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(rebuilt), Duration.ofHours(heartMaskTtlHours));
+        if (Boolean.FALSE.equals(stored)) {
+            String current = stringRedisTemplate.opsForValue().get(key);
+            if (current != null) return Long.parseLong(current);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 새로 획득한 하트를 유저 하트 마스크에 반영합니다. 트랜잭션 안에서 호출되면 커밋 후에 반영하여,
+     * 롤백된 하트가 마스크에 남지 않도록 합니다.
+     */
+    public void addToHeartMask(String userId, long heartId) {
+        if (!isMaskable(heartId)) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToHeartMaskNow(userId, heartId);
+                }
+            });
+        } else {
+            addToHeartMaskNow(userId, heartId);
+        }
+    }
+
+    private void addToHeartMaskNow(String userId, long heartId) {
+        String key = KEY_HEART_MASK_PREFIX + userId;
+        try {
+            stringRedisTemplate.execute(ADD_HEART_SCRIPT, List.of(key),
+                    String.valueOf(1L << heartId), String.valueOf(Duration.ofHours(heartMaskTtlHours).getSeconds()));
+        } catch (RuntimeException e) {
+            // 반영하지 못하면 마스크를 지워 다음 조회 때 user_heart로부터 다시 만들게 합니다.
+            log.warn("유저 하트 마스크에 하트를 반영하지 못했습니다. - {} {}", userId, heartId, e);
+            stringRedisTemplate.delete(key);
+        }
+    }
+
+    /**
+     * user_heart 테이블 전체로부터 모든 유저의 하트 마스크를 다시 만듭니다.
+     *
+     * @return 마스크를 저장한 유저 수
+     */
+    public int rebuildAllHeartMasks() {
+        Map<String, Long> masks = new HashMap<>();
+        for (Object[] row : userHeartRepository.findAllUserIdAndHeartId()) {
+            long heartId = (Long) row[1];
+            if (!isMaskable(heartId)) continue;
+            masks.merge((String) row[0], 1L << heartId, (a, b) -> a | b);
+        }
+
+        Duration ttl = Duration.ofHours(heartMaskTtlHours);
+        masks.forEach((userId, mask) -> stringRedisTemplate.opsForValue().set(KEY_HEART_MASK_PREFIX + userId, String.valueOf(mask), ttl));
+
+        log.info("유저 하트 마스크 {}건을 다시 만들었습니다.", masks.size());
+        return masks.size();
+    }
+
+    public static boolean hasHeart(long heartMask, long heartId) {
+        return isMaskable(heartId) && (heartMask & (1L << heartId)) != 0;
+    }
+
+    private static long toHeartMask(Collection<Long> heartIds) {
+        long mask = 0L;
+        for (Long heartId : heartIds) {
+            if (isMaskable(heartId)) mask |= 1L << heartId;
+        }
+        return mask;
+    }
+
+    private static boolean isMaskable(long heartId) {
+        if (heartId < 0 || heartId > MAX_MASK_HEART_ID) {
+            log.warn("하트 ID {}는 유저 하트 마스크로 표현할 수 없습니다.", heartId);
+            return false;
+        }
+        return true;
     }
 
     public UserHeart save(UserHeart userHeart) {
         return userHeartRepository.save(userHeart);
     }
 
+    /**
+     * 아직 획득하지 않은 하트면 유저 하트를 저장합니다.
+     *
+     * @param userId
+     * @param heartId
+     * @return 새로 저장되었으면 true, 이미 획득한 하트면 false
+     */
+    @Transactional
+    public boolean saveIfAbsent(String userId, long heartId) {
+        return userHeartRepository.insertIgnore(userId, heartId, LocalDateTime.now(ZoneId.of("Asia/Seoul"))) > 0;
+    }
+
     public Optional<UserHeart> findByHeartIdAndUserId(long heartId, String userId) {
         return userHeartRepository.findByHeartIdAndUserId(heartId, userId);
     }
@@ -0,0 +1,123 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 회원가입 시 유저 번호를 발급하고, 유저 번호로 기본 닉네임과 유저 ID를 만듭니다.
+ * Redis 시퀀스에서 블록 단위로 번호를 예약하고, 예약된 범위 안에서는 로컬에서 발급하므로 가입마다 DB를 조회하지 않습니다.
+ * <p>
+ * 유저 ID는 유저 번호를 36^9 범위에서 섞은 9자리 36진수 앞에 '0'을 붙인 10자리 문자열입니다.
+ * 번호와 ID는 일대일 대응이므로 발급한 ID끼리 겹치지 않고, 기존 ID(SHA-256 값의 앞 10자리)는 '0'으로 시작하지 않으므로 기존 ID와도 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdAllocator {
+
+    public static final String KEY_USER_SEQUENCE = "sequence:userNo";
+
+    private static final String NICKNAME_PREFIX = "하팅";
+    private static final String ID_PREFIX = "0";
+    private static final int ID_DIGITS = 9;
+    private static final int RADIX = 36;
+
+    // 유저 번호 n -> (n * MULTIPLIER + OFFSET) mod 36^9, MULTIPLIER는 36과 서로소
+    private static final BigInteger ID_SPACE = BigInteger.valueOf(RADIX).pow(ID_DIGITS);
+    private static final BigInteger MULTIPLIER = BigInteger.valueOf(2_654_435_761L);
+    private static final BigInteger MULTIPLIER_INVERSE = MULTIPLIER.modInverse(ID_SPACE);
+    private static final BigInteger OFFSET = BigInteger.valueOf(42_875_153_129L);
+
+    // 시퀀스가 없으면(최초 실행, Redis 초기화) -1을 반환하여 DB 기준으로 다시 맞추도록 합니다.
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+
+    // 시퀀스가 DB에서 발급된 최대 번호보다 작으면 맞춘 뒤 예약합니다.
+    private static final RedisScript<Long> SYNC_AND_RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+                    "local floor = tonumber(ARGV[2]) " +
+                    "if current < floor then redis.call('SET', KEYS[1], floor) end " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+
+    @Value("${hearting.user.id-block-size:100}")
+    private int blockSize;
+
+    private long next;
+    private long last = -1;
+
+    /**
+     * 유저 번호를 발급합니다. 예약한 블록을 다 쓴 경우에만 Redis에 새 블록을 요청합니다.
+     */
+    public synchronized long nextUserNo() {
+        if (next > last) {
+            long reserved = reserveBlock();
+            last = reserved;
+            next = reserved - blockSize + 1;
+        }
+        return next++;
+    }
+
+    public static String toNickname(long userNo) {
+        return NICKNAME_PREFIX + userNo;
+    }
+
+    public static String toUserId(long userNo) {
+        BigInteger scrambled = BigInteger.valueOf(userNo).multiply(MULTIPLIER).add(OFFSET).mod(ID_SPACE);
+        StringBuilder sb = new StringBuilder(scrambled.toString(RADIX));
+        while (sb.length() < ID_DIGITS) {
+            sb.insert(0, '0');
+        }
+        return sb.insert(0, ID_PREFIX).toString();
+    }
+
+    /**
+     * {@link #toUserId(long)}로 만든 ID에서 유저 번호를 구합니다.
+     *
+     * @return 발급 형식이 아닌 ID이면 -1
+     */
+    public static long toUserNo(String userId) {
+        if (userId == null || userId.length() != ID_PREFIX.length() + ID_DIGITS || !userId.startsWith(ID_PREFIX)) return -1;
+        try {
+            BigInteger scrambled = new BigInteger(userId.substring(ID_PREFIX.length()), RADIX);
+            return scrambled.subtract(OFFSET).multiply(MULTIPLIER_INVERSE).mod(ID_SPACE).longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    private long reserveBlock() {
+        List<String> keys = Collections.singletonList(KEY_USER_SEQUENCE);
+        Long reserved = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, String.valueOf(blockSize));
+        if (reserved != null && reserved >= 0) return reserved;
+
+        long floor = findIssuedFloor();
+        reserved = stringRedisTemplate.execute(SYNC_AND_RESERVE_SCRIPT, keys, String.valueOf(blockSize), String.valueOf(floor));
+        log.info("유저 번호 시퀀스를 동기화했습니다. 기준 번호:{} 예약:{}", floor, reserved);
+        return reserved;
+    }
+
+    /**
+     * 시퀀스가 없을 때만 호출합니다. 기존 닉네임 규칙(유저 수 + 1)과 이미 발급한 유저 번호 중 큰 값을 기준으로 합니다.
+     */
+    private long findIssuedFloor() {
+        long maxUserNo = userRepository.findIdsStartingWith(ID_PREFIX).stream()
+                .mapToLong(UserIdAllocator::toUserNo)
+                .max()
+                .orElse(0);
+        return Math.max(userRepository.count(), maxUserNo);
+    }
+}
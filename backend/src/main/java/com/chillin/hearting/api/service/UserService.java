@@ -2,6 +2,7 @@ package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.*;
 import com.chillin.hearting.api.request.LoginTestReq;
+import com.chillin.hearting.cache.CacheType;
 import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.db.repository.UserRepository;
 import com.chillin.hearting.exception.UnAuthorizedException;
@@ -9,12 +10,13 @@ import com.chillin.hearting.exception.UserNotFoundException;
 import com.chillin.hearting.jwt.AuthToken;
 import com.chillin.hearting.jwt.AuthTokenProvider;
 import com.chillin.hearting.oauth.domain.AppProperties;
-import com.chillin.hearting.oauth.domain.PrincipalDetails;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import com.chillin.hearting.util.CookieUtil;
 import com.chillin.hearting.util.HeaderUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.core.Authentication;
@@ -51,7 +53,7 @@ public class UserService {
     private final AppProperties appProperties;
 
     private final RedisTemplate<String, Object> redisTemplate;
-
+    private final MessageTotalService messageTotalService;
 
     @Value("${app.auth.refresh-token-expiry}")
     private long refreshTokenExpiry;
@@ -64,6 +66,7 @@ public class UserService {
      * @return 성공 시 사용자가 수정한 닉네임 정보를 담은 UpdateNicknameData 타입의 객체를 반환합니다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheType.Names.BOARD_OWNER, key = "#userId")
     public UpdateNicknameData updateNickname(String userId, String nickname) {
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
 
@@ -85,6 +88,7 @@ public class UserService {
      * @return 성공 시 사용자가 수정한 닉네임 정보를 담은 UpdateStatusMessageData 타입의 객체를 반환합니다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheType.Names.BOARD_OWNER, key = "#userId")
     public UpdateStatusMessageData updateStatusMessage(String userId, String statusMessage) {
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
 
@@ -106,6 +110,7 @@ public class UserService {
      * @param httpServletResponse
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheType.Names.USER_PRINCIPAL, key = "#userId")
     public void deleteRefreshToken(String userId, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
@@ -120,18 +125,19 @@ public class UserService {
 
     /**
      * 하트판 주인의 정보를 조회합니다.
+     * 닉네임, 상태메시지는 캐시에서 조회하고, 누적 수신 메시지 수는 Redis 카운터에서 최신 값을 조회합니다.
      *
      * @param userId 조회할 user id
      * @return 성공 시 하트판 주인의 닉네임, 상태메시지, 누적 수신 메시지 수를 담은 HeartBoardOwnerData 타입의 객체를 반환합니다.
      */
     public HeartBoardOwnerData getBoardOwnerInformation(String userId) {
 
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+        HeartBoardOwnerData owner = userRepository.findBoardOwnerById(userId).orElseThrow(UserNotFoundException::new);
 
         return HeartBoardOwnerData.builder()
-                .nickname(user.getNickname())
-                .statusMessage(user.getStatusMessage())
-                .messageTotal(user.getMessageTotal())
+                .nickname(owner.getNickname())
+                .statusMessage(owner.getStatusMessage())
+                .messageTotal(messageTotalService.getMessageTotal(userId, owner.getMessageTotal()))
                 .build();
     }
 
@@ -150,9 +156,7 @@ public class UserService {
         AuthToken authHeaderAccessToken = tokenProvider.convertAuthToken(headerAccessToken);
         Authentication authentication = tokenProvider.getExpiredUser(authHeaderAccessToken);
 
-        PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
-
-        User user = principalDetails.getUser();
+        UserPrincipal user = (UserPrincipal) authentication.getPrincipal();
         String cookieRefreshToken = CookieUtil.getCookie(httpServletRequest, REFRESH_TOKEN)
                 .map(Cookie::getValue)
                 .orElse(null);
@@ -271,6 +275,17 @@ public class UserService {
 
     }
 
+    /**
+     * 인증 사용자 정보 캐시를 삭제합니다. 회원 상태가 바뀌면 호출합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 삭제됩니다.
+     *
+     * @param userId 캐시를 삭제할 user id
+     */
+    @CacheEvict(cacheNames = CacheType.Names.USER_PRINCIPAL, key = "#userId")
+    public void evictUserPrincipal(String userId) {
+        // 캐시 삭제는 @CacheEvict 에서 처리합니다.
+    }
+
     /**
      * redis에 저장된 user의 refresh token을 제거합니다.
      *
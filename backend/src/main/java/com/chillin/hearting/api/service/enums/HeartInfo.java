@@ -1,5 +1,7 @@
 package com.chillin.hearting.api.service.enums;
 
+import java.util.List;
+
 public enum HeartInfo {
     YELLOW(1L),
     BLUE(2L),
@@ -27,6 +29,10 @@ public enum HeartInfo {
         return id;
     }
 
+    public static List<HeartInfo> defaultHearts() {
+        return List.of(YELLOW, BLUE, GREEN, PINK, RED);
+    }
+
     public static boolean isLockedToNoLogin(long heartId) {
         return heartId == PINK.id || heartId == RED.id;
     }
@@ -0,0 +1,42 @@
+package com.chillin.hearting.api.service.event;
+
+import com.chillin.hearting.api.service.HeartService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 하트 카탈로그를 다시 불러오라는 알림을 받으면 이 인스턴스의 카탈로그를 다시 불러옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartCatalogReloadListener implements MessageListener {
+
+    private final HeartService heartService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(HeartService.CHANNEL_CATALOG_RELOAD));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // 알림을 보낸 인스턴스는 이미 다시 불러왔습니다.
+        if (heartService.isSentByThisInstance(new String(message.getBody(), StandardCharsets.UTF_8))) return;
+
+        try {
+            heartService.reloadCatalog();
+        } catch (RuntimeException e) {
+            log.error("하트 카탈로그를 다시 불러오지 못했습니다.", e);
+        }
+    }
+}
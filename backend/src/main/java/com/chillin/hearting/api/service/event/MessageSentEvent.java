@@ -0,0 +1,19 @@
+package com.chillin.hearting.api.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 메시지 전송이 완료되었을 때 발행되는 이벤트입니다.
+ * senderId는 비로그인 유저가 보낸 경우 null입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MessageSentEvent {
+
+    private final String senderId;
+    private final String receiverId;
+    private final long heartId;
+}
@@ -0,0 +1,153 @@
+package com.chillin.hearting.api.service.event;
+
+import com.chillin.hearting.api.service.facade.HeartFacade;
+import com.chillin.hearting.api.service.heartcheck.HeartCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메시지 전송 트랜잭션이 커밋된 뒤 스페셜 하트 획득 가능 여부를 비동기로 평가합니다.
+ * receiver는 받은 하트 카운터, sender는 보낸 하트 카운터가 바뀌므로 해당 카운터를 참조하는 하트만 평가합니다.
+ * 같은 유저에 대한 평가가 이미 대기 중이면 새로 등록하지 않고 변경된 카운터만 합칩니다.
+ * 대기열이 가득 차면 획득 조건 캐시만 먼저 삭제하고 평가를 미뤄 두었다가 주기적으로 다시 등록합니다.
+ * 미뤄 둔 동안 들어온 이벤트도 대기 중인 평가에 합쳐집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpecialHeartEvaluator {
+
+    private final HeartFacade heartFacade;
+
+    @Value("${hearting.special-heart.evaluator.threads:2}")
+    private int threads;
+
+    @Value("${hearting.special-heart.evaluator.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 평가 대기 중인 유저 -> 평가 대기 중에 변경된 카운터
+    private final Map<String, Set<HeartCounter>> pendingUsers = new ConcurrentHashMap<>();
+    // 대기열이 가득 차서 다시 등록해야 하는 유저
+    private final Set<String> deferredUsers = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "special-heart-evaluator-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("스페셜 하트 평가 작업 {}개를 완료하지 못하고 종료합니다.", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(MessageSentEvent event) {
+        submit(event.getReceiverId(), HeartCounter.received(event.getHeartId()));
+        if (event.getSenderId() != null) submit(event.getSenderId(), HeartCounter.sent(event.getHeartId()));
+    }
+
+    /**
+     * 유저의 스페셜 하트 평가를 예약합니다.
+     *
+     * @return 새로 예약되었으면 true, 이미 대기 중인 평가에 합쳐졌거나 대기열이 가득 차서 미뤄졌으면 false
+     */
+    public boolean submit(String userId, HeartCounter changedCounter) {
+        boolean[] created = {false};
+        pendingUsers.compute(userId, (key, counters) -> {
+            if (counters == null) {
+                counters = ConcurrentHashMap.newKeySet();
+                created[0] = true;
+            }
+            counters.add(changedCounter);
+            return counters;
+        });
+        if (!created[0]) {
+            // 미뤄 둔 평가에 합쳐진 카운터도 평가 전까지 오래된 획득 조건이 보이지 않도록 캐시를 삭제합니다.
+            if (deferredUsers.contains(userId)) evictConditions(userId, changedCounter);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> evaluate(userId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            defer(userId, changedCounter);
+            return false;
+        }
+    }
+
+    /**
+     * 대기열이 가득 차서 미뤄 둔 평가를 다시 등록합니다. 대기열이 다시 가득 차면 나머지는 다음 주기로 미룹니다.
+     *
+     * @return 다시 등록한 유저 수
+     */
+    @Scheduled(fixedDelayString = "${hearting.special-heart.evaluator.retry-interval-ms:1000}")
+    public int resubmitDeferred() {
+        int resubmitted = 0;
+        Iterator<String> iterator = deferredUsers.iterator();
+        while (iterator.hasNext()) {
+            String userId = iterator.next();
+            iterator.remove();
+            try {
+                executor.execute(() -> evaluate(userId));
+                resubmitted++;
+            } catch (RejectedExecutionException e) {
+                deferredUsers.add(userId);
+                break;
+            }
+        }
+        if (resubmitted > 0) log.info("미뤄 둔 스페셜 하트 평가 {}건을 다시 등록했습니다.", resubmitted);
+        return resubmitted;
+    }
+
+    private void defer(String userId, HeartCounter changedCounter) {
+        // 대기 상태는 유지해서 이후 이벤트가 합쳐지게 하고, 평가 전까지 오래된 획득 조건이 보이지 않도록 캐시만 먼저 삭제합니다.
+        deferredUsers.add(userId);
+        log.warn("스페셜 하트 평가 대기열이 가득 차서 {} 유저의 평가를 미룹니다.", userId);
+        evictConditions(userId, changedCounter);
+    }
+
+    private void evictConditions(String userId, HeartCounter changedCounter) {
+        try {
+            heartFacade.evictSpecialHeartAcqConditions(userId, Set.of(changedCounter));
+        } catch (RuntimeException e) {
+            log.error("{} 유저의 스페셜 하트 획득 조건 캐시를 삭제하지 못했습니다.", userId, e);
+        }
+    }
+
+    private void evaluate(String userId) {
+        // 평가 도중 들어온 이벤트는 바뀐 카운터로 다시 평가해야 하므로 먼저 대기 상태를 해제합니다.
+        Set<HeartCounter> changedCounters = pendingUsers.remove(userId);
+        try {
+            heartFacade.notifyAcquirableSpecialHearts(userId, changedCounters);
+        } catch (RuntimeException e) {
+            log.error("{} 유저의 스페셜 하트 평가에 실패했습니다.", userId, e);
+        }
+    }
+}
@@ -6,20 +6,23 @@ import com.chillin.hearting.api.data.HeartDetailData;
 import com.chillin.hearting.api.data.HeartListData;
 import com.chillin.hearting.api.service.HeartCheckService;
 import com.chillin.hearting.api.service.HeartService;
+import com.chillin.hearting.api.service.NotificationService;
 import com.chillin.hearting.api.service.UserHeartService;
 import com.chillin.hearting.api.service.UserService;
 import com.chillin.hearting.api.service.enums.HeartInfo;
 import com.chillin.hearting.api.service.enums.HeartType;
+import com.chillin.hearting.api.service.heartcheck.HeartCounter;
 import com.chillin.hearting.db.domain.Heart;
-import com.chillin.hearting.db.domain.User;
-import com.chillin.hearting.db.domain.UserHeart;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +34,7 @@ public class HeartFacade {
     private final UserHeartService userHeartService;
     private final HeartCheckService heartCheckService;
     private final UserService userService;
+    private final NotificationService notificationService;
 
     /**
      * 모든 도감 리스트를 반환합니다.
@@ -40,7 +44,7 @@ public class HeartFacade {
      * @param user
      * @return 하트 DTO
      */
-    public Data findAllHearts(User user) {
+    public Data findAllHearts(UserPrincipal user) {
         log.info("도감 하트 리스트 조회 - DB의 모든 하트를 조회한다.");
         // 모든 하트를 반환하되, 기본 하트이거나 내가 획득한 하트는 잠금이 해제됩니다. 아직 잠긴 하트 중 내가 획득할 수 있는 하트인지 체크합니다.
         List<HeartData> result;
@@ -52,8 +56,7 @@ public class HeartFacade {
 
     public List<HeartData> findAllHeartDataLockedExceptDefault() {
         List<HeartData> result = new ArrayList<>();
-        for (Heart heart : heartService.findAll()) {
-            HeartData data = HeartData.of(heart);
+        for (HeartData data : heartService.findAllHeartData()) {
             if (!HeartType.isDefault(data.getType())) data.setLock();
             result.add(data);
         }
@@ -61,18 +64,27 @@ public class HeartFacade {
         return result;
     }
 
-    private List<HeartData> findAllHeartDataWithUser(User user) {
+    private List<HeartData> findAllHeartDataWithUser(UserPrincipal user) {
         List<HeartData> result = new ArrayList<>();
-        for (Heart heart : heartService.findAll()) {
-            HeartData heartData = HeartData.of(heart);
+        List<HeartData> specialHeartDataList = new ArrayList<>();
+        List<Long> specialHeartIds = new ArrayList<>();
+        long heartMask = userHeartService.getAcquiredHeartMask(user.getId());
+        for (HeartData heartData : heartService.findAllHeartData()) {
             result.add(heartData);
-            if (HeartType.isDefault(heart.getType())) continue;
+            if (HeartType.isDefault(heartData.getType())) continue;
 
-            if (!userHeartService.isUserAcquiredHeart(user.getId(), heart.getId())) {
+            if (!UserHeartService.hasHeart(heartMask, heartData.getHeartId())) {
                 heartData.setLock();
             }
+            specialHeartDataList.add(heartData);
+            specialHeartIds.add(heartData.getHeartId());
+        }
+        if (specialHeartIds.isEmpty()) return result;
 
-            if (heartCheckService.isUserAcquirableHeart(user.getId(), heart.getId())) {
+        // 획득 여부와 관계없이 획득 조건을 달성한 하트는 isAcq를 표시합니다. 조건 검사는 한 번에 합니다.
+        Set<Long> acquirableHeartIds = heartCheckService.findAcquirableHeartIds(user.getId(), specialHeartIds);
+        for (HeartData heartData : specialHeartDataList) {
+            if (acquirableHeartIds.contains(heartData.getHeartId())) {
                 heartData.setAcq(true);
             }
         }
@@ -88,7 +100,7 @@ public class HeartFacade {
      * @param user
      * @return
      */
-    public List<HeartData> findMessageHearts(User user) {
+    public List<HeartData> findMessageHearts(UserPrincipal user) {
         log.info("메시지 전송용 하트 리스트 조회 - 기본 하트 + 내가 획득한 하트를 조회한다.");
         List<HeartData> result;
         if (user != null) {
@@ -100,16 +112,13 @@ public class HeartFacade {
         return result;
     }
 
-    private List<HeartData> findMessageHeartsForUser(User user) {
+    private List<HeartData> findMessageHeartsForUser(UserPrincipal user) {
         List<HeartData> result = new ArrayList<>();
-        for (Heart heart : heartService.findDefaultTypeHearts()) {
-            HeartData heartData = HeartData.of(heart);
-            result.add(heartData);
-
-        }
-
-        for (UserHeart myHeart : userHeartService.findAllByUserIdOrderByHeartId(user.getId())) {
-            result.add(HeartData.of(myHeart.getHeart()));
+        long heartMask = userHeartService.getAcquiredHeartMask(user.getId());
+        for (HeartData heartData : heartService.findAllHeartData()) {
+            if (HeartType.isDefault(heartData.getType()) || UserHeartService.hasHeart(heartMask, heartData.getHeartId())) {
+                result.add(heartData);
+            }
         }
 
         return result;
@@ -117,9 +126,8 @@ public class HeartFacade {
 
     private List<HeartData> findMessageHeartsForNoLogin() {
         List<HeartData> result = new ArrayList<>();
-        for (Heart heart : heartService.findDefaultTypeHearts()) {
-            HeartData heartData = HeartData.of(heart);
-            if (HeartInfo.isLockedToNoLogin(heart.getId())) {
+        for (HeartData heartData : heartService.findDefaultHeartData()) {
+            if (HeartInfo.isLockedToNoLogin(heartData.getHeartId())) {
                 heartData.setLock();
             }
             result.add(heartData);
@@ -138,7 +146,7 @@ public class HeartFacade {
      * @param heartId
      * @return
      */
-    public Data findHeartDetail(User user, Long heartId) {
+    public Data findHeartDetail(UserPrincipal user, Long heartId) {
         Heart findHeart = heartService.findById(heartId);
         HeartDetailData heartDetailData = HeartDetailData.of(findHeart);
         if (HeartType.isDefault(findHeart.getType())) {
@@ -163,16 +171,58 @@ public class HeartFacade {
         }
     }
 
+    /**
+     * 변경된 카운터를 획득 조건으로 참조하는 하트의 획득 조건 달성 현황 캐시를 삭제합니다.
+     *
+     * @param userId
+     * @param changedCounters 이번에 변경된 유저의 카운터
+     * @return 캐시를 삭제한 하트 ID 목록
+     */
+    public Set<Long> evictSpecialHeartAcqConditions(String userId, Collection<HeartCounter> changedCounters) {
+        Set<Long> affectedHeartIds = heartCheckService.findAffectedHeartIds(changedCounters);
+        for (Long heartId : affectedHeartIds) {
+            heartCheckService.evictSpecialHeartAcqCondition(userId, heartId);
+        }
+        return affectedHeartIds;
+    }
+
+    /**
+     * 변경된 카운터를 획득 조건으로 참조하는 하트 중, 유저가 아직 획득하지 않았고 획득 조건을 달성한 하트가 있으면 알림을 보냅니다.
+     * 같은 하트에 대한 알림은 24시간에 한 번만 보냅니다.
+     *
+     * @param userId
+     * @param changedCounters 이번에 변경된 유저의 카운터
+     */
     @Transactional
-    public void saveUserHearts(String userId, Long heartId) {
-        User findUser = userService.findById(userId);
-        Heart findHeart = heartService.findById(heartId);
-        UserHeart userHeart = UserHeart.of(findUser, findHeart);
-        if (isNotAcquiredUserHeart(heartId,userId)) userHeartService.save(userHeart);
+    public void notifyAcquirableSpecialHearts(String userId, Collection<HeartCounter> changedCounters) {
+        Set<Long> affectedHeartIds = evictSpecialHeartAcqConditions(userId, changedCounters);
+        if (affectedHeartIds.isEmpty()) return;
+
+        long heartMask = userHeartService.getAcquiredHeartMask(userId);
+        List<Long> notAcquiredHeartIds = new ArrayList<>();
+        for (Long heartId : affectedHeartIds) {
+            if (!UserHeartService.hasHeart(heartMask, heartId)) notAcquiredHeartIds.add(heartId);
+        }
+        if (notAcquiredHeartIds.isEmpty()) return;
+
+        for (Long heartId : heartCheckService.findAcquirableHeartIds(userId, notAcquiredHeartIds)) {
+            String key = "user:" + userId + ":notifiedHeartId:" + heartId;
+            if (!notificationService.hasNotificationIn24Hour(key)) {
+                notificationService.save(userId, heartId);
+                notificationService.setNotificationFor24Hour(key);
+            }
+        }
     }
 
+    @Transactional
+    public void saveUserHearts(String userId, Long heartId) {
+        // 존재하지 않는 유저, 하트는 예외 처리
+        userService.findById(userId);
+        heartService.findById(heartId);
 
-    private boolean isNotAcquiredUserHeart(long heartId, String userId) {
-        return userHeartService.findByHeartIdAndUserId(heartId, userId).isEmpty();
+        // 이미 획득한 하트는 (user_id, heart_id) 유니크 키로 무시됩니다.
+        if (userHeartService.saveIfAbsent(userId, heartId)) {
+            userHeartService.addToHeartMask(userId, heartId);
+        }
     }
 }
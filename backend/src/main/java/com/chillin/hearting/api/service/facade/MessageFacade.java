@@ -4,6 +4,8 @@ import com.chillin.hearting.api.data.EmojiData;
 import com.chillin.hearting.api.data.ReportData;
 import com.chillin.hearting.api.data.SendMessageData;
 import com.chillin.hearting.api.service.*;
+import com.chillin.hearting.api.service.event.MessageSentEvent;
+import com.chillin.hearting.api.service.ingest.MessageIngestionPipeline;
 import com.chillin.hearting.db.domain.*;
 import com.chillin.hearting.exception.MessageAlreadyDeletedException;
 import com.chillin.hearting.exception.MessageAlreadyReportedException;
@@ -11,6 +13,7 @@ import com.chillin.hearting.exception.UnAuthorizedException;
 import com.chillin.hearting.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,13 +31,17 @@ public class MessageFacade {
     private final HeartService heartService;
     private final NotificationService notificationService;
     private final UserService userService;
-    private final UserHeartService userHeartService;
-    private final HeartCheckService heartCheckService;
     private final BlockedUserService blockedUserService;
+    private final SuspendedUserRegistry suspendedUserRegistry;
     private final ReportUserService reportUserService;
     private final EmojiService emojiService;
     private final MessageService messageService;
     private final MigrationService migrationService;
+    private final MessageIngestionPipeline messageIngestionPipeline;
+    private final MessageTotalService messageTotalService;
+    private final BoardVersionService boardVersionService;
+    private final HomeService homeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static class Sample {
         String title, content;
@@ -97,22 +104,26 @@ public class MessageFacade {
 
             Heart heart = heartService.findById(heartId);
 
-            Message message = Message.builder().heart(heart).receiver(user).sender(null).title(sample.title).content(sample.content).senderIp("ADMIN").build();
-            messageService.save(message);
-
-            user.updateMessageTotal();
+            if (messageIngestionPipeline.isEnabled()) {
+                messageIngestionPipeline.submit(heartId, null, user.getId(), sample.title, sample.content, "ADMIN", null);
+            } else {
+                Message message = Message.builder().heart(heart).receiver(user).sender(null).title(sample.title).content(sample.content).senderIp("ADMIN").build();
+                messageService.save(message);
+            }
         }
-        userService.save(user);
+        messageTotalService.incrementAfterCommit(user.getId(), SEND_TO_ADMIN_MESSAGE_CNT);
+        // write-behind 모드에서는 MessageBatchWriter가 메시지를 저장한 뒤 보드 버전을 올립니다.
+        if (!messageIngestionPipeline.isEnabled()) boardVersionService.bump(user.getId());
     }
 
     @Transactional
     public SendMessageData sendMessage(long heartId, String senderId, String receiverId, String title, String content, String senderIp) {
 
+        // 정지된 유저는 메시지를 보낼 수 없음
+        suspendedUserRegistry.checkActive(senderId);
+
         // Check if receiver exists
         User receiver = userService.findById(receiverId);
-        // Add cnt to receiver's messageTotal
-        receiver.updateMessageTotal();
-        userService.save(receiver);
 
         // Check if sender exists (if logged in user)
         User sender = senderId == null ? null : userService.findById(senderId);
@@ -120,7 +131,34 @@ public class MessageFacade {
         // Check if heart exists
         Heart heart = heartService.findById(heartId);
 
-        // Create message
+        // Create message and notification
+        long messageId = messageIngestionPipeline.isEnabled()
+                ? messageIngestionPipeline.submit(heartId, senderId, receiverId, title, content, senderIp, NOTIFICATION_MESSAGE_SEND_MESSAGE).getId()
+                : saveMessageWithNotification(heart, sender, receiver, title, content, senderIp);
+
+        log.info(senderId + " 유저가 " + receiverId + " 유저에게 " + messageId + " 메시지를 발송했습니다.");
+
+        // Add cnt to receiver's messageTotal (커밋 후 반영)
+        messageTotalService.incrementAfterCommit(receiverId, 1);
+        // write-behind 모드에서는 MessageBatchWriter가 메시지를 저장한 뒤 보드 버전을 올립니다.
+        if (!messageIngestionPipeline.isEnabled()) boardVersionService.bump(receiverId);
+        homeService.incrementTotalMessageCount();
+
+        // receiver 받은 하트, sender 보낸 하트 개수 업데이트
+        migrationService.updateHeartCount(senderId, receiverId, heartId);
+
+        // receiver, sender 하트 획득 조건 체크는 커밋 후 비동기로 처리
+        eventPublisher.publishEvent(new MessageSentEvent(senderId, receiverId, heartId));
+
+        return SendMessageData.builder()
+                .messageId(messageId)
+                .heartId(heart.getId())
+                .heartName(heart.getName())
+                .heartUrl(heart.getImageUrl())
+                .isRead(false).build();
+    }
+
+    private long saveMessageWithNotification(Heart heart, User sender, User receiver, String title, String content, String senderIp) {
         Message message = Message.builder().heart(heart).receiver(receiver).sender(sender).title(title).content(content).senderIp(senderIp).build();
         message = messageService.save(message);
 
@@ -136,39 +174,7 @@ public class MessageFacade {
 
         notificationService.save(notification);
 
-        log.info(senderId + " 유저가 " + receiverId + " 유저에게 " + message.getId() + " 메시지를 발송했습니다.");
-
-        // receiver 하트 획득 조건 체크
-        log.info("receiver 하트 획득 조건 체크");
-        migrationService.updateReceivedHeartCount(receiverId, heartId);
-
-        sendSpecialHeartNotificationAfterMessage(receiverId);
-
-        // sender 하트 획득 조건 체크 + 알림 필요한지 체크
-        log.info("sender 하트 획득 조건 체크");
-        if (senderId != null) {
-            migrationService.updateSentHeartCount(senderId, heartId);
-            sendSpecialHeartNotificationAfterMessage(senderId);
-        }
-
-        return SendMessageData.builder()
-                .messageId(message.getId())
-                .heartId(message.getHeart().getId())
-                .heartName(message.getHeart().getName())
-                .heartUrl(message.getHeart().getImageUrl())
-                .isRead(message.isRead()).build();
-    }
-
-    private void sendSpecialHeartNotificationAfterMessage(String userId) {
-        for (Heart specialHeart : heartService.findSpecialTypeHearts()) {
-            if (!userHeartService.isUserAcquiredHeart(userId, specialHeart.getId()) && heartCheckService.isUserAcquirableHeart(userId, specialHeart.getId())) {
-                String key = "user:" + userId + ":notifiedHeartId:" + specialHeart.getId();
-                if (!notificationService.hasNotificationIn24Hour(key)) {
-                    notificationService.save(userId,specialHeart.getId());
-                    notificationService.setNotificationFor24Hour(key);
-                }
-            }
-        }
+        return message.getId();
     }
 
     @Transactional
@@ -190,6 +196,7 @@ public class MessageFacade {
         message.deleteMessage();
 
         message = messageService.save(message);
+        boardVersionService.bump(userId);
 
         log.info(messageId + " 메시지가 삭제되었습니다.");
 
@@ -223,6 +230,7 @@ public class MessageFacade {
 
         // Update message
         message.reportMessage();
+        boardVersionService.bump(userId);
 
         // If reportedUser is not a logged in user
         if (reportedUser == null) {
@@ -238,6 +246,7 @@ public class MessageFacade {
             char newStatus = reportedCnt == 3 ? 'P' : 'O';
 
             reportedUser.updateUserStatus(newStatus);
+            userService.evictUserPrincipal(reportedUser.getId());
 
             // Add to Blocked User
             BlockedUser blockedUser = BlockedUser.builder().user(reportedUser).build();
@@ -245,6 +254,8 @@ public class MessageFacade {
             blockedUser.updateEndDate(newStatus);
             // Persist blockedUser
             blockedUserService.save(blockedUser);
+            // 이미 발급된 access token도 바로 사용할 수 없도록 모든 인스턴스에 알림
+            suspendedUserRegistry.suspend(reportedUser.getId(), newStatus, blockedUser.getEndDate());
         }
 
         // Persist message
@@ -276,6 +287,7 @@ public class MessageFacade {
         message.updateEmoji(emoji);
 
         message = messageService.save(message);
+        boardVersionService.bump(userId);
 
         // 로그인 한 유저가 보낸 메시지에 반응하는 경우
         if (message.getSender() != null) {
@@ -8,6 +8,7 @@ import com.chillin.hearting.db.domain.Heart;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class FourLeafHeartCheckStrategy implements HeartCheckStrategy {
@@ -39,4 +40,9 @@ public class FourLeafHeartCheckStrategy implements HeartCheckStrategy {
 
         return result;
     }
+
+    @Override
+    public Set<HeartCounter> getDependencies() {
+        return Set.of(HeartCounter.received(HeartInfo.SHAMROCK));
+    }
 }
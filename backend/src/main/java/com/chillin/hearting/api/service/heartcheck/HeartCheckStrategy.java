@@ -3,8 +3,14 @@ package com.chillin.hearting.api.service.heartcheck;
 import com.chillin.hearting.api.data.HeartConditionData;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 public interface HeartCheckStrategy {
     boolean isAcquirable(String userId);
     ArrayList<HeartConditionData> getAcqCondition(String userId);
+
+    /**
+     * 획득 조건이 참조하는 카운터 목록입니다. 이 카운터가 바뀔 때만 획득 여부를 다시 평가합니다.
+     */
+    Set<HeartCounter> getDependencies();
 }
@@ -1,17 +1,110 @@
 package com.chillin.hearting.api.service.heartcheck;
 
+import com.chillin.hearting.api.service.HeartCatalog;
 import com.chillin.hearting.api.service.HeartService;
 import com.chillin.hearting.api.service.MessageService;
+import com.chillin.hearting.api.service.enums.HeartInfo;
 import com.chillin.hearting.exception.NoHeartStrategyException;
 import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 하트 ID별 획득 조건 검사 전략을 보관합니다.
+ * 전략은 상태가 없으므로 생성 시 한 번만 만들어 두고 재사용합니다.
+ * 카운터 의존 관계는 전략이 조회하는 것과 같은 하트 카탈로그로 만들고, 카탈로그가 다시 불러와지면 새로 만듭니다.
+ */
 public class HeartCheckStrategyFactory {
 
     private final HeartService heartService;
     private final MessageService messageService;
 
-    public HeartCheckStrategy createHeartCheckStrategy(long heartId) {
+    // 하트 ID -> 전략, 전략이 없는 하트는 null
+    private final HeartCheckStrategy[] strategies;
+
+    // 마지막으로 의존 관계를 만든 카탈로그와 그 의존 관계
+    private final AtomicReference<DependencyIndex> dependencyIndex = new AtomicReference<>();
+
+    public HeartCheckStrategyFactory(HeartService heartService, MessageService messageService) {
+        this.heartService = heartService;
+        this.messageService = messageService;
+        this.strategies = buildStrategies();
+    }
+
+    /**
+     * 하트 ID에 해당하는 전략을 반환합니다.
+     *
+     * @throws NoHeartStrategyException 전략이 없는 하트인 경우
+     */
+    public HeartCheckStrategy getHeartCheckStrategy(long heartId) {
+        HeartCheckStrategy strategy = (heartId >= 0 && heartId < strategies.length) ? strategies[(int) heartId] : null;
+        if (strategy == null) throw new NoHeartStrategyException();
+        return strategy;
+    }
+
+    /**
+     * 카운터가 바뀌었을 때 다시 평가해야 하는 하트 ID 목록을 반환합니다.
+     *
+     * @param counter 변경된 카운터
+     * @return 해당 카운터를 참조하는 하트 ID 목록 (하트 ID 오름차순)
+     */
+    public List<Long> findDependentHeartIds(HeartCounter counter) {
+        return getDependencyIndex().dependentHeartIds.getOrDefault(counter, Collections.emptyList());
+    }
+
+    private DependencyIndex getDependencyIndex() {
+        HeartCatalog catalog = heartService.getCatalog();
+        DependencyIndex current = dependencyIndex.get();
+        if (current != null && current.catalog == catalog) return current;
+
+        // 만드는 도중 카탈로그가 바뀌어도 이전 카탈로그로 기록되므로 다음 조회 때 다시 만듭니다.
+        DependencyIndex built = new DependencyIndex(catalog, buildDependentHeartIds());
+        dependencyIndex.set(built);
+        return built;
+    }
+
+    private Map<HeartCounter, List<Long>> buildDependentHeartIds() {
+        Map<HeartCounter, List<Long>> index = new HashMap<>();
+        for (int heartId = 0; heartId < strategies.length; heartId++) {
+            if (strategies[heartId] == null) continue;
+
+            for (HeartCounter counter : strategies[heartId].getDependencies()) {
+                index.computeIfAbsent(counter, c -> new ArrayList<>()).add((long) heartId);
+            }
+        }
+
+        Map<HeartCounter, List<Long>> result = new HashMap<>();
+        index.forEach((counter, heartIds) -> result.put(counter, List.copyOf(heartIds)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private HeartCheckStrategy[] buildStrategies() {
+        long maxHeartId = 0;
+        for (HeartInfo heartInfo : HeartInfo.values()) {
+            maxHeartId = Math.max(maxHeartId, heartInfo.getId());
+        }
+
+        // 획득 조건 검사 전략이 있는 하트만 등록합니다.
+        HeartCheckStrategy[] result = new HeartCheckStrategy[(int) maxHeartId + 1];
+        for (HeartInfo heartInfo : HeartInfo.values()) {
+            try {
+                result[(int) heartInfo.getId()] = createHeartCheckStrategy(heartInfo.getId());
+            } catch (NoHeartStrategyException e) {
+                // 기본 하트 등 획득 조건이 없는 하트
+            }
+        }
+        return result;
+    }
+
+    @RequiredArgsConstructor
+    private static class DependencyIndex {
+        private final HeartCatalog catalog;
+        // 카운터 -> 해당 카운터를 획득 조건으로 참조하는 하트 ID 목록
+        private final Map<HeartCounter, List<Long>> dependentHeartIds;
+    }
+
+    private HeartCheckStrategy createHeartCheckStrategy(long heartId) {
         switch ((int) heartId) {
             case 6:
                 return new PlanetHeartCheckStrategy();
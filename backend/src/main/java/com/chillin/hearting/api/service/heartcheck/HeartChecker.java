@@ -1,31 +1,50 @@
 package com.chillin.hearting.api.service.heartcheck;
 
 import com.chillin.hearting.api.data.HeartConditionData;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
+import java.util.*;
 
-@NoArgsConstructor
+/**
+ * 하트 획득 조건을 검사합니다.
+ * 싱글톤 빈으로 여러 요청이 동시에 사용하므로 요청별 상태를 필드에 두지 않습니다.
+ */
+@RequiredArgsConstructor
 public class HeartChecker {
 
-    private String userId;
-    private HeartCheckStrategy heartCheckStrategy;
-    private HeartCheckStrategyFactory strategyFactory;
+    private final HeartCheckStrategyFactory strategyFactory;
 
-    public HeartChecker(HeartCheckStrategyFactory strategyFactory) {
-        this.strategyFactory = strategyFactory;
+    public boolean isAcquirable(String userId, long heartId) {
+        return strategyFactory.getHeartCheckStrategy(heartId).isAcquirable(userId);
     }
 
-    public void init(String userId, long heartId) {
-        this.userId = userId;
-        this.heartCheckStrategy = strategyFactory.createHeartCheckStrategy(heartId);
+    public ArrayList<HeartConditionData> getAcqCondition(String userId, long heartId) {
+        return strategyFactory.getHeartCheckStrategy(heartId).getAcqCondition(userId);
     }
 
-    public boolean isAcquirable() {
-        return heartCheckStrategy.isAcquirable(userId);
+    /**
+     * 한 유저에 대해 여러 하트의 획득 조건을 한 번에 검사합니다.
+     *
+     * @param userId
+     * @param heartIds 검사할 하트 ID 목록
+     * @return 획득 조건을 달성한 하트 ID (하트 ID 오름차순)
+     */
+    public SortedSet<Long> findAcquirableHeartIds(String userId, Collection<Long> heartIds) {
+        SortedSet<Long> result = new TreeSet<>();
+        for (Long heartId : heartIds) {
+            if (isAcquirable(userId, heartId)) result.add(heartId);
+        }
+        return result;
     }
 
-    public ArrayList<HeartConditionData> getAcqCondition() {
-        return heartCheckStrategy.getAcqCondition(userId);
+    /**
+     * 변경된 카운터들을 참조하는 하트 ID를 중복 없이 반환합니다.
+     */
+    public SortedSet<Long> findDependentHeartIds(Collection<HeartCounter> counters) {
+        SortedSet<Long> result = new TreeSet<>();
+        for (HeartCounter counter : counters) {
+            result.addAll(strategyFactory.findDependentHeartIds(counter));
+        }
+        return result;
     }
 }
@@ -0,0 +1,54 @@
+package com.chillin.hearting.api.service.heartcheck;
+
+import com.chillin.hearting.api.service.enums.HeartInfo;
+import com.chillin.hearting.db.domain.Heart;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 하트 획득 조건이 참조하는 유저별 하트 카운터입니다.
+ * 보낸 하트(SENT) 또는 받은 하트(RECEIVED) 개수와 하트 ID로 구분합니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class HeartCounter {
+
+    public enum Type {
+        SENT,
+        RECEIVED
+    }
+
+    private final Type type;
+    private final long heartId;
+
+    public static HeartCounter sent(long heartId) {
+        return new HeartCounter(Type.SENT, heartId);
+    }
+
+    public static HeartCounter received(long heartId) {
+        return new HeartCounter(Type.RECEIVED, heartId);
+    }
+
+    public static HeartCounter sent(HeartInfo heartInfo) {
+        return sent(heartInfo.getId());
+    }
+
+    public static HeartCounter received(HeartInfo heartInfo) {
+        return received(heartInfo.getId());
+    }
+
+    /**
+     * 하트 목록 각각의 보낸 하트 카운터
+     */
+    public static Set<HeartCounter> sentOf(Collection<Heart> hearts) {
+        return hearts.stream().map(heart -> sent(heart.getId())).collect(Collectors.toSet());
+    }
+}
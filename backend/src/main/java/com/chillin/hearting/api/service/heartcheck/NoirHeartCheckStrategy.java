@@ -7,6 +7,7 @@ import com.chillin.hearting.db.domain.Heart;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class NoirHeartCheckStrategy implements HeartCheckStrategy {
@@ -41,4 +42,9 @@ public class NoirHeartCheckStrategy implements HeartCheckStrategy {
 
         return result;
     }
+
+    @Override
+    public Set<HeartCounter> getDependencies() {
+        return HeartCounter.sentOf(heartService.findDefaultTypeHearts());
+    }
 }
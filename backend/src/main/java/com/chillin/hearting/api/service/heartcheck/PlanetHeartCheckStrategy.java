@@ -3,6 +3,8 @@ package com.chillin.hearting.api.service.heartcheck;
 import com.chillin.hearting.api.data.HeartConditionData;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
 
 public class PlanetHeartCheckStrategy implements HeartCheckStrategy {
     @Override
@@ -14,4 +16,9 @@ public class PlanetHeartCheckStrategy implements HeartCheckStrategy {
     public ArrayList<HeartConditionData> getAcqCondition(String userId) {
         return null;
     }
+
+    @Override
+    public Set<HeartCounter> getDependencies() {
+        return Collections.emptySet();
+    }
 }
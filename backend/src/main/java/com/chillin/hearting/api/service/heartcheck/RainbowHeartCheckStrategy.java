@@ -7,6 +7,7 @@ import com.chillin.hearting.db.domain.Heart;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class RainbowHeartCheckStrategy implements HeartCheckStrategy {
@@ -34,12 +35,16 @@ public class RainbowHeartCheckStrategy implements HeartCheckStrategy {
 
         for (Heart defaultHeart : heartService.findDefaultTypeHearts()) {
             int sentHeartCnt = messageService.getUserSentHeartCnt(userId, defaultHeart.getId());
-            Heart heart = heartService.findById(defaultHeart.getId());
             result.add(
-                    HeartConditionData.of(heart, sentHeartCnt, HEART_RAINBOW_MAX_VALUE)
+                    HeartConditionData.of(defaultHeart, sentHeartCnt, HEART_RAINBOW_MAX_VALUE)
             );
         }
 
         return result;
     }
+
+    @Override
+    public Set<HeartCounter> getDependencies() {
+        return HeartCounter.sentOf(heartService.findDefaultTypeHearts());
+    }
 }
@@ -8,6 +8,7 @@ import com.chillin.hearting.db.domain.Heart;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class ReadingGlassesHeartCheckStrategy implements HeartCheckStrategy {
@@ -40,4 +41,9 @@ public class ReadingGlassesHeartCheckStrategy implements HeartCheckStrategy {
 
         return result;
     }
+
+    @Override
+    public Set<HeartCounter> getDependencies() {
+        return Set.of(HeartCounter.sent(HeartInfo.PINK));
+    }
 }
@@ -0,0 +1,75 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.api.service.BoardVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 쓰기 큐에서 꺼낸 메시지와 알림을 JDBC 배치로 한 번에 저장합니다.
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션을 켜면 multi-row INSERT로 전송됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageBatchWriter {
+
+    private static final String INSERT_MESSAGE = "INSERT INTO message " +
+            "(id, heart_id, sender_id, receiver_id, title, content, is_read, is_stored, is_active, is_reported, sender_ip, created_date, expired_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false, false, true, false, ?, ?, ?)";
+
+    private static final String INSERT_NOTIFICATION = "INSERT INTO notification " +
+            "(user_id, message_id, heart_id, content, created_date, expired_date, type, is_checked, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'R', false, true)";
+
+    private static final String COUNT_STORED_MESSAGE = "SELECT COUNT(*) FROM message WHERE id = ? AND receiver_id = ? AND title = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardVersionService boardVersionService;
+
+    @Transactional
+    public void write(List<PendingMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, messages, messages.size(), (ps, m) -> {
+            ps.setLong(1, m.getId());
+            ps.setLong(2, m.getHeartId());
+            ps.setString(3, m.getSenderId());
+            ps.setString(4, m.getReceiverId());
+            ps.setString(5, m.getTitle());
+            ps.setString(6, m.getContent());
+            ps.setString(7, m.getSenderIp());
+            ps.setTimestamp(8, Timestamp.valueOf(m.getCreatedDate()));
+            ps.setTimestamp(9, Timestamp.valueOf(m.getExpiredDate()));
+        });
+
+        List<PendingMessage> notifications = messages.stream().filter(PendingMessage::hasNotification).collect(Collectors.toList());
+        if (!notifications.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, notifications, notifications.size(), (ps, m) -> {
+                ps.setString(1, m.getReceiverId());
+                ps.setLong(2, m.getId());
+                ps.setLong(3, m.getHeartId());
+                ps.setString(4, m.getNotificationContent());
+                ps.setTimestamp(5, Timestamp.valueOf(m.getCreatedDate()));
+                ps.setTimestamp(6, Timestamp.valueOf(m.getExpiredDate()));
+            });
+        }
+
+        // 커밋 후 메시지를 받은 유저들의 보드 버전을 올립니다.
+        messages.stream().map(PendingMessage::getReceiverId).distinct().forEach(boardVersionService::bump);
+
+        log.debug("메시지 {}개, 알림 {}개를 배치로 저장했습니다.", messages.size(), notifications.size());
+    }
+
+    /**
+     * 같은 메시지가 이미 저장되어 있는지 확인합니다. (ID만 같은 다른 메시지는 false)
+     */
+    public boolean isStored(PendingMessage message) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_STORED_MESSAGE, Integer.class, message.getId(), message.getReceiverId(), message.getTitle());
+        return count != null && count > 0;
+    }
+}
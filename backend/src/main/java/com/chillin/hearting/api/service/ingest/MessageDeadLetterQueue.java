@@ -0,0 +1,198 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.api.service.JobLockService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * write-behind로 응답(201)까지 마쳤지만 DB에 저장하지 못한 메시지를 Redis 리스트에 보관하고, 주기적으로 다시 저장합니다.
+ * 다시 저장해도 성공할 수 없는 메시지(수신자 탈퇴, ID 충돌 등)는 별도 리스트(KEY_PARKED)로 옮겨 확인할 수 있게 합니다.
+ * Redis에도 보관하지 못했거나 별도 리스트로 옮긴 메시지는 message.write-behind.dropped 지표로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageDeadLetterQueue implements MeterBinder {
+
+    public static final String KEY_DEAD_LETTER = "messageWriteBehind:deadLetter";
+    public static final String KEY_PARKED = "messageWriteBehind:parked";
+
+    private static final String REPLAY_JOB_NAME = "messageDeadLetterReplay";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MessageBatchWriter messageBatchWriter;
+    private final JobLockService jobLockService;
+
+    @Value("${hearting.message.write-behind.dead-letter.replay-batch-size:500}")
+    private int replayBatchSize;
+
+    @Value("${hearting.message.write-behind.dead-letter.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * 저장하지 못한 메시지를 보관합니다.
+     */
+    public void add(PendingMessage message) {
+        String json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            drop(message, e);
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForList().rightPush(KEY_DEAD_LETTER, json);
+            deadLetteredCount.incrementAndGet();
+            log.warn("저장하지 못한 메시지를 재시도 목록에 보관했습니다. - {}", message.getId());
+        } catch (RuntimeException e) {
+            drop(message, e);
+        }
+    }
+
+    /**
+     * 보관한 메시지를 한 주기에 최대 replay-batch-size개 다시 저장합니다. DB 장애로 실패하면 남은 메시지는 다음 주기에 다시 시도합니다.
+     * 여러 인스턴스가 같은 메시지를 동시에 저장하지 않도록 작업 락을 잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${hearting.message.write-behind.dead-letter.replay-interval-ms:60000}", initialDelayString = "${hearting.message.write-behind.dead-letter.replay-initial-delay-ms:10000}")
+    public void replay() {
+        long size;
+        String token;
+        try {
+            Long length = stringRedisTemplate.opsForList().size(KEY_DEAD_LETTER);
+            if (length == null || length == 0) return;
+            size = length;
+            token = jobLockService.tryLock(REPLAY_JOB_NAME, Duration.ofMillis(lockTtlMs));
+        } catch (RuntimeException e) {
+            log.warn("저장하지 못한 메시지 목록을 확인하지 못했습니다.", e);
+            return;
+        }
+        if (token == null) return;
+
+        try {
+            int replayed = 0;
+            for (long i = 0; i < Math.min(size, replayBatchSize); i++) {
+                // 꺼내는 대신 목록 안에서 앞으로 옮겨, 처리 도중 중단되어도 메시지가 남아 있게 합니다.
+                // 다시 저장하지 못한 메시지는 앞에 남아 다음 메시지를 막지 않습니다.
+                String json = stringRedisTemplate.opsForList().rightPopAndLeftPush(KEY_DEAD_LETTER, KEY_DEAD_LETTER);
+                if (json == null) break;
+
+                ReplayResult result = replayOne(json);
+                if (result == ReplayResult.DONE) {
+                    stringRedisTemplate.opsForList().remove(KEY_DEAD_LETTER, 1, json);
+                    replayed++;
+                } else if (result == ReplayResult.SKIPPED) {
+                    park(json);
+                } else {
+                    break;
+                }
+            }
+            if (replayed > 0) log.info("저장하지 못했던 메시지 {}개를 다시 저장했습니다.", replayed);
+        } catch (RuntimeException e) {
+            log.warn("저장하지 못한 메시지를 다시 저장하는 중 오류가 발생했습니다.", e);
+        } finally {
+            jobLockService.unlock(REPLAY_JOB_NAME, token);
+        }
+    }
+
+    private ReplayResult replayOne(String json) {
+        PendingMessage message;
+        try {
+            message = OBJECT_MAPPER.readValue(json, PendingMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("저장하지 못한 메시지를 읽을 수 없습니다. - {}", json, e);
+            return ReplayResult.SKIPPED;
+        }
+
+        try {
+            messageBatchWriter.write(Collections.singletonList(message));
+        } catch (DuplicateKeyException e) {
+            // 이전 재시도에서 이미 저장된 경우가 아니면 다른 메시지와 ID가 겹친 경우
+            // ID는 이미 응답으로 전달되었으므로 다른 ID로 저장하지 않습니다.
+            if (!messageBatchWriter.isStored(message)) {
+                log.error("메시지 ID가 다른 메시지와 겹쳐 다시 저장하지 못했습니다. - {}", message, e);
+                return ReplayResult.SKIPPED;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 수신자가 탈퇴한 경우 등, 이 메시지만의 문제
+            log.error("메시지를 다시 저장하지 못했습니다. - {}", message, e);
+            return ReplayResult.SKIPPED;
+        } catch (RuntimeException e) {
+            // DB 장애 등, 다음 메시지도 실패할 가능성이 높으므로 다음 주기에 다시 시도합니다.
+            log.warn("저장하지 못한 메시지를 다시 저장하지 못했습니다. - {}", message.getId(), e);
+            return ReplayResult.RETRY_LATER;
+        }
+        replayedCount.incrementAndGet();
+        return ReplayResult.DONE;
+    }
+
+    /**
+     * 다시 저장할 수 없는 메시지를 재시도 목록에서 빼서 별도 리스트로 옮깁니다. 옮긴 뒤 지우므로 중간에 중단되어도 메시지는 남습니다.
+     */
+    private void park(String json) {
+        stringRedisTemplate.opsForList().rightPush(KEY_PARKED, json);
+        stringRedisTemplate.opsForList().remove(KEY_DEAD_LETTER, 1, json);
+        droppedCount.incrementAndGet();
+        log.error("다시 저장할 수 없는 메시지를 {}로 옮겼습니다. 확인이 필요합니다. - {}", KEY_PARKED, json);
+    }
+
+    private void drop(PendingMessage message, Exception e) {
+        droppedCount.incrementAndGet();
+        log.error("메시지를 저장하지도, 재시도 목록에 보관하지도 못했습니다. 유실된 메시지 - {}", message, e);
+    }
+
+    private enum ReplayResult {
+        DONE, SKIPPED, RETRY_LATER
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("message.write-behind.dead-lettered", deadLetteredCount, AtomicLong::get)
+                .description("DB에 저장하지 못해 재시도 목록에 보관한 메시지 수")
+                .register(registry);
+        FunctionCounter.builder("message.write-behind.replayed", replayedCount, AtomicLong::get)
+                .description("재시도 목록에서 다시 저장한 메시지 수")
+                .register(registry);
+        FunctionCounter.builder("message.write-behind.dropped", droppedCount, AtomicLong::get)
+                .description("저장하지 못하고 재시도 목록에도 보관하지 못했거나, 다시 저장할 수 없어 별도 리스트로 옮긴 메시지 수")
+                .register(registry);
+        Gauge.builder("message.write-behind.dead-letter.size", this, MessageDeadLetterQueue::size)
+                .description("재시도 목록에 남은 메시지 수")
+                .register(registry);
+    }
+
+    private double size() {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(KEY_DEAD_LETTER);
+            return size == null ? 0 : size;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.db.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * 메시지를 DB에 저장하기 전에 메시지 ID를 미리 발급합니다.
+ * Redis 시퀀스에서 블록 단위로 ID를 예약하고, 예약된 범위 안에서는 로컬에서 발급합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageIdAllocator {
+
+    public static final String KEY_MESSAGE_ID_SEQUENCE = "sequence:messageId";
+
+    // 시퀀스가 DB의 최대 ID보다 작으면 DB의 최대 ID로 맞춥니다.
+    private static final RedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+                    "local floor = tonumber(ARGV[1]) " +
+                    "if current < floor then redis.call('SET', KEYS[1], floor) return floor end " +
+                    "return current", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MessageRepository messageRepository;
+
+    @Value("${hearting.message.write-behind.id-block-size:100}")
+    private int blockSize;
+
+    private long next;
+    private long last;
+    private boolean synced;
+    // 이 인스턴스가 발급한 가장 큰 ID
+    private long highestIssued;
+
+    /**
+     * Redis 시퀀스를 DB에 저장된 최대 메시지 ID와 이 인스턴스가 발급한 최대 ID 이상으로 맞추고, 예약해 둔 블록은 버립니다.
+     */
+    public synchronized void syncWithDatabase() {
+        long floor = Math.max(messageRepository.findMaxId(), highestIssued);
+        Long current = redisTemplate.execute(SYNC_SCRIPT, Collections.singletonList(KEY_MESSAGE_ID_SEQUENCE), floor);
+        next = 0;
+        last = -1;
+        synced = true;
+        log.info("메시지 ID 시퀀스를 동기화했습니다. 기준 ID:{} 시퀀스:{}", floor, current);
+    }
+
+    public synchronized long nextId() {
+        if (!synced) syncWithDatabase();
+        if (next > last) reserve();
+        highestIssued = next;
+        return next++;
+    }
+
+    private void reserve() {
+        long reserved = redisTemplate.opsForValue().increment(KEY_MESSAGE_ID_SEQUENCE, blockSize);
+        // Redis 초기화, 장애 조치로 시퀀스가 되돌아간 경우 다시 맞춥니다.
+        if (reserved - blockSize < highestIssued) {
+            log.warn("메시지 ID 시퀀스가 이미 발급한 ID({})보다 작습니다. 시퀀스:{}", highestIssued, reserved);
+            syncWithDatabase();
+            reserved = redisTemplate.opsForValue().increment(KEY_MESSAGE_ID_SEQUENCE, blockSize);
+        }
+        last = reserved;
+        next = reserved - blockSize + 1;
+    }
+}
@@ -0,0 +1,253 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.db.domain.Message;
+import com.chillin.hearting.exception.MessageQueueFullException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송의 DB 쓰기를 요청 스레드에서 분리하는 write-behind 파이프라인입니다.
+ * 요청 스레드는 ID를 발급받고 큐 자리를 예약한 뒤, 트랜잭션이 커밋되면 큐에 적재합니다. 롤백되면 예약한 자리만 반납합니다.
+ * writer 스레드는 큐에 쌓인 메시지를 배치로 저장합니다.
+ * hearting.message.write-behind.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageIngestionPipeline {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final MessageIdAllocator messageIdAllocator;
+    private final MessageBatchWriter messageBatchWriter;
+    private final MessageDeadLetterQueue messageDeadLetterQueue;
+
+    @Value("${hearting.message.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${hearting.message.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${hearting.message.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${hearting.message.write-behind.offer-timeout-ms:200}")
+    private long offerTimeoutMs;
+
+    @Value("${hearting.message.write-behind.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<PendingMessage> queue;
+    // 큐 자리 예약, 커밋 전 메시지와 큐에 있는 메시지 수의 합이 queueCapacity를 넘지 않습니다.
+    private Semaphore slots;
+    // writer 스레드가 저장하고 있는 배치 크기
+    private volatile int writing;
+    private Thread writer;
+    private volatile boolean running;
+    // writer 스레드가 종료되어 큐를 더 이상 비우지 않음
+    private boolean stopped;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        slots = new Semaphore(queueCapacity);
+        messageIdAllocator.syncWithDatabase();
+        running = true;
+
+        writer = new Thread(this::runWriter, "message-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+
+        log.info("메시지 write-behind 파이프라인을 시작했습니다. 큐 크기:{} 배치 크기:{}", queueCapacity, batchSize);
+    }
+
+    /**
+     * 새 메시지를 받지 않고, 큐에 남은 메시지를 모두 저장한 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer == null) return;
+
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시간 안에 저장하지 못한 메시지와, 이후 커밋된 메시지는 재시도 목록에 보관합니다.
+        List<PendingMessage> remaining = new ArrayList<>();
+        synchronized (this) {
+            stopped = true;
+            queue.drainTo(remaining);
+        }
+        if (!remaining.isEmpty()) {
+            log.error("종료 시간 안에 저장하지 못한 메시지 {}개를 재시도 목록에 보관합니다.", remaining.size());
+            remaining.forEach(messageDeadLetterQueue::add);
+        }
+        log.info("메시지 write-behind 파이프라인을 종료했습니다.");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은 메시지 수 (커밋을 기다리는 메시지, 저장 중인 배치 포함)
+     */
+    public int pendingCount() {
+        return slots == null ? 0 : queueCapacity - slots.availablePermits() + writing;
+    }
+
+    /**
+     * 메시지 ID를 발급하고 큐 자리를 예약합니다. 트랜잭션 안에서 호출하면 커밋된 뒤에 큐에 적재하고, 롤백되면 적재하지 않습니다.
+     * 큐가 가득 찬 상태가 offer-timeout 동안 풀리지 않으면 MessageQueueFullException을 던집니다.
+     */
+    public PendingMessage submit(long heartId, String senderId, String receiverId, String title, String content, String senderIp, String notificationContent) {
+        if (!running) throw new MessageQueueFullException();
+
+        try {
+            if (!slots.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessageQueueFullException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessageQueueFullException();
+        }
+
+        PendingMessage pendingMessage;
+        try {
+            pendingMessage = create(heartId, senderId, receiverId, title, content, senderIp, notificationContent);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(pendingMessage);
+            return pendingMessage;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    enqueue(pendingMessage);
+                } else {
+                    slots.release();
+                }
+            }
+        });
+        return pendingMessage;
+    }
+
+    private void enqueue(PendingMessage pendingMessage) {
+        synchronized (this) {
+            if (!stopped) {
+                queue.add(pendingMessage);
+                return;
+            }
+        }
+        slots.release();
+        messageDeadLetterQueue.add(pendingMessage);
+    }
+
+    private PendingMessage create(long heartId, String senderId, String receiverId, String title, String content, String senderIp, String notificationContent) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        return PendingMessage.builder()
+                .id(messageIdAllocator.nextId())
+                .heartId(heartId)
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .title(title)
+                .content(content)
+                .senderIp(senderIp)
+                .notificationContent(notificationContent)
+                .createdDate(now)
+                .expiredDate(now.plusHours(Message.EXPIRY_TIME))
+                .build();
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                slots.release(batch.size());
+                writing = batch.size();
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                writing = 0;
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                messageBatchWriter.write(batch);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 시퀀스가 되돌아가 다른 메시지와 ID가 겹친 경우, 이후 발급할 ID가 겹치지 않도록 시퀀스를 다시 맞춥니다.
+                log.error("메시지 ID가 이미 저장된 메시지와 겹칩니다. 시퀀스를 다시 맞춥니다. 건수:{}", batch.size(), e);
+                resyncIds();
+                break;
+            } catch (RuntimeException e) {
+                log.error("메시지 배치 저장에 실패했습니다. 시도:{}/{} 건수:{}", attempt, MAX_WRITE_ATTEMPTS, batch.size(), e);
+            }
+        }
+
+        // 배치 전체가 실패하면 한 건씩 저장하고, 저장하지 못한 메시지는 재시도 목록에 보관합니다.
+        for (PendingMessage pendingMessage : batch) {
+            writeOne(pendingMessage);
+        }
+    }
+
+    private void writeOne(PendingMessage pendingMessage) {
+        try {
+            messageBatchWriter.write(Collections.singletonList(pendingMessage));
+        } catch (DuplicateKeyException e) {
+            // ID는 이미 응답으로 전달되었으므로 다른 ID로 저장하지 않습니다.
+            log.error("메시지 ID가 다른 메시지와 겹쳐 저장하지 못했습니다. 재시도 목록에 보관합니다. {}", pendingMessage.getId(), e);
+            messageDeadLetterQueue.add(pendingMessage);
+        } catch (RuntimeException e) {
+            log.error("메시지를 저장하지 못했습니다. {}", pendingMessage.getId(), e);
+            messageDeadLetterQueue.add(pendingMessage);
+        }
+    }
+
+    private void resyncIds() {
+        try {
+            messageIdAllocator.syncWithDatabase();
+        } catch (RuntimeException e) {
+            log.error("메시지 ID 시퀀스를 다시 맞추지 못했습니다.", e);
+        }
+    }
+}
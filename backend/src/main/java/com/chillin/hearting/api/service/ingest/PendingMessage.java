@@ -0,0 +1,37 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 큐에 적재되어 DB 반영을 기다리는 메시지입니다.
+ * notificationContent가 없으면 수신자 알림을 만들지 않습니다.
+ * 저장에 실패하면 JSON으로 {@link MessageDeadLetterQueue}에 보관됩니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+@ToString
+public class PendingMessage {
+
+    private final long id;
+    private final long heartId;
+    private final String senderId;
+    private final String receiverId;
+    private final String title;
+    private final String content;
+    private final String senderIp;
+    private final String notificationContent;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime expiredDate;
+
+    @JsonIgnore
+    public boolean hasNotification() {
+        return notificationContent != null;
+    }
+}
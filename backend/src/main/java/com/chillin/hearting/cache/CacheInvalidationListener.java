@@ -0,0 +1,44 @@
+package com.chillin.hearting.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 보낸 캐시 무효화 알림을 받아 이 인스턴스의 L1 캐시에서 제거합니다.
+ * 이 인스턴스가 보낸 알림은 이미 반영되어 있으므로 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager twoLevelCacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheInvalidationPublisher.CHANNEL_CACHE_INVALIDATION));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = CacheInvalidationPublisher.parse(body);
+        if (parts == null) {
+            log.warn("캐시 무효화 알림 형식이 올바르지 않습니다. - {}", body);
+            return;
+        }
+        if (cacheInvalidationPublisher.getInstanceId().equals(parts[0])) return;
+
+        twoLevelCacheManager.evictLocal(parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,51 @@
+package com.chillin.hearting.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 알림을 Redis Pub/Sub으로 다른 인스턴스에 보냅니다.
+ * 알림은 "인스턴스ID|캐시 이름|키" 형식이며, 키가 비어 있으면 캐시 전체를 비웁니다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL_CACHE_INVALIDATION = "cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * @param cacheName
+     * @param key       무효화할 키, null이면 캐시 전체
+     */
+    public void publish(String cacheName, String key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_CACHE_INVALIDATION, message);
+        } catch (RuntimeException e) {
+            // 알림이 유실되어도 다른 인스턴스의 L1은 localTtl 이후 만료됩니다.
+            log.warn("캐시 무효화 알림을 보내지 못했습니다. - {}", message, e);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 알림을 [인스턴스ID, 캐시 이름, 키] 로 나눕니다. 형식이 맞지 않으면 null을 반환합니다.
+     */
+    public static String[] parse(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        return parts.length == 3 ? parts : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.chillin.hearting.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시에 등록되는 캐시 목록입니다.
+ * Redis(L2) 보관 시간과 인스턴스 메모리(L1) 보관 시간, L1 최대 항목 수를 캐시마다 따로 지정합니다.
+ * L1 무효화 알림은 유실될 수 있으므로 L1 보관 시간이 인스턴스 간 불일치가 유지될 수 있는 최대 시간입니다.
+ */
+@Getter
+public enum CacheType {
+
+    BOARD_OWNER(Names.BOARD_OWNER, Duration.ofMinutes(30), Duration.ofMinutes(1), 10_000),
+    HEART_CONDITIONS(Names.HEART_CONDITIONS, Duration.ofMinutes(10), Duration.ofSeconds(30), 10_000),
+    USER_PRINCIPAL(Names.USER_PRINCIPAL, Duration.ofMinutes(5), Duration.ofSeconds(30), 50_000);
+
+    private final String cacheName;
+    private final Duration ttl;
+    private final Duration localTtl;
+    private final long localMaxSize;
+
+    CacheType(String cacheName, Duration ttl, Duration localTtl, long localMaxSize) {
+        this.cacheName = cacheName;
+        this.ttl = ttl;
+        this.localTtl = localTtl;
+        this.localMaxSize = localMaxSize;
+    }
+
+    /**
+     * {@code @Cacheable} 등 어노테이션에서 사용할 캐시 이름 상수
+     */
+    public static final class Names {
+
+        public static final String BOARD_OWNER = "boardOwner";
+        public static final String HEART_CONDITIONS = "heartConditions";
+        public static final String USER_PRINCIPAL = "userPrincipal";
+
+        private Names() {
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.chillin.hearting.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 메모리(Caffeine, L1)를 Redis 캐시(L2) 앞에 둔 캐시입니다.
+ * 조회는 L1, L2 순서로 찾고 L2에서 찾은 값은 L1에 올립니다.
+ * 값이 바뀌거나 삭제되면 L2에 반영한 뒤 다른 인스턴스에 L1 무효화 알림을 보냅니다.
+ * L1에 있는 값은 여러 요청이 같은 객체를 공유하므로 캐시된 값은 수정하지 않습니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder remoteHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache, CacheInvalidationPublisher invalidationPublisher) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = toCacheKey(key);
+
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            localHitCount.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(cacheKey);
+        if (remoteValue != null && remoteValue.get() != null) {
+            remoteHitCount.increment();
+            localCache.put(cacheKey, remoteValue.get());
+            return remoteValue;
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시된 값의 타입이 " + type.getName() + " 이 아닙니다. - " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) return (T) wrapper.get();
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        // 새로 불러온 값은 다른 인스턴스의 L1에 없으므로 무효화 알림을 보내지 않습니다.
+        if (value != null) {
+            String cacheKey = toCacheKey(key);
+            remoteCache.put(cacheKey, value);
+            localCache.put(cacheKey, value);
+            putCount.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+
+        String cacheKey = toCacheKey(key);
+        remoteCache.put(cacheKey, value);
+        localCache.put(cacheKey, value);
+        putCount.increment();
+        invalidationPublisher.publish(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        remoteCache.evict(cacheKey);
+        localCache.invalidate(cacheKey);
+        invalidationPublisher.publish(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 알림을 받았을 때 이 인스턴스의 L1에서만 제거합니다.
+     */
+    public void evictLocal(String cacheKey) {
+        localCache.invalidate(cacheKey);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    public long getLocalHitCount() {
+        return localHitCount.sum();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    public long getLocalEvictionCount() {
+        return localCache.stats().evictionCount();
+    }
+
+    /**
+     * Redis 키와 L1 키, 무효화 알림의 키를 같게 맞추기 위해 문자열로 변환합니다.
+     */
+    private static String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,63 @@
+package com.chillin.hearting.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheType}에 등록된 캐시만 {@link TwoLevelCache}로 만들어 제공합니다.
+ * 트랜잭션 안에서의 put, evict는 커밋 이후에 반영되어, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 합니다.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, CacheInvalidationPublisher invalidationPublisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected List<Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (CacheType type : CacheType.values()) {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                    .maximumSize(type.getLocalMaxSize())
+                    .expireAfterWrite(type.getLocalTtl())
+                    .recordStats()
+                    .build();
+            Cache remoteCache = remoteCacheManager.getCache(type.getCacheName());
+
+            TwoLevelCache cache = new TwoLevelCache(type.getCacheName(), localCache, remoteCache, invalidationPublisher);
+            twoLevelCaches.put(type.getCacheName(), cache);
+            caches.add(cache);
+        }
+        return caches;
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 알림을 이 인스턴스의 L1에 반영합니다.
+     *
+     * @param cacheName
+     * @param key       제거할 키, 비어 있으면 캐시 전체
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache == null) return;
+
+        if (key == null || key.isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.chillin.hearting.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * {@link TwoLevelCache}의 적중, 실패 수를 Micrometer 지표로 등록합니다.
+ * 공통 지표(cache.gets, cache.puts 등)는 L1, L2를 합친 값이고, cache.level.gets 에서 단계별 적중 수를 확인할 수 있습니다.
+ */
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    public TwoLevelCacheMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getLocalSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0 : cache.getLocalHitCount() + cache.getRemoteHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getLocalEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0 : cache.getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        if (cache == null) return;
+
+        FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::getLocalHitCount)
+                .tags(getTagsWithCacheName()).tag("level", "local")
+                .description("단계별 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::getRemoteHitCount)
+                .tags(getTagsWithCacheName()).tag("level", "remote")
+                .description("단계별 캐시 적중 수")
+                .register(registry);
+        Gauge.builder("cache.local.size", cache, TwoLevelCache::getLocalSize)
+                .tags(getTagsWithCacheName())
+                .description("인스턴스 메모리(L1) 캐시 항목 수")
+                .register(registry);
+    }
+}
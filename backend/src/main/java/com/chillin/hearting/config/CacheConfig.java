@@ -0,0 +1,82 @@
+package com.chillin.hearting.config;
+
+import com.chillin.hearting.cache.CacheInvalidationPublisher;
+import com.chillin.hearting.cache.CacheType;
+import com.chillin.hearting.cache.TwoLevelCache;
+import com.chillin.hearting.cache.TwoLevelCacheManager;
+import com.chillin.hearting.cache.TwoLevelCacheMeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인스턴스 메모리(L1) + Redis(L2) 2단계 캐시 설정
+ * 캐시별 보관 시간은 {@link CacheType}에 등록합니다.
+ */
+@Configuration
+public class CacheConfig extends CachingConfigurerSupport {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisCacheConfiguration defaultConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .disableCachingNullValues()
+                .serializeKeysWith(RedisSerializationContext
+                        .SerializationPair
+                        .fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext
+                        .SerializationPair
+                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+
+        // 캐시별 entryTtl 설정
+        Map<String, RedisCacheConfiguration> cacheConfigurationMap = new HashMap<>();
+        for (CacheType type : CacheType.values()) {
+            cacheConfigurationMap.put(type.getCacheName(), defaultConfiguration.entryTtl(type.getTtl()));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .RedisCacheManagerBuilder
+                .fromConnectionFactory(redisConnectionFactory)
+                .cacheDefaults(defaultConfiguration)
+                .withInitialCacheConfigurations(cacheConfigurationMap)
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, cacheInvalidationPublisher);
+    }
+
+    /**
+     * 2단계 캐시 적중, 실패 수를 /actuator/metrics 의 cache.* 지표로 등록합니다.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMeterBinder::new;
+    }
+
+    /**
+     * Redis 장애 등으로 캐시 조회, 저장에 실패하면 로그만 남기고 DB 조회로 진행합니다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+}
@@ -2,6 +2,7 @@ package com.chillin.hearting.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -17,6 +18,8 @@ public class CorsConfig {
         config.addAllowedOriginPattern("*");
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        // 받은 메시지 보드 조건부 조회(If-None-Match)에 사용
+        config.addExposedHeader(HttpHeaders.ETAG);
         source.registerCorsConfiguration("/**", config);
 
         return new CorsFilter(source);
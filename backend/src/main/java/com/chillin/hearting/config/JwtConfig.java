@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class JwtConfig {
@@ -16,9 +18,15 @@ public class JwtConfig {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${hearting.jwt.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
+    @Value("${hearting.jwt.verified-token-cache.ttl-seconds:300}")
+    private long verifiedTokenCacheTtlSeconds;
+
     @Bean
     public AuthTokenProvider jwtProvider() {
-        return new AuthTokenProvider(secret, userRepository);
+        return new AuthTokenProvider(secret, userRepository, verifiedTokenCacheSize, Duration.ofSeconds(verifiedTokenCacheTtlSeconds));
     }
 
 }
\ No newline at end of file
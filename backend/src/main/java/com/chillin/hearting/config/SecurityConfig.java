@@ -1,5 +1,6 @@
 package com.chillin.hearting.config;
 
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.exception.RestAuthenticationEntryPoint;
 import com.chillin.hearting.jwt.AuthTokenProvider;
 import com.chillin.hearting.jwt.TokenAccessDeniedHandler;
@@ -16,13 +17,22 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 로그인이 필요한 요청 (필터에서 바로 인증합니다)
+    private static final String[] AUTHENTICATED_URIS = {"/api/v1/auth/users/**", "/api/v1/messages/inbox/**", "/api/v1/messages/sent/**"};
+    private static final String[] ADMIN_URIS = {"/actuator/**"};
+
     private final CorsFilter corsFilter;
     private final AuthTokenProvider tokenProvider;
+    private final SuspendedUserRegistry suspendedUserRegistry;
     private final TokenAccessDeniedHandler tokenAccessDeniedHandler;
 
     @Bean
@@ -45,7 +55,9 @@ public class SecurityConfig {
                 .httpBasic().disable()
                 .authorizeRequests()
                 .antMatchers("/api/v1/auth/users/access-token").permitAll()
-                .antMatchers("/api/v1/auth/users/**", "/api/v1/messages/inbox/**", "/api/v1/messages/sent/**").authenticated()
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers(ADMIN_URIS).hasRole("ADMIN")
+                .antMatchers(AUTHENTICATED_URIS).authenticated()
                 .anyRequest().permitAll()
                 .and()
                 .logout()
@@ -67,7 +79,9 @@ public class SecurityConfig {
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        List<String> eagerAuthenticationUris = new ArrayList<>(Arrays.asList(AUTHENTICATED_URIS));
+        eagerAuthenticationUris.addAll(Arrays.asList(ADMIN_URIS));
+        return new TokenAuthenticationFilter(tokenProvider, suspendedUserRegistry, eagerAuthenticationUris);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.chillin.hearting.config;
+
+import com.chillin.hearting.admission.AdmissionControlInterceptor;
+import com.chillin.hearting.admission.AdmissionControlRegistry;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AuthTokenProvider tokenProvider;
+    private final SuspendedUserRegistry suspendedUserRegistry;
+    private final AdmissionControlRegistry admissionControlRegistry;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LoginUserArgumentResolver(tokenProvider, suspendedUserRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        for (AdmissionControlInterceptor interceptor : admissionControlRegistry.getInterceptors()) {
+            registry.addInterceptor(interceptor).addPathPatterns(interceptor.getPaths());
+        }
+    }
+}
@@ -8,6 +8,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_message_receiver_active_created", columnList = "receiver_id, is_active, created_date"),
+        @Index(name = "idx_message_sender_expired", columnList = "sender_id, expired_date"),
+        @Index(name = "idx_message_receiver_stored_created", columnList = "receiver_id, is_stored, created_date"),
+        @Index(name = "idx_message_sender_created", columnList = "sender_id, created_date"),
+        @Index(name = "idx_message_sender_heart_receiver", columnList = "sender_id, heart_id, receiver_id"),
+        @Index(name = "idx_message_receiver_heart", columnList = "receiver_id, heart_id"),
+        @Index(name = "idx_message_active_expired", columnList = "is_active, expired_date")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -15,7 +24,7 @@ import java.time.ZoneId;
 @ToString
 public class Message implements Serializable {
 
-    private static final int EXPIRY_TIME = 24;
+    public static final int EXPIRY_TIME = 24;
 
     // PK
     @Id
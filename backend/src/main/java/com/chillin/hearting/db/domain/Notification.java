@@ -8,6 +8,10 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_user_active_created", columnList = "user_id, is_active, created_date"),
+        @Index(name = "idx_notification_active_expired", columnList = "is_active, expired_date")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -15,7 +19,7 @@ import java.time.ZoneId;
 @ToString
 public class Notification implements Serializable {
 
-    private static final int EXPIRY_TIME = 24;
+    public static final int EXPIRY_TIME = 24;
 
     // PK
     @Id
@@ -7,7 +7,10 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
-@Table(name = "\"user\"")
+@Table(name = "\"user\"", indexes = {
+        @Index(name = "idx_user_email_type", columnList = "email, type"),
+        @Index(name = "idx_user_nickname", columnList = "nickname")
+})
 @ToString
 @Entity
 @Getter
@@ -60,8 +63,8 @@ public class User implements Serializable {
     @Column(nullable = false, length = 15)
     private String role;
 
-    // 회원별 메시지 total
-    @Column(name = "message_total")
+    // 회원별 메시지 total (MessageTotalService가 Redis 카운터를 주기적으로 반영하므로 엔티티 저장 시에는 갱신하지 않음)
+    @Column(name = "message_total", updatable = false)
     private Long messageTotal;
 
     // Default Value 설정
@@ -102,11 +105,6 @@ public class User implements Serializable {
         this.nickname = nickname;
     }
 
-    // message_total 추가
-    public void updateMessageTotal() {
-        this.messageTotal++;
-    }
-
     // 상태메시지 수정
     public void updateStatusMessage(String statusMessage, LocalDateTime nowLocalTime) {
         this.updatedDate = nowLocalTime;
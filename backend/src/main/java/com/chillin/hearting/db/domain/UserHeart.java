@@ -10,6 +10,9 @@ import java.time.ZoneId;
 
 @Slf4j
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_heart_user_heart", columnNames = {"user_id", "heart_id"})
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,11 +1,26 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.SuspendedUserData;
 import com.chillin.hearting.db.domain.BlockedUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BlockedUserRepository extends JpaRepository<BlockedUser, Long> {
 
     Optional<BlockedUser> findByUserId(String userId);
+
+    /**
+     * 정지 기간이 끝나지 않은 유저와 가장 늦은 정지 종료 일시를 조회합니다.
+     */
+    @Query("select new com.chillin.hearting.api.data.SuspendedUserData(u.id, u.status, max(b.endDate)) " +
+            "from BlockedUser b join b.user u " +
+            "where u.status in :statuses and b.endDate > :now " +
+            "group by u.id, u.status")
+    List<SuspendedUserData> findSuspendedUsers(@Param("statuses") Collection<Character> statuses, @Param("now") LocalDateTime now);
 }
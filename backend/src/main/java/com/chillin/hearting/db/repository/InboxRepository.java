@@ -1,8 +1,13 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.InboxMessageDTO;
 import com.chillin.hearting.db.domain.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +17,27 @@ public interface InboxRepository extends JpaRepository<Message, Long> {
 
     public List<Message> findAllByReceiverIdAndIsStored(String userId, Boolean isStored);
 
+    @Query("select m.id as messageId, m.title as title, m.content as messageContent, " +
+            "h.id as heartId, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.receiver.id = :userId and m.isStored = true " +
+            "order by m.id")
+    public List<InboxMessageDTO> findInboxMessages(@Param(value = "userId") String userId);
+
+    @Query("select m.id as messageId, m.title as title, m.content as messageContent, " +
+            "h.id as heartId, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.receiver.id = :userId and m.isStored = true " +
+            "and m.createdDate <= :cursorDate and (m.createdDate < :cursorDate or m.id < :cursorId) " +
+            "order by m.createdDate desc, m.id desc")
+    public List<InboxMessageDTO> findInboxMessagesBefore(@Param(value = "userId") String userId,
+                                                         @Param(value = "cursorDate") LocalDateTime cursorDate, @Param(value = "cursorId") Long cursorId,
+                                                         Pageable pageable);
+
     public Optional<Message> findByIdAndReceiverIdAndIsStored(Long messageId, String userId, Boolean isStored);
 
 }
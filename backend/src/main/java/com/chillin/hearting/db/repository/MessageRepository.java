@@ -1,19 +1,56 @@
 package com.chillin.hearting.db.repository;
 
 import com.chillin.hearting.api.data.HeartCountDTO;
+import com.chillin.hearting.api.data.ReceivedMessageDTO;
+import com.chillin.hearting.api.data.ReceiverMessageCountDTO;
 import com.chillin.hearting.db.domain.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findByReceiverIdAndIsActiveTrue(String userId, Sort sort);
 
+    @Query("select m.id as messageId, m.title as title, " +
+            "h.id as heartId, h.name as heartName, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate, m.expiredDate as expiredDate, m.isRead as isRead " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.receiver.id = :userId and m.isActive = true and m.expiredDate > :now " +
+            "order by m.createdDate desc")
+    List<ReceivedMessageDTO> findReceivedMessages(@Param(value = "userId") String userId, @Param(value = "now") LocalDateTime now);
+
+    @Query("select m.id as messageId, m.title as title, " +
+            "h.id as heartId, h.name as heartName, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate, m.expiredDate as expiredDate, m.isRead as isRead " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.receiver.id = :userId and m.isActive = true and m.expiredDate > :now " +
+            "and m.createdDate <= :cursorDate and (m.createdDate < :cursorDate or m.id < :cursorId) " +
+            "order by m.createdDate desc, m.id desc")
+    List<ReceivedMessageDTO> findReceivedMessagesBefore(@Param(value = "userId") String userId, @Param(value = "now") LocalDateTime now,
+                                                        @Param(value = "cursorDate") LocalDateTime cursorDate, @Param(value = "cursorId") Long cursorId,
+                                                        Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query(value = "update message set is_active = false " +
+            "where is_active = true and expired_date <= :now " +
+            "limit :chunkSize", nativeQuery = true)
+    int deactivateExpiredMessages(@Param(value = "now") LocalDateTime now, @Param(value = "chunkSize") int chunkSize);
+
     List<Message> findByReceiverIdAndSenderIp(String receiverId, String senderIp);
 
+    @Query("select coalesce(max(m.id), 0) from Message m")
+    Long findMaxId();
+
     @Query(value = "SELECT COUNT(*) " +
             "FROM message " +
             "WHERE sender_ip IS NULL OR sender_ip != :senderIp", nativeQuery = true)
@@ -26,6 +63,11 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             "limit 1", nativeQuery = true)
     Integer findMaxMessageCountToSameUser(@Param(value = "userId") String userId, @Param(value = "heartId") Long heartId);
 
+    @Query(value = "select receiver_id as receiverId, count(*) as messageCount from message " +
+            "where sender_id= :userId and heart_id= :heartId " +
+            "group by receiver_id", nativeQuery = true)
+    List<ReceiverMessageCountDTO> findMessageCountPerReceiver(@Param(value = "userId") String userId, @Param(value = "heartId") Long heartId);
+
     @Query(value = "select id as heartId, name, image_url as heartUrl, ifnull(" +
             "(select count(*) from message where sender_id=:userId and heart_id=h.id group by heart_id),0) as currentValue " +
             "from heart as h ", nativeQuery = true)
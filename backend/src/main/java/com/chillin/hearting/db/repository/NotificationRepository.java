@@ -3,10 +3,22 @@ package com.chillin.hearting.db.repository;
 import com.chillin.hearting.db.domain.Notification;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findByUserIdAndIsActiveTrue(String userId, Sort sort);
+    List<Notification> findByUserIdAndIsActiveTrueAndExpiredDateAfter(String userId, LocalDateTime now, Sort sort);
+
+    @Modifying
+    @Transactional
+    @Query(value = "update notification set is_active = false " +
+            "where is_active = true and expired_date <= :now " +
+            "limit :chunkSize", nativeQuery = true)
+    int deactivateExpiredNotifications(@Param(value = "now") LocalDateTime now, @Param(value = "chunkSize") int chunkSize);
 }
@@ -1,7 +1,11 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.SentMessageDTO;
 import com.chillin.hearting.db.domain.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,4 +15,25 @@ public interface SentMessageRepository extends JpaRepository<Message, Long> {
     List<Message> findBySenderIdAndExpiredDateAfterOrderByExpiredDate(String userId, LocalDateTime now);
 
     Optional<Message> findByIdAndSenderId(Long messageId, String userId);
+
+    @Query("select m.id as messageId, m.title as title, h.shortDescription as shortDescription, " +
+            "h.id as heartId, h.name as heartName, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate, m.expiredDate as expiredDate " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.sender.id = :userId and m.expiredDate > :now " +
+            "order by m.expiredDate")
+    List<SentMessageDTO> findSentMessages(@Param(value = "userId") String userId, @Param(value = "now") LocalDateTime now);
+
+    @Query("select m.id as messageId, m.title as title, h.shortDescription as shortDescription, " +
+            "h.id as heartId, h.name as heartName, h.imageUrl as heartUrl, " +
+            "e.id as emojiId, e.name as emojiName, e.imageUrl as emojiUrl, " +
+            "m.createdDate as createdDate, m.expiredDate as expiredDate " +
+            "from Message m join m.heart h left join m.emoji e " +
+            "where m.sender.id = :userId and m.expiredDate > :now " +
+            "and m.createdDate >= :cursorDate and (m.createdDate > :cursorDate or m.id > :cursorId) " +
+            "order by m.createdDate, m.id")
+    List<SentMessageDTO> findSentMessagesAfter(@Param(value = "userId") String userId, @Param(value = "now") LocalDateTime now,
+                                               @Param(value = "cursorDate") LocalDateTime cursorDate, @Param(value = "cursorId") Long cursorId,
+                                               Pageable pageable);
 }
@@ -2,7 +2,11 @@ package com.chillin.hearting.db.repository;
 
 import com.chillin.hearting.db.domain.UserHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,20 @@ public interface UserHeartRepository extends JpaRepository<UserHeart, Long> {
     List<UserHeart> findAllByUserIdOrderByHeartId(String userId);
 
     Optional<UserHeart> findByHeartIdAndUserId(Long heartId, String userId);
+
+    /**
+     * (user_id, heart_id) 유니크 키로 중복을 막고, 이미 획득한 하트면 저장하지 않습니다.
+     *
+     * @return 저장된 행 수 (이미 획득한 하트면 0)
+     */
+    @Modifying
+    @Query(value = "insert ignore into user_heart (user_id, heart_id, created_date) " +
+            "values (:userId, :heartId, :createdDate)", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("heartId") Long heartId, @Param("createdDate") LocalDateTime createdDate);
+
+    @Query("select uh.heart.id from UserHeart uh where uh.user.id = :userId")
+    List<Long> findHeartIdsByUserId(@Param("userId") String userId);
+
+    @Query("select uh.user.id, uh.heart.id from UserHeart uh")
+    List<Object[]> findAllUserIdAndHeartId();
 }
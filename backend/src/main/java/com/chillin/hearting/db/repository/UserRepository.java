@@ -1,8 +1,15 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.HeartBoardOwnerData;
+import com.chillin.hearting.cache.CacheType;
 import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -11,4 +18,29 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findByNickname(String nickname);
 
+    @Query("select u.messageTotal from User u where u.id = :userId")
+    Optional<Long> findMessageTotalById(@Param("userId") String userId);
+
+    /**
+     * 하트판 주인의 닉네임, 상태메시지, MySQL에 저장된 누적 메시지 수를 조회합니다.
+     * 닉네임, 상태메시지가 바뀌면 UserService에서 캐시를 삭제합니다.
+     */
+    @Cacheable(cacheNames = CacheType.Names.BOARD_OWNER, key = "#p0", unless = "#result == null")
+    @Query("select new com.chillin.hearting.api.data.HeartBoardOwnerData(u.nickname, u.statusMessage, u.messageTotal) from User u where u.id = :userId")
+    Optional<HeartBoardOwnerData> findBoardOwnerById(@Param("userId") String userId);
+
+    /**
+     * 인증된 요청의 사용자 정보를 조회합니다.
+     * 회원 상태가 바뀌거나 로그아웃하면 UserService에서 캐시를 삭제합니다.
+     */
+    @Cacheable(cacheNames = CacheType.Names.USER_PRINCIPAL, key = "#p0", unless = "#result == null")
+    @Query("select new com.chillin.hearting.oauth.domain.UserPrincipal(u.id, u.role, u.status) from User u where u.id = :userId")
+    Optional<UserPrincipal> findPrincipalById(@Param("userId") String userId);
+
+    /**
+     * prefix로 시작하는 유저 ID를 조회합니다. 유저 번호 시퀀스를 복구할 때만 사용합니다.
+     */
+    @Query("select u.id from User u where u.id like concat(:prefix, '%')")
+    List<String> findIdsStartingWith(@Param("prefix") String prefix);
+
 }
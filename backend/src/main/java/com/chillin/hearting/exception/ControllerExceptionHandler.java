@@ -2,7 +2,9 @@ package com.chillin.hearting.exception;
 
 import com.chillin.hearting.api.response.ResponseDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -235,6 +237,17 @@ public class ControllerExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ResponseBody
+    public ResponseDTO handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException e) {
+        log.error(e.getMessage());
+        return ResponseDTO.builder()
+                .status(FAIL)
+                .message(e.getMessage())
+                .build();
+    }
+
     @ExceptionHandler(UnAuthorizedException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ResponseBody
@@ -325,4 +338,49 @@ public class ControllerExceptionHandler {
                 .message(e.getMessage())
                 .build();
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(MessageQueueFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ResponseDTO handleMessageQueueFullException(MessageQueueFullException e) {
+        log.error(e.getMessage());
+        return ResponseDTO.builder()
+                .status(FAIL)
+                .message(e.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ResponseDTO handleServiceOverloadedException(ServiceOverloadedException e) {
+        return ResponseDTO.builder()
+                .status(FAIL)
+                .message(e.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(SocialLoginBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ResponseDTO handleSocialLoginBusyException(SocialLoginBusyException e) {
+        log.error(e.getMessage());
+        return ResponseDTO.builder()
+                .status(FAIL)
+                .message(e.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseBody
+    public ResponseEntity<ResponseDTO> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.error(e.getMessage());
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .status(FAIL)
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(responseDTO);
+    }
+}
@@ -0,0 +1,12 @@
+package com.chillin.hearting.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException() {
+        super("이미 다른 요청에 사용한 Idempotency-Key입니다.");
+    }
+
+    public InvalidIdempotencyKeyException(String msg) {
+        super(msg);
+    }
+}
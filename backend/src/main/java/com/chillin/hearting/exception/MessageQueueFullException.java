@@ -0,0 +1,8 @@
+package com.chillin.hearting.exception;
+
+public class MessageQueueFullException extends RuntimeException {
+
+    public MessageQueueFullException() {
+        super("메시지 전송 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
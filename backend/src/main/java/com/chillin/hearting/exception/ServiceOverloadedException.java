@@ -0,0 +1,8 @@
+package com.chillin.hearting.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
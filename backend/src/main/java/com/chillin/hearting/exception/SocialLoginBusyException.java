@@ -0,0 +1,8 @@
+package com.chillin.hearting.exception;
+
+public class SocialLoginBusyException extends RuntimeException {
+
+    public SocialLoginBusyException() {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,19 @@
+package com.chillin.hearting.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    // 다시 요청할 수 있을 때까지 남은 시간
+    private final long retryAfterMs;
+
+    public TooManyRequestsException(long retryAfterMs) {
+        super("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMs + 999) / 1000);
+    }
+}
@@ -17,17 +17,25 @@ public class AuthToken {
     @Getter
     private final String token;
     private final Key key;
+    private final TokenVerifier tokenVerifier;
     private static final String AUTHORITIES_KEY = "role";
 
+    // 한 요청에서 validate(), getTokenClaims()를 여러 번 호출해도 검증은 한 번만 합니다.
+    private boolean verified;
+    private boolean expired;
+    private Claims claims;
 
-    public AuthToken(Date expiry, Key key) {
+
+    public AuthToken(Date expiry, Key key, TokenVerifier tokenVerifier) {
         this.key = key;
+        this.tokenVerifier = tokenVerifier;
         this.token = createAuthToken(expiry);
     }
 
 
-    public AuthToken(String id, String role, Date expiry, Key key) {
+    public AuthToken(String id, String role, Date expiry, Key key, TokenVerifier tokenVerifier) {
         this.key = key;
+        this.tokenVerifier = tokenVerifier;
         this.token = createAuthToken(id, role, expiry);
     }
 
@@ -65,16 +73,25 @@ public class AuthToken {
     }
 
     public Claims getTokenClaims() {
+        if (!verified) {
+            try {
+                claims = verifyTokenClaims();
+            } catch (JwtExpiredException e) {
+                expired = true;
+            }
+            verified = true;
+        }
+        if (expired) throw new JwtExpiredException();
+        return claims;
+    }
+
+    private Claims verifyTokenClaims() {
         try {
             if (token.equals("null")) {
                 log.debug("비로그인 유저입니다.");
                 return null;
             }
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return tokenVerifier.verify(token);
         } catch (SecurityException e) {
             log.info("Invalid JWT signature - 시그니처 검증에 실패한 토큰입니다. jwt secret 키가 정상이 아닐 가능성이 높습니다.");
         } catch (MalformedJwtException e) {
@@ -99,11 +116,7 @@ public class AuthToken {
                 log.debug("비로그인 유저입니다.");
                 return null;
             }
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return tokenVerifier.parse(token);
         } catch (ExpiredJwtException e) {
             log.info("Expired JWT token");
             return e.getClaims();
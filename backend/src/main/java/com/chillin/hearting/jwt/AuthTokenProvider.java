@@ -3,7 +3,7 @@ package com.chillin.hearting.jwt;
 import com.chillin.hearting.db.repository.UserRepository;
 import com.chillin.hearting.exception.TokenValidFailedException;
 import com.chillin.hearting.exception.UnAuthorizedException;
-import com.chillin.hearting.oauth.domain.PrincipalDetails;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +14,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -25,28 +26,32 @@ public class AuthTokenProvider {
     private final Key key;
     private static final String AUTHORITIES_KEY = "role";
     private final UserRepository userRepository;
+    private final TokenVerifier tokenVerifier;
 
 
     /**
      * 객체 초기화
      *
      * @param secret : jwt의 secret
+     * @param verifiedTokenCacheSize : 검증을 마친 토큰을 보관할 최대 개수
+     * @param verifiedTokenCacheTtl : 검증을 마친 토큰을 보관할 최대 시간 (토큰 만료 시각이 더 빠르면 만료 시각까지)
      */
-    public AuthTokenProvider(String secret, UserRepository userRepository) {
+    public AuthTokenProvider(String secret, UserRepository userRepository, long verifiedTokenCacheSize, Duration verifiedTokenCacheTtl) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.userRepository = userRepository;
+        this.tokenVerifier = new TokenVerifier(key, verifiedTokenCacheSize, verifiedTokenCacheTtl);
     }
 
     public AuthToken createAuthToken(Date expiry) {
-        return new AuthToken(expiry, key);
+        return new AuthToken(expiry, key, tokenVerifier);
     }
 
     public AuthToken createAuthToken(String id, String role, Date expiry) {
-        return new AuthToken(id, role, expiry, key);
+        return new AuthToken(id, role, expiry, key, tokenVerifier);
     }
 
     public AuthToken convertAuthToken(String token) {
-        return new AuthToken(token, key);
+        return new AuthToken(token, key, tokenVerifier);
     }
 
     public Authentication getAuthentication(AuthToken authToken) {
@@ -67,9 +72,19 @@ public class AuthTokenProvider {
         if (claims == null) {
             throw new UnAuthorizedException("다시 로그인 해주세요.");
         }
-        return getRealAuthentication(claims, authToken);
+        Authentication authentication = getRealAuthentication(claims, authToken);
+        if (authentication == null) {
+            throw new UnAuthorizedException("다시 로그인 해주세요.");
+        }
+        return authentication;
     }
 
+    /**
+     * 토큰의 id 클레임으로 사용자 정보를 만듭니다.
+     * 사용자 정보는 캐시에서 조회하므로 대부분의 요청은 DB를 조회하지 않습니다.
+     *
+     * @return 탈퇴 등으로 사용자가 없으면 null
+     */
     public Authentication getRealAuthentication(Claims claims, AuthToken authToken) {
 
         Collection<? extends GrantedAuthority> authorities =
@@ -79,8 +94,10 @@ public class AuthTokenProvider {
 
         log.debug("claims subject := [{}]", claims.getSubject());
 
-        PrincipalDetails principalDetails = new PrincipalDetails(userRepository.findById(String.valueOf(claims.get("id"))).orElse(null));
-        return new UsernamePasswordAuthenticationToken(principalDetails, authToken, authorities);
+        UserPrincipal principal = userRepository.findPrincipalById(String.valueOf(claims.get("id"))).orElse(null);
+        if (principal == null) return null;
+
+        return new UsernamePasswordAuthenticationToken(principal, authToken, authorities);
     }
 
 }
\ No newline at end of file
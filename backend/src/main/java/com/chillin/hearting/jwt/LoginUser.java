@@ -0,0 +1,17 @@
+package com.chillin.hearting.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 {@link com.chillin.hearting.oauth.domain.UserPrincipal} 파라미터에 로그인 유저를 주입합니다.
+ * 비로그인 요청이면 null이 주입됩니다.
+ *
+ * @see LoginUserArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -0,0 +1,69 @@
+package com.chillin.hearting.jwt;
+
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
+import com.chillin.hearting.exception.JwtExpiredException;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * {@link LoginUser}가 붙은 파라미터에 로그인 유저를 주입합니다.
+ * 인증이 필요 없는 요청은 필터에서 토큰만 보관하고, 핸들러가 로그인 유저를 요청할 때 토큰을 검증하고 유저 정보를 조회합니다.
+ * 로그인 유저를 사용하지 않는 핸들러는 토큰 검증과 유저 조회를 하지 않습니다.
+ */
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REISSUE = "reissue";
+
+    private final AuthTokenProvider tokenProvider;
+    private final SuspendedUserRegistry suspendedUserRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && UserPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) return null;
+
+        // 필터에서 이미 인증한 요청
+        Object user = request.getAttribute(TokenAuthenticationFilter.ATTRIBUTE_USER);
+        if (user != null) return user;
+
+        Object token = request.getAttribute(TokenAuthenticationFilter.ATTRIBUTE_AUTH_TOKEN);
+        if (!(token instanceof AuthToken)) return null;
+
+        UserPrincipal principal = resolvePrincipal((AuthToken) token);
+        if (principal != null) request.setAttribute(TokenAuthenticationFilter.ATTRIBUTE_USER, principal);
+        return principal;
+    }
+
+    private UserPrincipal resolvePrincipal(AuthToken token) {
+        try {
+            if (!token.validate()) return null;
+        } catch (JwtExpiredException e) {
+            // 필터와 같이 access token 재발급을 요청합니다.
+            throw new JwtExpiredException(REISSUE);
+        }
+
+        Authentication authentication = tokenProvider.getAuthentication(token);
+        if (authentication == null) return null;
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        // 정지된 유저는 토큰이 만료되지 않았어도 로그인 유저로 보지 않습니다.
+        suspendedUserRegistry.checkActive(principal.getId());
+        return principal;
+    }
+}
@@ -1,8 +1,10 @@
 package com.chillin.hearting.jwt;
 
 import com.chillin.hearting.api.response.ResponseDTO;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.exception.JwtExpiredException;
-import com.chillin.hearting.oauth.domain.PrincipalDetails;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import com.chillin.hearting.util.HeaderUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -22,11 +25,23 @@ import java.util.Arrays;
 import java.util.List;
 
 
+/**
+ * 로그인이 필요한 요청(eagerAuthenticationUris)은 토큰을 바로 검증하여 인증 정보를 등록합니다.
+ * 그 외 요청은 토큰만 요청 속성에 보관하고, 핸들러가 {@link LoginUser}로 로그인 유저를 요청할 때 검증합니다.
+ * 정지된 유저의 토큰은 만료 전이라도 401(pause, out)로 응답합니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String ATTRIBUTE_USER = "user";
+    public static final String ATTRIBUTE_AUTH_TOKEN = "authToken";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final AuthTokenProvider tokenProvider;
+    private final SuspendedUserRegistry suspendedUserRegistry;
+    private final List<String> eagerAuthenticationUris;
     private final List<String> excludedUris = Arrays.asList("/api/v1/auth/users/access-token"); // 여기에 건너뛸 URI 추가
 
     @Override
@@ -41,37 +56,60 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         log.debug("헤더로 넘어온 토큰 : {}", headerToken);
         AuthToken token = tokenProvider.convertAuthToken(headerToken);
 
+        if (!requiresEagerAuthentication(request)) {
+            if (token.getToken() != null) request.setAttribute(ATTRIBUTE_AUTH_TOKEN, token);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
             if (token.getToken() != null && token.validate()) {
                 log.debug("헤더로 넘어온 토큰이 null이 아니네!!!!");
 
                 Authentication authentication = tokenProvider.getAuthentication(token);
 
-                PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
-                request.setAttribute("user", principalDetails.getUser());
+                // 탈퇴 등으로 사용자가 없으면 비로그인 요청으로 처리합니다.
+                if (authentication != null) {
+                    UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+                    // 정지된 유저는 토큰이 만료되지 않았어도 인증하지 않습니다.
+                    suspendedUserRegistry.checkActive(principal.getId());
+                    request.setAttribute(ATTRIBUTE_USER, principal);
 
-                log.debug("TokenAuthenticationFilter로 접근한 user id(PK) : {}, 닉네임 : {}", principalDetails.getUser().getId(), principalDetails.getUser().getNickname());
+                    log.debug("TokenAuthenticationFilter로 접근한 user id(PK) : {}", principal.getId());
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
 
         } catch (JwtExpiredException e) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ResponseDTO responseDTO = ResponseDTO.builder()
-                    .status("fail")
-                    .message("reissue")
-                    .build();
-            response.setCharacterEncoding("utf-8");
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            // writeValueAsString() : Object to JSON in String
-            response.getWriter().write(objectMapper.writeValueAsString(responseDTO));
+            writeUnauthorized(response, "reissue");
+            return;
+        } catch (UnAuthorizedException e) {
+            writeUnauthorized(response, e.getMessage());
             return;
         }
         filterChain.doFilter(request, response);
 
     }
 
+    private void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .status("fail")
+                .message(message)
+                .build();
+        response.setCharacterEncoding("utf-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        // writeValueAsString() : Object to JSON in String
+        response.getWriter().write(objectMapper.writeValueAsString(responseDTO));
+    }
+
+    private boolean requiresEagerAuthentication(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        return eagerAuthenticationUris.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, requestURI));
+    }
+
     private boolean skipFilterForUri(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
         return excludedUris.stream().anyMatch(requestURI::equals);
@@ -0,0 +1,103 @@
+package com.chillin.hearting.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * JWT 서명 검증과 Claims 파싱을 담당합니다.
+ * 파서는 한 번 만들어 재사용하고, 검증을 마친 토큰의 Claims는 토큰의 SHA-256 해시를 키로 최근 사용 순서대로 일정 개수만 보관합니다.
+ * 보관 기간은 토큰의 만료 시각(exp)과 maxTtl 중 빠른 시각까지이므로 만료된 토큰은 캐시에서 조회되지 않습니다.
+ */
+public class TokenVerifier {
+
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public TokenVerifier(Key key, long maxSize, Duration maxTtl) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClaimsExpiry(maxTtl.toNanos()))
+                .build();
+    }
+
+    /**
+     * 토큰을 검증하고 Claims를 반환합니다. 최근에 검증한 토큰이면 서명 검증과 디코딩을 생략합니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명이 맞지 않거나, 만료되었거나, 손상된 토큰인 경우
+     */
+    public Claims verify(String token) {
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) return cached;
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(tokenHash, claims);
+        return claims;
+    }
+
+    /**
+     * 캐시를 거치지 않고 토큰을 검증합니다. 만료된 토큰의 Claims가 필요한 재발급 요청에서 사용합니다.
+     */
+    public Claims parse(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    public long cachedTokenCount() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰 만료 시각까지 남은 시간과 maxTtl 중 짧은 시간 동안 보관합니다.
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) return maxTtlNanos;
+
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.chillin.hearting.oauth.client;
+
+import com.chillin.hearting.exception.SocialLoginBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * provider 응답을 받은 뒤의 로그인 처리(유저 조회/가입, 토큰 발급)를 실행합니다.
+ * SocialOAuthClient의 HttpClient 스레드에서 DB, Redis 작업을 하면 provider 응답 처리가 밀리므로 스레드를 나눕니다.
+ * 대기열이 가득 차면 기다리지 않고 SocialLoginBusyException으로 거절합니다.
+ */
+@Slf4j
+@Component
+public class SocialLoginExecutor implements Executor {
+
+    @Value("${hearting.oauth.login.threads:8}")
+    private int threads;
+
+    @Value("${hearting.oauth.login.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "social-login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    throw new SocialLoginBusyException();
+                });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("소셜 로그인 처리 {}개를 완료하지 못하고 종료합니다.", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+}
@@ -0,0 +1,196 @@
+package com.chillin.hearting.oauth.client;
+
+import com.chillin.hearting.exception.SocialLoginBusyException;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.exception.UserNotFoundException;
+import com.chillin.hearting.oauth.info.OAuth2Attribute;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * (트위터 제외) 카카오, 구글의 access token 발급과 사용자 정보 조회를 비동기로 요청합니다.
+ * 하나의 HttpClient를 공유하여 provider와의 연결을 keep-alive로 재사용하고, 연결/응답 대기 시간을 제한합니다.
+ * 동시에 진행 중인 요청 수는 maxConcurrentCalls로 제한하며, 초과한 요청은 기다리지 않고 바로 실패합니다.
+ * Tomcat worker는 provider 응답을 기다리지 않으며, 이 클라이언트의 스레드는 provider 요청/응답만 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SocialOAuthClient {
+
+    private static final String CLIENT_PROVIDER = "spring.security.oauth2.client.provider.";
+    private static final String CLIENT_REGISTRATION = "spring.security.oauth2.client.registration.";
+
+    private final Environment environment;
+
+    @Value("${hearting.oauth.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${hearting.oauth.client.response-timeout-ms:3000}")
+    private long responseTimeoutMs;
+
+    @Value("${hearting.oauth.client.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    @Value("${hearting.oauth.client.threads:8}")
+    private int threads;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+    private Semaphore bulkhead;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "social-oauth-client-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+        bulkhead = new Semaphore(maxConcurrentCalls);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) executor.shutdownNow();
+    }
+
+    /**
+     * 인가 코드로 access token을 발급받고, 그 토큰으로 사용자 정보를 조회합니다.
+     *
+     * @param code     카카오, 구글에서 제공한 인가코드
+     * @param provider 소셜 회사명
+     * @return 사용자 정보(이메일)를 담은 OAuth2Attribute
+     * @throws SocialLoginBusyException 진행 중인 provider 요청이 많은 경우
+     */
+    public CompletableFuture<OAuth2Attribute> requestUserAttribute(String code, String provider) {
+        return requestAccessToken(code, provider)
+                .thenCompose(socialAccessToken -> requestUserInfo(socialAccessToken, provider));
+    }
+
+    /**
+     * 카카오, 구글에서 제공한 인가코드로 access token을 받아옵니다.
+     */
+    public CompletableFuture<String> requestAccessToken(String code, String provider) {
+        String form = "grant_type=authorization_code"
+                + "&client_id=" + encode(environment.getProperty(CLIENT_REGISTRATION + provider + ".client-id"))
+                + "&client_secret=" + encode(environment.getProperty(CLIENT_REGISTRATION + provider + ".client-secret"))
+                + "&redirect_uri=" + encode(environment.getProperty(CLIENT_REGISTRATION + provider + ".redirect-uri"))
+                + "&code=" + encode(code);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(environment.getProperty(CLIENT_PROVIDER + provider + ".token-uri")))
+                .timeout(Duration.ofMillis(responseTimeoutMs))
+                .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+
+        return send(request).handle((response, e) -> {
+            try {
+                if (e != null) throw e;
+                log.info(provider + "에서 access token 받아오기 response code : {}  ", response.statusCode());
+                if (response.statusCode() != 200) throw new IllegalStateException(response.body());
+
+                String socialAccessToken = (String) parse(response.body()).get("access_token");
+                if (socialAccessToken == null) throw new IllegalStateException("access_token이 없습니다.");
+                return socialAccessToken;
+            } catch (Throwable t) {
+                log.error(String.valueOf(t.getMessage()));
+                throw new UnAuthorizedException(provider + "에서 access token을 받아올 때 문제가 있었습니다.");
+            }
+        });
+    }
+
+    /**
+     * 소셜에서 받아온 access token으로 사용자 정보를 요청합니다.
+     */
+    public CompletableFuture<OAuth2Attribute> requestUserInfo(String socialAccessToken, String provider) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(environment.getProperty(CLIENT_PROVIDER + provider + ".user-info-uri")))
+                .timeout(Duration.ofMillis(responseTimeoutMs))
+                .header("Authorization", "Bearer " + socialAccessToken)
+                .GET()
+                .build();
+
+        return send(request).handle((response, e) -> {
+            try {
+                if (e != null) throw e;
+                log.info(provider + "에서 사용자 정보 받아온 responseCode : {} ", response.statusCode());
+                if (response.statusCode() != 200) throw new IllegalStateException(response.body());
+
+                OAuth2Attribute oAuth2Attribute = OAuth2Attribute.of(provider, toAttributes(parse(response.body())));
+                log.info(provider + "에 등록된 이메일 : {}", oAuth2Attribute.getEmail());
+                return oAuth2Attribute;
+            } catch (Throwable t) {
+                log.error(String.valueOf(t.getMessage()));
+                throw new UserNotFoundException(provider + "에서 사용자 정보를 받아오지 못했습니다.");
+            }
+        });
+    }
+
+    public int availableCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    /**
+     * 동시 요청 수 안에서 요청을 보냅니다. 응답을 받거나 실패하면 바로 자리를 반납합니다.
+     */
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        if (!bulkhead.tryAcquire()) {
+            log.warn("진행 중인 소셜 로그인 요청이 {}개를 넘어 요청을 거절합니다. : {}", maxConcurrentCalls, request.uri().getHost());
+            throw new SocialLoginBusyException();
+        }
+
+        try {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                    .whenComplete((response, e) -> bulkhead.release());
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    private static JSONObject parse(String body) throws ParseException {
+        return (JSONObject) new JSONParser().parse(body);
+    }
+
+    private static Map<String, Object> toAttributes(JSONObject json) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (Object key : json.keySet()) {
+            attributes.put(String.valueOf(key), json.get(key));
+        }
+        return attributes;
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
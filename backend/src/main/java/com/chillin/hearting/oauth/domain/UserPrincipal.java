@@ -0,0 +1,35 @@
+package com.chillin.hearting.oauth.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 인증된 요청의 사용자 정보입니다.
+ * 요청마다 User 엔티티를 조회하지 않도록 인증에 필요한 값만 담고, 캐시에 보관할 수 있도록 불변 객체로 만듭니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class UserPrincipal implements Serializable {
+
+    private final String id;
+    private final String role;
+    // 회원상태(A : 활성화, P : 일시정지, O : 영구정지, D : 탈퇴)
+    private final char status;
+
+    @Builder
+    @JsonCreator
+    public UserPrincipal(@JsonProperty("id") String id,
+                         @JsonProperty("role") String role,
+                         @JsonProperty("status") char status) {
+        this.id = id;
+        this.role = role;
+        this.status = status;
+    }
+}
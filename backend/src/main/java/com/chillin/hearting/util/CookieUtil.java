@@ -1,5 +1,6 @@
 package com.chillin.hearting.util;
 
+import org.springframework.http.ResponseCookie;
 import org.springframework.util.SerializationUtils;
 
 import javax.servlet.http.Cookie;
@@ -39,6 +40,17 @@ public class CookieUtil {
         response.addCookie(cookie);
     }
 
+    /**
+     * addCookie와 같은 속성의 쿠키를 Set-Cookie 헤더 값으로 만듭니다. 요청 스레드 밖에서 응답을 만들 때 사용합니다.
+     */
+    public static ResponseCookie createCookie(String name, String value, int maxAge) {
+        return ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .maxAge(maxAge)
+                .build();
+    }
+
     public static void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name) {
         Cookie[] cookies = request.getCookies();
 
@@ -0,0 +1,21 @@
+package com.chillin.hearting.util;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+public class RedisScriptUtil {
+
+    private RedisScriptUtil(){
+        throw new IllegalStateException("RedisScriptUtil class");
+    }
+
+    /**
+     * 숫자 배열을 반환하는 Lua 스크립트를 만듭니다. Redis는 Lua 숫자 배열을 정수(Long) 목록으로 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public static RedisScript<List<Long>> longListScript(String script) {
+        return (RedisScript<List<Long>>) (RedisScript<?>) new DefaultRedisScript<>(script, List.class);
+    }
+}
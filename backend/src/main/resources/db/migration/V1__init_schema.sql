@@ -0,0 +1,139 @@
+-- exec/hearting_dump 기준 초기 스키마입니다.
+-- 기존 운영 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 간주합니다.
+
+CREATE TABLE `user` (
+  `id` varchar(100) NOT NULL COMMENT 'auto-increment',
+  `type` varchar(15) NOT NULL COMMENT 'KAKAO : 카카오, GOOGLE : 구글',
+  `email` varchar(100) NOT NULL COMMENT '이메일',
+  `nickname` varchar(15) NOT NULL COMMENT '닉네임',
+  `refresh_token` varchar(200) DEFAULT NULL COMMENT 'refresh 토큰',
+  `created_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '가입일시',
+  `updated_date` datetime DEFAULT NULL COMMENT '수정일시',
+  `status_message` varchar(100) DEFAULT NULL COMMENT '상태메시지',
+  `reported_count` int NOT NULL DEFAULT '0' COMMENT '누적 신고된 횟수(3회 이상 : 일시정지, 5회 이상 : 영구정지)',
+  `status` char(1) NOT NULL DEFAULT 'A' COMMENT 'A : 활성화, P : 일시정지, O : 영구정지, D : 탈퇴',
+  `role` varchar(15) NOT NULL DEFAULT 'ROLE_USER' COMMENT 'Spring Security용 컬럼',
+  `message_total` bigint DEFAULT '0' COMMENT '역정규화 대상 - 회원별 메시지 total',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `refresh_token` (`refresh_token`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `heart` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `name` varchar(100) NOT NULL COMMENT '하트 이름',
+  `image_url` varchar(200) NOT NULL COMMENT '하트 picture url',
+  `short_description` varchar(500) NOT NULL COMMENT '짧은 하트 설명',
+  `long_description` varchar(500) NOT NULL COMMENT '하트 스토리',
+  `type` varchar(100) NOT NULL COMMENT 'DEFAULT, SPECIAL',
+  `acq_condition` varchar(500) DEFAULT NULL COMMENT '획득 조건',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `name` (`name`),
+  UNIQUE KEY `image_url` (`image_url`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `emoji` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `image_url` varchar(200) NOT NULL COMMENT '이모지 picture url',
+  `name` varchar(100) NOT NULL COMMENT '이모지 이름',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `image_url` (`image_url`),
+  UNIQUE KEY `name` (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `heart_type_meta` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `type` varchar(100) NOT NULL COMMENT '기본, 이벤트 등이 들어간다',
+  `description` varchar(500) NOT NULL COMMENT '필요 시 간단한 설명 들어간다',
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `user_status_meta` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `status` char(1) NOT NULL DEFAULT 'A' COMMENT 'A, P, O, D 중 하나가 들어감.',
+  `description` varchar(15) NOT NULL COMMENT '활성화, 일시정지, 영구정지, 탈퇴 중 하나가 들어감.',
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `message` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `heart_id` bigint NOT NULL COMMENT 'heart 테이블 PK',
+  `emoji_id` bigint DEFAULT NULL COMMENT 'emoji 테이블 PK',
+  `sender_id` varchar(100) DEFAULT NULL COMMENT '송(발)신자 (user 테이블 PK - 비로그인 시에도 보낼 수 있기 때문에 NULL)',
+  `receiver_id` varchar(100) NOT NULL COMMENT '수신자(user 테이블 PK)',
+  `title` varchar(50) NOT NULL COMMENT '메시지  제목',
+  `content` varchar(500) DEFAULT NULL COMMENT '메시지 내용',
+  `is_read` tinyint(1) NOT NULL DEFAULT '0' COMMENT '0 : 안 읽음, 1 : 읽음',
+  `is_stored` tinyint(1) NOT NULL DEFAULT '0' COMMENT '0 : 미보관, 1 : 보관',
+  `sender_ip` varchar(20) DEFAULT NULL COMMENT '송신자의 public IP 주소',
+  `is_active` tinyint(1) NOT NULL DEFAULT '1' COMMENT '1 : 활성화, 0 : 삭제',
+  `created_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '전송 일시',
+  `expired_date` datetime NOT NULL COMMENT '메시지 만료 일시',
+  `is_reported` tinyint(1) NOT NULL DEFAULT '0' COMMENT '0 : 신고 안 됨, 1 : 신고 됨',
+  PRIMARY KEY (`id`),
+  KEY `FK_heart_TO_message_1` (`heart_id`),
+  KEY `FK_emoji_TO_message_1` (`emoji_id`),
+  KEY `FK_user_TO_message_1` (`sender_id`),
+  KEY `FK_user_TO_message_2` (`receiver_id`),
+  CONSTRAINT `FK_emoji_TO_message_1` FOREIGN KEY (`emoji_id`) REFERENCES `emoji` (`id`),
+  CONSTRAINT `FK_heart_TO_message_1` FOREIGN KEY (`heart_id`) REFERENCES `heart` (`id`),
+  CONSTRAINT `FK_user_TO_message_1` FOREIGN KEY (`sender_id`) REFERENCES `user` (`id`),
+  CONSTRAINT `FK_user_TO_message_2` FOREIGN KEY (`receiver_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `notification` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `user_id` varchar(100) NOT NULL COMMENT '알림을 받은 유저 아이디',
+  `content` varchar(500) NOT NULL COMMENT '알림 내용',
+  `created_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '알림 생성 일시',
+  `expired_date` datetime NOT NULL COMMENT '알림 만료 일시 (생성일시 + 24시간)',
+  `type` varchar(15) NOT NULL COMMENT '알림종류 / R : 받은하트, E : 보낸하트, H : 도감',
+  `is_checked` tinyint(1) NOT NULL DEFAULT '0' COMMENT '0 : 안 읽음, 1 : 읽음',
+  `is_active` tinyint(1) NOT NULL DEFAULT '1' COMMENT '1 : 활성화, 0 : 삭제',
+  `message_id` bigint DEFAULT NULL,
+  `heart_id` bigint DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FK_user_TO_notification_1` (`user_id`),
+  KEY `FK_message_TO_notification` (`message_id`),
+  KEY `FK_heart_TO_notification` (`heart_id`),
+  CONSTRAINT `FK_heart_TO_notification` FOREIGN KEY (`heart_id`) REFERENCES `heart` (`id`),
+  CONSTRAINT `FK_message_TO_notification` FOREIGN KEY (`message_id`) REFERENCES `message` (`id`),
+  CONSTRAINT `FK_user_TO_notification_1` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `report` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `message_id` bigint NOT NULL COMMENT '신고된 메시지(message 테이블 PK)',
+  `reporter_id` varchar(100) NOT NULL COMMENT '신고자(user 테이블 PK)',
+  `reported_id` varchar(100) DEFAULT NULL COMMENT '신고 당한 사람(user 테이블 PK)',
+  `created_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '신고일시',
+  `content` varchar(500) NOT NULL COMMENT '신고 내용(사유)',
+  PRIMARY KEY (`id`),
+  KEY `FK_message_TO_report_1` (`message_id`),
+  KEY `FK_user_TO_report_1` (`reporter_id`),
+  KEY `FK_user_TO_report_2` (`reported_id`),
+  CONSTRAINT `FK_message_TO_report_1` FOREIGN KEY (`message_id`) REFERENCES `message` (`id`),
+  CONSTRAINT `FK_user_TO_report_1` FOREIGN KEY (`reporter_id`) REFERENCES `user` (`id`),
+  CONSTRAINT `FK_user_TO_report_2` FOREIGN KEY (`reported_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `blocked_user` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `user_id` varchar(100) NOT NULL COMMENT 'user 테이블 PK',
+  `start_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '계정 정지 시작 일시',
+  `end_date` datetime NOT NULL COMMENT '계정 정지 종료 일시',
+  PRIMARY KEY (`id`),
+  KEY `FK_user_TO_blocked_user_1` (`user_id`),
+  CONSTRAINT `FK_user_TO_blocked_user_1` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `user_heart` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT 'auto-increment',
+  `user_id` varchar(100) NOT NULL,
+  `heart_id` bigint NOT NULL,
+  `created_date` datetime DEFAULT ((now() + interval 9 hour)),
+  PRIMARY KEY (`id`),
+  KEY `FK_user_TO_user-heart_1` (`user_id`),
+  KEY `FK_heart_TO_user-heart_1` (`heart_id`),
+  CONSTRAINT `FK_heart_TO_user-heart_1` FOREIGN KEY (`heart_id`) REFERENCES `heart` (`id`),
+  CONSTRAINT `FK_user_TO_user-heart_1` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
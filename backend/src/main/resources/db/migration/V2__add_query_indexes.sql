@@ -0,0 +1,33 @@
+-- 조회 조건 조합에 맞춘 복합/커버링 인덱스와 user_heart 중복 방지 유니크 키를 추가합니다.
+
+-- message
+-- 받은 메시지 목록: receiver_id = ? and is_active = true and expired_date > ? order by created_date desc
+CREATE INDEX `idx_message_receiver_active_created` ON `message` (`receiver_id`, `is_active`, `created_date`);
+-- 보낸 메시지 목록: sender_id = ? and expired_date > ? order by expired_date
+CREATE INDEX `idx_message_sender_expired` ON `message` (`sender_id`, `expired_date`);
+-- 영구 보관함 목록: receiver_id = ? and is_stored = true
+CREATE INDEX `idx_message_receiver_stored` ON `message` (`receiver_id`, `is_stored`);
+-- 하트별 보낸 메시지 수, 같은 유저에게 보낸 메시지 수 (group by receiver_id 까지 인덱스로 처리)
+CREATE INDEX `idx_message_sender_heart_receiver` ON `message` (`sender_id`, `heart_id`, `receiver_id`);
+-- 하트별 받은 메시지 수
+CREATE INDEX `idx_message_receiver_heart` ON `message` (`receiver_id`, `heart_id`);
+-- 만료 메시지 비활성화 배치
+CREATE INDEX `idx_message_active_expired` ON `message` (`is_active`, `expired_date`);
+
+-- notification
+-- 알림 목록: user_id = ? and is_active = true and expired_date > ? order by created_date desc
+CREATE INDEX `idx_notification_user_active_created` ON `notification` (`user_id`, `is_active`, `created_date`);
+-- 만료 알림 비활성화 배치
+CREATE INDEX `idx_notification_active_expired` ON `notification` (`is_active`, `expired_date`);
+
+-- user_heart
+-- 유니크 키 추가 전 중복 획득 기록은 가장 먼저 저장된 행만 남깁니다.
+DELETE uh FROM `user_heart` uh
+    JOIN `user_heart` dup ON uh.`user_id` = dup.`user_id` AND uh.`heart_id` = dup.`heart_id` AND uh.`id` > dup.`id`;
+ALTER TABLE `user_heart` ADD CONSTRAINT `uk_user_heart_user_heart` UNIQUE (`user_id`, `heart_id`);
+
+-- user
+-- 로그인 시 이메일, 소셜 타입으로 조회
+CREATE INDEX `idx_user_email_type` ON `user` (`email`, `type`);
+-- 닉네임 중복 확인
+CREATE INDEX `idx_user_nickname` ON `user` (`nickname`);
@@ -0,0 +1,9 @@
+-- 메시지 목록 커서 페이지네이션 (created_date, id) 정렬에 맞춘 인덱스입니다.
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (..., created_date) 인덱스로 (created_date, id) 순서 조회가 가능합니다.
+
+-- 영구 보관함: receiver_id = ? and is_stored = true order by created_date desc, id desc
+CREATE INDEX `idx_message_receiver_stored_created` ON `message` (`receiver_id`, `is_stored`, `created_date`);
+DROP INDEX `idx_message_receiver_stored` ON `message`;
+
+-- 보낸 메시지: sender_id = ? and created_date >= ? order by created_date, id
+CREATE INDEX `idx_message_sender_created` ON `message` (`sender_id`, `created_date`);
@@ -0,0 +1,92 @@
+package com.chillin.hearting.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 바로 거절")
+    void rejectOverLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("send", 2, 1, 10, 1.5);
+
+        // when
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소 수준이고 한도를 채워 쓰면 한도 증가")
+    void increaseLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("send", 10, 1, 100, 1.5);
+
+        // when
+        for (int i = 0; i < 100; i++) runAtLimit(limiter, RTT);
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 길어지면 한도 감소")
+    void decreaseLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("send", 20, 2, 100, 1.5);
+        for (int i = 0; i < 10; i++) runAtLimit(limiter, RTT);
+        int before = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 30; i++) runAtLimit(limiter, RTT * 10);
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(before).isBetween(2, 10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않으면 응답 시간이 길어도 한도 유지")
+    void keepLimitWhenIdle() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("send", 20, 2, 100, 1.5);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT * (i % 2 == 0 ? 1 : 10));
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("최소 한도가 최대 한도보다 크면 생성 실패")
+    void invalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("send", 10, 20, 10, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 한도만큼 요청을 받은 뒤 모두 rttNanos 만에 처리
+    private void runAtLimit(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) acquired++;
+        for (int i = 0; i < acquired; i++) limiter.release(rttNanos);
+    }
+}
@@ -0,0 +1,51 @@
+package com.chillin.hearting.admission;
+
+import com.chillin.hearting.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlInterceptorTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("send", 1, 1, 10, 1.5);
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(limiter, Collections.singletonList("/api/v1/messages"));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 ServiceOverloadedException, 처리가 끝나면 다시 받음")
+    void overloaded() {
+        // given
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/v1/messages");
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/api/v1/messages");
+        interceptor.preHandle(first, response, null);
+
+        // when, then
+        assertThatThrownBy(() -> interceptor.preHandle(second, response, null))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.preHandle(second, response, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 요청의 재디스패치는 한 번만 세고 한 번만 반환")
+    void redispatch() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/messages");
+
+        // when
+        interceptor.preHandle(request, response, null);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
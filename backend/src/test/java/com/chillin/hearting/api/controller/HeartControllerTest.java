@@ -3,9 +3,12 @@ package com.chillin.hearting.api.controller;
 import com.chillin.hearting.api.data.HeartData;
 import com.chillin.hearting.api.data.HeartDetailData;
 import com.chillin.hearting.api.data.HeartListData;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.api.service.facade.HeartFacade;
 import com.chillin.hearting.db.domain.Heart;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +46,7 @@ public class HeartControllerTest {
     @BeforeEach
     public void init() {
         mockMvc = MockMvcBuilders.standaloneSetup(heartController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
                 .build();
     }
 
@@ -178,7 +182,7 @@ public class HeartControllerTest {
     void saveUserHearts() throws Exception {
         // given
         final String url = "/api/v1/hearts/user-hearts/6";
-        User user = User.builder().id("id").build();
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
 
         // mocking
         doNothing().when(heartFacade).saveUserHearts(anyString(),anyLong());
@@ -5,9 +5,14 @@ import com.chillin.hearting.api.data.ReportData;
 import com.chillin.hearting.api.data.SendMessageData;
 import com.chillin.hearting.api.request.ReportReq;
 import com.chillin.hearting.api.request.SendMessageReq;
+import com.chillin.hearting.api.service.MessageIdempotencyService;
+import com.chillin.hearting.api.service.MessageRateLimiter;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.api.service.facade.MessageFacade;
-import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.*;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -23,8 +30,16 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +51,10 @@ class MessageControllerTest {
     private MessageController messageController;
     @Mock
     private MessageFacade messageFacade;
+    @Mock
+    private MessageRateLimiter messageRateLimiter;
+    @Spy
+    private MessageIdempotencyService messageIdempotencyService = new MessageIdempotencyService(mock(StringRedisTemplate.class));
     private MockMvc mockMvc;
     private Gson gson;
     private static final String SUCCESS = "success";
@@ -50,7 +69,10 @@ class MessageControllerTest {
     @BeforeEach
     public void init() {
         gson = new Gson();
-        mockMvc = MockMvcBuilders.standaloneSetup(messageController).setControllerAdvice(new ControllerExceptionHandler()).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(messageController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
     }
 
     private SendMessageReq createSendMessageReq() {
@@ -62,7 +84,7 @@ class MessageControllerTest {
     public void sendMessageLogin() throws Exception {
         // given
         final String url = "/api/v1/messages/";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
 
         SendMessageReq sendMessageReq = createSendMessageReq();
 
@@ -100,12 +122,83 @@ class MessageControllerTest {
                 .andExpect(jsonPath("$.status", is(SUCCESS)));
     }
 
+    @Test
+    @DisplayName("메시지 전송 실패 - 전송 횟수 제한")
+    public void sendMessageTooManyRequests() throws Exception {
+        // given
+        final String url = "/api/v1/messages/";
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
+
+        SendMessageReq sendMessageReq = createSendMessageReq();
+
+        doThrow(new TooManyRequestsException(1_500))
+                .when(messageRateLimiter)
+                .acquire("127.0.0.1", senderId, receiverId);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(sendMessageReq))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(request -> {
+                            request.setAttribute("user", user);
+                            request.addHeader("X-Forwarded-For","127.0.0.1");
+                            return request;
+                        })
+        );
+
+        // then
+        resultActions.andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status", is("fail")));
+        verify(messageFacade, never()).sendMessage(anyLong(), anyString(), anyString(), anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 성공 - 같은 Idempotency-Key 재요청은 전송하지 않고 처음 결과 반환")
+    public void sendMessageIdempotentReplay() throws Exception {
+        // given
+        final String url = "/api/v1/messages/";
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
+
+        SendMessageReq sendMessageReq = createSendMessageReq();
+
+        SendMessageData storedResponse = SendMessageData.builder()
+                .messageId(messageId)
+                .heartId(sendMessageReq.getHeartId())
+                .build();
+
+        doReturn(storedResponse)
+                .when(messageIdempotencyService)
+                .sendOnce(eq("idempotency-key"), eq(senderId), any(SendMessageReq.class), any());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(sendMessageReq))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Idempotency-Key", "idempotency-key")
+                        .with(request -> {
+                            request.setAttribute("user", user);
+                            request.addHeader("X-Forwarded-For","127.0.0.1");
+                            return request;
+                        })
+        );
+
+        // then
+        resultActions.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.messageId", is((int) messageId)))
+                .andExpect(jsonPath("$.status", is(SUCCESS)));
+        verify(messageRateLimiter, never()).acquire(anyString(), anyString(), anyString());
+        verify(messageFacade, never()).sendMessage(anyLong(), anyString(), anyString(), anyString(), any(), anyString());
+    }
+
     @Test
     @DisplayName("메시지 전송 성공 - 로그인, X-FORWARDED-FOR 없음")
     public void sendMessageLoginWithNoXForwardedFor() throws Exception {
         // given
         final String url = "/api/v1/messages/";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
 
         SendMessageReq sendMessageReq = createSendMessageReq();
 
@@ -147,7 +240,7 @@ class MessageControllerTest {
     public void sendMessageLoginWithEmptyXForwardedFor() throws Exception {
         // given
         final String url = "/api/v1/messages/";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
 
         SendMessageReq sendMessageReq = createSendMessageReq();
 
@@ -185,6 +278,51 @@ class MessageControllerTest {
                 .andExpect(jsonPath("$.status", is(SUCCESS)));
     }
 
+    @Test
+    @DisplayName("메시지 전송 성공 - 클라이언트가 위조한 X-FORWARDED-FOR는 전송 제한 키로 쓰지 않음")
+    public void sendMessageForgedXForwardedFor() throws Exception {
+        // given
+        final String url = "/api/v1/messages/";
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
+
+        SendMessageReq sendMessageReq = createSendMessageReq();
+
+        SendMessageData expectedResponse = SendMessageData.builder()
+                .messageId(messageId)
+                .heartId(sendMessageReq.getHeartId())
+                .build();
+
+        doReturn(expectedResponse)
+                .when(messageFacade)
+                .sendMessage(
+                        sendMessageReq.getHeartId(),
+                        sendMessageReq.getSenderId(),
+                        sendMessageReq.getReceiverId(),
+                        sendMessageReq.getTitle(),
+                        sendMessageReq.getContent(),
+                        "10.0.0.5");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(sendMessageReq))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(request -> {
+                            request.setAttribute("user", user);
+                            request.setRemoteAddr("10.0.0.5");
+                            request.addHeader("X-Forwarded-For", "1.2.3.4");
+                            return request;
+                        })
+        );
+
+        // then
+        resultActions.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.messageId", is((int) messageId)))
+                .andExpect(jsonPath("$.status", is(SUCCESS)));
+        verify(messageRateLimiter).acquire("10.0.0.5", senderId, receiverId);
+        verify(messageRateLimiter, never()).acquire(eq("1.2.3.4"), any(), anyString());
+    }
+
     @Test
     @DisplayName("메시지 전송 성공 - 비로그인 상태")
     public void sendMessageNoLogin() throws Exception {
@@ -228,7 +366,7 @@ class MessageControllerTest {
     public void sendMessageFailSenderIdNotUserId() throws Exception {
         // given
         final String url = "/api/v1/messages";
-        User user = User.builder().id("otherSender").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherSender").build();
         SendMessageReq sendMessageReq = createSendMessageReq();
 
         // when
@@ -253,7 +391,7 @@ class MessageControllerTest {
     public void sendMessageFailSendYourSelf() throws Exception {
         // given
         final String url = "/api/v1/messages";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         SendMessageReq sendMessageReq = createSendMessageReq();
         sendMessageReq.setReceiverId(senderId);
 
@@ -279,7 +417,7 @@ class MessageControllerTest {
     public void sendMessageFailTitleLengthTooLong() throws Exception {
         // given
         final String url = "/api/v1/messages";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         SendMessageReq sendMessageReq = createSendMessageReq();
         sendMessageReq.setTitle("aaaabbbbccccd");
 
@@ -305,7 +443,7 @@ class MessageControllerTest {
     public void deleteMessage() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
 
         doReturn(false).when(messageFacade).deleteMessage(messageId, user.getId());
 
@@ -348,7 +486,7 @@ class MessageControllerTest {
     public void deleteMessageFailServerError() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId;
-        User user = User.builder().id(receiverId).build();
+        UserPrincipal user = UserPrincipal.builder().id(receiverId).build();
         doReturn(true).when(messageFacade).deleteMessage(messageId, receiverId);
 
         // when
@@ -372,7 +510,7 @@ class MessageControllerTest {
     public void deleteMessageFailUserNotReceiver() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         doThrow(new UnAuthorizedException("본인에게 온 메시지만 삭제할 수 있습니다."))
                 .when(messageFacade).deleteMessage(messageId, senderId);
 
@@ -397,7 +535,7 @@ class MessageControllerTest {
     public void deleteMessageFailAlreadyDeleted() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         doThrow(new MessageAlreadyDeletedException())
                 .when(messageFacade).deleteMessage(messageId, senderId);
 
@@ -422,7 +560,7 @@ class MessageControllerTest {
     public void reportMessage() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/reports";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
 
         ReportReq reportReq = ReportReq.builder()
                 .content(content)
@@ -475,7 +613,7 @@ class MessageControllerTest {
     public void reportMessageFailServerError() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/reports";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         ReportReq reportReq = ReportReq.builder()
                 .content(content)
                 .build();
@@ -503,7 +641,7 @@ class MessageControllerTest {
     public void reportMessageFailUserNotReceiver() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/reports";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         ReportReq reportReq = ReportReq.builder()
                 .content(content)
                 .build();
@@ -532,7 +670,7 @@ class MessageControllerTest {
     public void reportMessageFailAlreadyReported() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/reports";
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         ReportReq reportReq = ReportReq.builder()
                 .content(content)
                 .build();
@@ -561,7 +699,7 @@ class MessageControllerTest {
     public void addEmoji() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/emojis/" + emojiId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         EmojiData emojiData = EmojiData.builder().build();
         doReturn(emojiData).when(messageFacade).addEmoji(messageId, user.getId(), emojiId);
 
@@ -604,7 +742,7 @@ class MessageControllerTest {
     public void addEmojiFailServerError() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/emojis/" + emojiId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         doReturn(null).when(messageFacade).addEmoji(messageId, senderId, emojiId);
 
         // when
@@ -628,7 +766,7 @@ class MessageControllerTest {
     public void addEmojiFailUserNotReceiver() throws Exception {
         // given
         final String url = "/api/v1/messages/" + messageId + "/emojis/" + emojiId;
-        User user = User.builder().id(senderId).build();
+        UserPrincipal user = UserPrincipal.builder().id(senderId).build();
         doThrow(new UnAuthorizedException("본인이 받은 메시지에만 이모지를 달 수 있습니다."))
                 .when(messageFacade).addEmoji(messageId, senderId, emojiId);
 
@@ -1,9 +1,12 @@
 package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.service.MessageInboxService;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.domain.Message;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class MessageInboxControllerTest {
@@ -36,6 +40,7 @@ class MessageInboxControllerTest {
     @BeforeEach
     public void init() {
         mockMvc = MockMvcBuilders.standaloneSetup(messageInboxController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
                 .build();
     }
 
@@ -44,7 +49,7 @@ class MessageInboxControllerTest {
 
         // given
         final String url = "/api/v1/messages/inbox/1";
-        User user = User.builder().id("otherSender").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherSender").build();
 
         // when
         final ResultActions resultActions = mockMvc.perform(
@@ -61,7 +66,7 @@ class MessageInboxControllerTest {
 
         // given
         final String url = "/api/v1/messages/inbox";
-        User user = User.builder().id("otherSender").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherSender").build();
 
         // when
         final ResultActions resultActions = mockMvc.perform(
@@ -82,7 +87,7 @@ class MessageInboxControllerTest {
     void 영구보관메시지상세조회() throws Exception {
         // given
         final String url = "/api/v1/messages/inbox/1";
-        User user = User.builder().id("otherSender").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherSender").build();
         Heart heart = Heart.builder().build();
         doReturn(Message.builder().id(1L).heart(heart).build()).when(messageInboxService).findInboxDetailMessage("otherSender",1L);
 
@@ -108,7 +113,7 @@ class MessageInboxControllerTest {
 
         // given
         final String url = "/api/v1/messages/inbox/1";
-        User user = User.builder().id("otherSender").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherSender").build();
 
         // when
         final ResultActions resultActions = mockMvc.perform(
@@ -1,14 +1,19 @@
 package com.chillin.hearting.api.controller;
 
 
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.api.data.MessageData;
 import com.chillin.hearting.api.data.ReceivedMessageData;
+import com.chillin.hearting.api.service.BoardVersionService;
 import com.chillin.hearting.api.service.MessageReceivedService;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.exception.ControllerExceptionHandler;
 import com.chillin.hearting.exception.MessageDetailFailException;
 import com.chillin.hearting.exception.ReceivedMessagesListFailException;
 import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,18 +21,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +47,8 @@ class MessageReceivedControllerTest {
     private MessageReceivedController messageReceivedController;
     @Mock
     private MessageReceivedService messageReceivedService;
+    @Mock
+    private BoardVersionService boardVersionService;
     private MockMvc mockMvc;
     private static final String SUCCESS = "success";
     private final long messageId = 0L;
@@ -45,7 +56,10 @@ class MessageReceivedControllerTest {
 
     @BeforeEach
     public void init() {
-        mockMvc = MockMvcBuilders.standaloneSetup(messageReceivedController).setControllerAdvice(new ControllerExceptionHandler()).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(messageReceivedController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
     }
 
     @Test
@@ -53,7 +67,7 @@ class MessageReceivedControllerTest {
     public void getReceivedMessages() throws Exception {
         // given
         final String url = "/api/v1/messages/received/" + receiverId;
-        User user = User.builder().id(receiverId).build();
+        UserPrincipal user = UserPrincipal.builder().id(receiverId).build();
 
         ReceivedMessageData expectedResponse = ReceivedMessageData.builder()
                 .messageList(new ArrayList<>())
@@ -79,6 +93,80 @@ class MessageReceivedControllerTest {
                 .andExpect(jsonPath("$.status", is(SUCCESS)));
     }
 
+    @Test
+    @DisplayName("받은 메시지 조회 - 보드 버전 ETag 응답")
+    public void getReceivedMessagesETag() throws Exception {
+        // given
+        final String url = "/api/v1/messages/received/" + receiverId;
+
+        ReceivedMessageData expectedResponse = ReceivedMessageData.builder()
+                .messageList(new ArrayList<>())
+                .build();
+
+        doReturn(3L).when(boardVersionService).getVersion(receiverId);
+        doReturn(expectedResponse).when(messageReceivedService).getReceivedMessages(receiverId, false);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-p-0\""));
+    }
+
+    @Test
+    @DisplayName("받은 메시지 커서 조회")
+    public void getReceivedMessagesWithCursor() throws Exception {
+        // given
+        final String url = "/api/v1/messages/received/" + receiverId;
+        LocalDateTime cursorDate = LocalDateTime.of(2023, 5, 1, 12, 0, 0);
+        MessageCursor nextCursor = MessageCursor.of(cursorDate.minusMinutes(1), 4L);
+
+        ReceivedMessageData expectedResponse = ReceivedMessageData.builder()
+                .messageList(new ArrayList<>())
+                .nextCursor(nextCursor)
+                .build();
+
+        doReturn(expectedResponse).when(messageReceivedService).getReceivedMessages(eq(receiverId), eq(false), argThat(cursor ->
+                cursor.getCreatedDate().equals(cursorDate) && cursor.getId() == 5L), eq(20));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .param("cursorDate", "2023-05-01T12:00:00")
+                        .param("cursorId", "5")
+                        .param("limit", "20")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor.id", is(4)));
+        verify(messageReceivedService, never()).getReceivedMessages(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("받은 메시지 조회 - 보드 변경 없음")
+    public void getReceivedMessagesNotModified() throws Exception {
+        // given
+        final String url = "/api/v1/messages/received/" + receiverId;
+        doReturn(3L).when(boardVersionService).getVersion(receiverId);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3-p-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified());
+        verify(messageReceivedService, never()).getReceivedMessages(anyString(), anyBoolean());
+    }
+
     @Test
     @DisplayName("받은 메시지 조회 - 비로그인 상태")
     public void getReceivedMessagesNullUser() throws Exception {
@@ -110,7 +198,7 @@ class MessageReceivedControllerTest {
     public void getReceivedMessagesUserNotReceiver() throws Exception {
         // given
         final String url = "/api/v1/messages/received/" + receiverId;
-        User user = User.builder().id("otherUser").build();
+        UserPrincipal user = UserPrincipal.builder().id("otherUser").build();
 
         ReceivedMessageData expectedResponse = ReceivedMessageData.builder()
                 .messageList(new ArrayList<>())
@@ -141,7 +229,7 @@ class MessageReceivedControllerTest {
     public void getReceivedMessagesFailServerError() throws Exception {
         // given
         final String url = "/api/v1/messages/received/" + receiverId;
-        User user = User.builder().id(receiverId).build();
+        UserPrincipal user = UserPrincipal.builder().id(receiverId).build();
         doReturn(null).when(messageReceivedService).getReceivedMessages(receiverId, true);
 
         // when
@@ -165,7 +253,7 @@ class MessageReceivedControllerTest {
     public void getMessageDetail() throws Exception {
         // given
         final String url = "/api/v1/messages/received/detail/" + messageId;
-        User user = User.builder().id(receiverId).build();
+        UserPrincipal user = UserPrincipal.builder().id(receiverId).build();
 
         long emojiId = 0L;
         long heartId = 0L;
@@ -202,7 +290,7 @@ class MessageReceivedControllerTest {
     public void getMessageDetailFailServerError() throws Exception {
         // given
         final String url = "/api/v1/messages/received/detail/" + messageId;
-        User user = User.builder().id(receiverId).build();
+        UserPrincipal user = UserPrincipal.builder().id(receiverId).build();
         doReturn(null).when(messageReceivedService).getMessageDetail(messageId, receiverId);
 
         // when
@@ -244,7 +332,7 @@ class MessageReceivedControllerTest {
     public void getMessageDetailFailUserNotReceiver() throws Exception {
         // given
         final String url = "/api/v1/messages/received/detail/" + messageId;
-        User user = User.builder().id("sender").build();
+        UserPrincipal user = UserPrincipal.builder().id("sender").build();
         doThrow(new UnAuthorizedException("본인의 메시지만 상세열람할 수 있습니다."))
                 .when(messageReceivedService).getMessageDetail(messageId, "sender");
 
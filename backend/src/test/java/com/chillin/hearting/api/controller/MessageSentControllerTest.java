@@ -3,7 +3,10 @@ package com.chillin.hearting.api.controller;
 import com.chillin.hearting.api.data.SentMessageData;
 import com.chillin.hearting.api.data.SentMessageListData;
 import com.chillin.hearting.api.service.MessageSentService;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,7 @@ class MessageSentControllerTest {
     @BeforeEach
     public void init() {
         mockMvc = MockMvcBuilders.standaloneSetup(messageSentController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
                 .build();
     }
 
@@ -45,7 +49,7 @@ class MessageSentControllerTest {
     void getSentMessages() throws Exception {
         // given
         final String url = "/api/v1/messages/sent";
-        User user = User.builder().id("senderId").build();
+        UserPrincipal user = UserPrincipal.builder().id("senderId").build();
         SentMessageListData sentMessageListData = SentMessageListData.builder().build();
         doReturn(sentMessageListData).when(messageSentService).getSentMessages(eq("senderId"));
 
@@ -72,7 +76,7 @@ class MessageSentControllerTest {
     void getSentMessageDetail() throws Exception {
         // given
         final String url = "/api/v1/messages/sent/1";
-        User user = User.builder().id("senderId").build();
+        UserPrincipal user = UserPrincipal.builder().id("senderId").build();
         doReturn(mock(SentMessageData.class)).when(messageSentService).getSentMessageDetail(eq("senderId"),eq(1L));
 
         // when
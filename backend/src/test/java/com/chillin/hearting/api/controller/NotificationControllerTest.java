@@ -2,7 +2,10 @@ package com.chillin.hearting.api.controller;
 
 import com.chillin.hearting.api.data.NotificationListData;
 import com.chillin.hearting.api.service.NotificationService;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,7 @@ class NotificationControllerTest {
     @BeforeEach
     public void init() {
         mockMvc = MockMvcBuilders.standaloneSetup(notificationController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
                 .build();
     }
 
@@ -44,7 +48,7 @@ class NotificationControllerTest {
     void getNotifications() throws Exception {
         // given
         final String url = "/api/v1/notifications";
-        User user = User.builder().id("id").build();
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
 
         // mocking
         doReturn(mock(NotificationListData.class)).when(notificationService).getNotifications(eq(user.getId()));
@@ -89,7 +93,7 @@ class NotificationControllerTest {
     void readNotification() throws Exception {
         // given
         final String url = "/api/v1/notifications/1";
-        User user = User.builder().id("id").build();
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
 
         // mocking
         doReturn(1L).when(notificationService).readNotification(eq(1L));
@@ -6,8 +6,14 @@ import com.chillin.hearting.api.request.TwitterLoginReq;
 import com.chillin.hearting.api.request.UpdateNicknameReq;
 import com.chillin.hearting.api.request.UpdateStatusMessageReq;
 import com.chillin.hearting.api.service.OAuthService;
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
 import com.chillin.hearting.api.service.UserService;
-import com.chillin.hearting.db.domain.User;
+import com.chillin.hearting.jwt.AuthTokenProvider;
+import com.chillin.hearting.jwt.LoginUserArgumentResolver;
+import com.chillin.hearting.oauth.client.SocialLoginExecutor;
+import com.chillin.hearting.oauth.client.SocialOAuthClient;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
+import com.chillin.hearting.oauth.info.OAuth2Attribute;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,19 +22,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,13 +57,20 @@ class UserControllerTest {
     @Mock
     private OAuthService oAuthService;
 
+    @Mock
+    private SocialOAuthClient socialOAuthClient;
+
+    @Mock
+    private SocialLoginExecutor socialLoginExecutor;
+
     private MockMvc mockMvc;
 
-    private User user = User.builder().id("userId").nickname("nickname").build();
+    private UserPrincipal user = UserPrincipal.builder().id("userId").build();
 
     @BeforeEach
     public void init() {
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver(mock(AuthTokenProvider.class), mock(SuspendedUserRegistry.class)))
                 .build();
     }
 
@@ -60,21 +81,34 @@ class UserControllerTest {
         final String url = "/api/v1/auth/guests/social/kakao";
 
         // mocking
-        doReturn(mock(SocialLoginData.class)).when(oAuthService).socialLogin(anyString(),anyString(),any(),any());
+        OAuth2Attribute oAuth2Attribute = mock(OAuth2Attribute.class);
+        doReturn(CompletableFuture.completedFuture(oAuth2Attribute)).when(socialOAuthClient).requestUserAttribute("code", "kakao");
+        SocialLoginResultData socialLoginResultData = SocialLoginResultData.builder()
+                .socialLoginData(SocialLoginData.builder().userId("userId").build())
+                .refreshTokenCookie(ResponseCookie.from("refreshToken", "token").path("/").httpOnly(true).maxAge(60).build())
+                .build();
+        doReturn(socialLoginResultData).when(oAuthService).socialLogin(eq(oAuth2Attribute), eq("kakao"));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(socialLoginExecutor).execute(any(Runnable.class));
 
         // when
-        final ResultActions resultActions = mockMvc.perform(
+        final MvcResult mvcResult = mockMvc.perform(
                 MockMvcRequestBuilders.get(url)
                         .contentType(MediaType.APPLICATION_JSON)
                         .param("code","code")
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        final ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.status", is("success")))
                 .andExpect(jsonPath("$.message", is("소셜 로그인 성공")))
                 .andExpect(jsonPath("data").exists())
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("refreshToken=token")))
         ;
+        verify(socialLoginExecutor, times(1)).execute(any(Runnable.class));
     }
 
     @Test
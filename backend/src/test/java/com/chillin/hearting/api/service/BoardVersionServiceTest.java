@@ -0,0 +1,91 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.MessageData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardVersionServiceTest {
+
+    @InjectMocks
+    private BoardVersionService boardVersionService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String receiverId = "receiver";
+    private final String key = BoardVersionService.KEY_BOARD_VERSION_PREFIX + receiverId;
+    private final LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("보드 버전 조회")
+    void getVersion() {
+        // given
+        doReturn(5L).when(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(key)), anyString(), anyString());
+
+        // when
+        long version = boardVersionService.getVersion(receiverId);
+
+        // then
+        assertThat(version).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("보드 버전 증가 - 트랜잭션 밖에서는 즉시 반영")
+    void bump() {
+        // when
+        boardVersionService.bump(receiverId);
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(key)), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("ETag 생성 - 가장 먼저 만료되는 메시지 기준")
+    void toETag() {
+        // given
+        LocalDateTime first = now.plusHours(1).withNano(0);
+        List<MessageData> messages = List.of(
+                MessageData.builder().expiredDate(now.plusHours(5)).build(),
+                MessageData.builder().expiredDate(first).build());
+
+        // when
+        String etag = BoardVersionService.toETag(3L, true, messages);
+        String emptyEtag = BoardVersionService.toETag(3L, false, List.of());
+
+        // then
+        assertThat(etag).isEqualTo("\"3-s-" + first.atZone(ZoneId.of("Asia/Seoul")).toEpochSecond() + "\"");
+        assertThat(emptyEtag).isEqualTo("\"3-p-0\"");
+    }
+
+    @Test
+    @DisplayName("ETag 비교 - 버전, 조회 주체, 만료 시간 확인")
+    void isNotModified() {
+        // given
+        List<MessageData> messages = List.of(MessageData.builder().expiredDate(now.plusHours(1)).build());
+        String etag = BoardVersionService.toETag(3L, false, messages);
+
+        // when, then
+        assertThat(BoardVersionService.isNotModified(etag, 3L, false, now)).isTrue();
+        assertThat(BoardVersionService.isNotModified("W/" + etag, 3L, false, now)).isTrue();
+        assertThat(BoardVersionService.isNotModified(etag, 4L, false, now)).isFalse();
+        assertThat(BoardVersionService.isNotModified(etag, 3L, true, now)).isFalse();
+        assertThat(BoardVersionService.isNotModified(etag, 3L, false, now.plusHours(2))).isFalse();
+        assertThat(BoardVersionService.isNotModified(null, 3L, false, now)).isFalse();
+        assertThat(BoardVersionService.isNotModified("\"invalid\"", 3L, false, now)).isFalse();
+    }
+}
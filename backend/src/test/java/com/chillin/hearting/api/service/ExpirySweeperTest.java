@@ -0,0 +1,109 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.MessageRepository;
+import com.chillin.hearting.db.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpirySweeperTest {
+
+    @InjectMocks
+    private ExpirySweeper expirySweeper;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private final String token = "token";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(expirySweeper, "chunkSize", 2);
+        ReflectionTestUtils.setField(expirySweeper, "maxChunks", 3);
+        ReflectionTestUtils.setField(expirySweeper, "pauseMs", 0L);
+        ReflectionTestUtils.setField(expirySweeper, "lockTtlMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 남은 행이 chunk보다 적어질 때까지 반복")
+    void sweep() {
+        // given
+        doReturn(token).when(jobLockService).tryLock(eq(ExpirySweeper.JOB_NAME), any(Duration.class));
+        doReturn(2, 1).when(messageRepository).deactivateExpiredMessages(any(LocalDateTime.class), eq(2));
+        doReturn(0).when(notificationRepository).deactivateExpiredNotifications(any(LocalDateTime.class), eq(2));
+
+        // when
+        expirySweeper.sweep();
+
+        // then
+        verify(messageRepository, times(2)).deactivateExpiredMessages(any(LocalDateTime.class), eq(2));
+        verify(notificationRepository, times(1)).deactivateExpiredNotifications(any(LocalDateTime.class), eq(2));
+        verify(jobLockService, times(1)).unlock(ExpirySweeper.JOB_NAME, token);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 한 주기에 최대 chunk 수까지만 처리")
+    void sweepMaxChunks() {
+        // given
+        doReturn(token).when(jobLockService).tryLock(eq(ExpirySweeper.JOB_NAME), any(Duration.class));
+        doReturn(2).when(messageRepository).deactivateExpiredMessages(any(LocalDateTime.class), eq(2));
+        doReturn(2).when(notificationRepository).deactivateExpiredNotifications(any(LocalDateTime.class), eq(2));
+
+        // when
+        expirySweeper.sweep();
+
+        // then
+        verify(messageRepository, times(3)).deactivateExpiredMessages(any(LocalDateTime.class), eq(2));
+        verify(notificationRepository, times(3)).deactivateExpiredNotifications(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 다른 인스턴스가 락을 점유하면 건너뜀")
+    void sweepLocked() {
+        // given
+        doReturn(null).when(jobLockService).tryLock(eq(ExpirySweeper.JOB_NAME), any(Duration.class));
+
+        // when
+        expirySweeper.sweep();
+
+        // then
+        verify(messageRepository, never()).deactivateExpiredMessages(any(LocalDateTime.class), anyInt());
+        verify(notificationRepository, never()).deactivateExpiredNotifications(any(LocalDateTime.class), anyInt());
+        verify(jobLockService, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 실패해도 락 해제")
+    void sweepFailUnlock() {
+        // given
+        doReturn(token).when(jobLockService).tryLock(eq(ExpirySweeper.JOB_NAME), any(Duration.class));
+        doThrow(new RuntimeException()).when(messageRepository).deactivateExpiredMessages(any(LocalDateTime.class), eq(2));
+
+        // when
+        try {
+            expirySweeper.sweep();
+        } catch (RuntimeException ignored) {
+        }
+
+        // then
+        verify(jobLockService, times(1)).unlock(ExpirySweeper.JOB_NAME, token);
+    }
+}
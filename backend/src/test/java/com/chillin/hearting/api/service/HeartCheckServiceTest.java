@@ -11,12 +11,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,8 +33,7 @@ class HeartCheckServiceTest {
     @DisplayName("하트 획득 가능 여부 조회")
     void isUserAcquirableHeart() {
         // given
-        doNothing().when(heartChecker).init(anyString(),anyLong());
-        doReturn(true).when(heartChecker).isAcquirable();
+        doReturn(true).when(heartChecker).isAcquirable(anyString(),anyLong());
 
         // when
         boolean result = heartCheckService.isUserAcquirableHeart("userId",1L);
@@ -46,8 +46,7 @@ class HeartCheckServiceTest {
     @DisplayName("하트 획득 조건 검사")
     void getSpecialHeartAcqCondition() {
         // given
-        doNothing().when(heartChecker).init(anyString(),anyLong());
-        doReturn(new ArrayList<HeartConditionData>()).when(heartChecker).getAcqCondition();
+        doReturn(new ArrayList<HeartConditionData>()).when(heartChecker).getAcqCondition(anyString(),anyLong());
 
         // when
         List<HeartConditionData> result = heartCheckService.getSpecialHeartAcqCondition("userId",1L);
@@ -55,4 +54,18 @@ class HeartCheckServiceTest {
         // then
         assertThat(result).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 하트의 획득 가능 여부 한 번에 조회")
+    void findAcquirableHeartIds() {
+        // given
+        List<Long> heartIds = List.of(7L, 8L, 9L);
+        doReturn(new TreeSet<>(List.of(8L))).when(heartChecker).findAcquirableHeartIds("userId", heartIds);
+
+        // when
+        Set<Long> result = heartCheckService.findAcquirableHeartIds("userId", heartIds);
+
+        // then
+        assertThat(result).containsExactly(8L);
+    }
+}
@@ -1,21 +1,27 @@
 package com.chillin.hearting.api.service;
 
+import com.chillin.hearting.api.data.HeartData;
 import com.chillin.hearting.api.service.enums.HeartType;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.repository.HeartRepository;
+import com.chillin.hearting.exception.HeartNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doReturn;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HeartServiceTest extends AbstractTestData {
@@ -26,6 +32,9 @@ class HeartServiceTest extends AbstractTestData {
     @Mock
     private HeartRepository heartRepository;
 
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
     @Test
     @DisplayName("모든 타입 하트 조회")
     void findAll() {
@@ -45,7 +54,7 @@ class HeartServiceTest extends AbstractTestData {
     @DisplayName("모든 기본 타입 하트 조회")
     void findDefaultTypeHearts() {
         // given
-        doReturn(defaultHeartList).when(heartRepository).findAllByType(HeartType.DEFAULT.name());
+        doReturn(heartList).when(heartRepository).findAll();
 
         // when
         List<Heart> findHeartList = heartService.findDefaultTypeHearts();
@@ -58,7 +67,7 @@ class HeartServiceTest extends AbstractTestData {
     @DisplayName("모든 스페셜 타입 하트 조회")
     void findSpecialTypeHearts() {
         // given
-        doReturn(specialHeartList).when(heartRepository).findAllByType(HeartType.SPECIAL.name());
+        doReturn(heartList).when(heartRepository).findAll();
 
         // when
         List<Heart> findHeartList = heartService.findSpecialTypeHearts();
@@ -71,12 +80,77 @@ class HeartServiceTest extends AbstractTestData {
     @DisplayName("하트 아이디로 조회")
     void findById() {
         // given
-        doReturn(Optional.of(like)).when(heartRepository).findById(anyLong());
+        doReturn(heartList).when(heartRepository).findAll();
 
         // when
         Heart findHeart = heartService.findById(1L);
 
         // then
         assertThat(findHeart).isEqualTo(like);
+        verify(heartRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("하트 아이디로 조회 - 카탈로그에 없으면 DB 조회")
+    void findByIdNotInCatalog() {
+        // given
+        doReturn(heartList).when(heartRepository).findAll();
+        doReturn(Optional.empty()).when(heartRepository).findById(eq(16L));
+
+        // when, then
+        assertThrows(HeartNotFoundException.class, () -> heartService.findById(16L));
+    }
+
+    @Test
+    @DisplayName("하트 카탈로그는 한 번만 불러옴")
+    void catalogLoadedOnce() {
+        // given
+        doReturn(heartList).when(heartRepository).findAll();
+
+        // when
+        heartService.findAll();
+        heartService.findDefaultTypeHearts();
+        heartService.findById(7L);
+
+        // then
+        verify(heartRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("응답용 하트 데이터 - 호출마다 새 객체")
+    void findAllHeartData() {
+        // given
+        doReturn(heartList).when(heartRepository).findAll();
+
+        // when
+        List<HeartData> first = heartService.findAllHeartData();
+        first.get(6).setLock();
+        List<HeartData> second = heartService.findAllHeartData();
+
+        // then
+        assertThat(second).extracting("heartId").containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L);
+        assertThat(second.get(6)).isNotSameAs(first.get(6));
+        assertThat(second.get(6).getIsLocked()).isFalse();
+        assertThat(heartService.findDefaultHeartData()).extracting("heartId").containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("하트 카탈로그 다시 불러오기 - 모든 인스턴스에 알림")
+    void reloadCatalogOnAllInstances() {
+        // given
+        Heart renamedRainbow = createHeart(7L, "새 무지개", HeartType.SPECIAL.name());
+        doReturn(heartList).doReturn(List.of(like, renamedRainbow)).when(heartRepository).findAll();
+        heartService.findAll();
+
+        // when
+        heartService.reloadCatalogOnAllInstances();
+
+        // then
+        assertThat(heartService.findById(7L).getName()).isEqualTo("새 무지개");
+        assertThat(heartService.findAll()).hasSize(2);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(1)).convertAndSend(eq(HeartService.CHANNEL_CATALOG_RELOAD), published.capture());
+        assertThat(heartService.isSentByThisInstance(published.getValue())).isTrue();
+        assertThat(heartService.isSentByThisInstance("other-instance")).isFalse();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.TotalMessageCountData;
+import com.chillin.hearting.api.service.ingest.MessageIngestionPipeline;
 import com.chillin.hearting.db.repository.MessageRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,9 +9,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,11 +31,40 @@ class HomeServiceTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private MessageIngestionPipeline messageIngestionPipeline;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
     @Test
-    @DisplayName("전체 메시지 전송 수 조회")
+    @DisplayName("전체 메시지 전송 수 조회 - Redis 카운터")
     void totalMessageCount() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn("10").when(valueOperations).get(HomeService.KEY_TOTAL_MESSAGE_COUNT);
+
+        // when
+        TotalMessageCountData result = homeService.totalMessageCount();
+
+        // then
+        assertThat(result.getTotalHeartCount()).isEqualTo(10L);
+        verify(messageRepository, never()).countBySenderIpNotOrIsNull(anyString());
+    }
+
+    @Test
+    @DisplayName("전체 메시지 전송 수 조회 - 카운터가 없으면 DB 값으로 초기화")
+    void totalMessageCountFromDB() {
         // given
         long count = 1L;
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(null).when(valueOperations).get(HomeService.KEY_TOTAL_MESSAGE_COUNT);
         doReturn(count).when(messageRepository).countBySenderIpNotOrIsNull(eq("ADMIN"));
 
         // when
@@ -34,5 +72,65 @@ class HomeServiceTest {
 
         // then
         assertThat(result.getTotalHeartCount()).isEqualTo(count);
+        verify(valueOperations, times(1)).setIfAbsent(HomeService.KEY_TOTAL_MESSAGE_COUNT, "1");
+    }
+
+    @Test
+    @DisplayName("전체 메시지 전송 수 증가")
+    void incrementTotalMessageCount() {
+        // when
+        homeService.incrementTotalMessageCount();
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(HomeService.KEY_TOTAL_MESSAGE_COUNT)));
+    }
+
+    @Test
+    @DisplayName("전체 메시지 전송 수 보정")
+    void reconcileTotalMessageCount() {
+        // given
+        doReturn("token").when(jobLockService).tryLock(eq(HomeService.RECONCILE_JOB_NAME), any(Duration.class));
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn("15").when(valueOperations).get(HomeService.KEY_TOTAL_MESSAGE_COUNT);
+        doReturn(12L).when(messageRepository).countBySenderIpNotOrIsNull(eq("ADMIN"));
+        doReturn(1).when(messageIngestionPipeline).pendingCount();
+
+        // when
+        homeService.reconcileTotalMessageCount();
+
+        // then
+        // 집계 값(12) + 저장 대기 중인 메시지(1) - 집계 전 카운트(15)
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(HomeService.KEY_TOTAL_MESSAGE_COUNT)), eq("-2"));
+        verify(valueOperations, never()).set(anyString(), anyString());
+        verify(jobLockService, times(1)).unlock(HomeService.RECONCILE_JOB_NAME, "token");
+    }
+
+    @Test
+    @DisplayName("전체 메시지 전송 수 보정 - 카운터가 없으면 건너뜀")
+    void reconcileTotalMessageCountEmpty() {
+        // given
+        doReturn("token").when(jobLockService).tryLock(eq(HomeService.RECONCILE_JOB_NAME), any(Duration.class));
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(null).when(valueOperations).get(HomeService.KEY_TOTAL_MESSAGE_COUNT);
+
+        // when
+        homeService.reconcileTotalMessageCount();
+
+        // then
+        verify(messageRepository, never()).countBySenderIpNotOrIsNull(anyString());
+        verify(jobLockService, times(1)).unlock(HomeService.RECONCILE_JOB_NAME, "token");
+    }
+
+    @Test
+    @DisplayName("전체 메시지 전송 수 보정 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void reconcileTotalMessageCountLocked() {
+        // given
+        doReturn(null).when(jobLockService).tryLock(eq(HomeService.RECONCILE_JOB_NAME), any(Duration.class));
+
+        // when
+        homeService.reconcileTotalMessageCount();
+
+        // then
+        verify(messageRepository, never()).countBySenderIpNotOrIsNull(anyString());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.chillin.hearting.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobLockServiceTest {
+
+    @InjectMocks
+    private JobLockService jobLockService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final String jobName = "job";
+    private final String key = JobLockService.KEY_JOB_LOCK_PREFIX + jobName;
+
+    @Test
+    @DisplayName("작업 락 획득")
+    void tryLock() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(true).when(valueOperations).setIfAbsent(eq(key), anyString(), any(Duration.class));
+
+        // when
+        String token = jobLockService.tryLock(jobName, Duration.ofMinutes(1));
+
+        // then
+        assertThat(token).isNotNull();
+    }
+
+    @Test
+    @DisplayName("작업 락 획득 실패 - 다른 인스턴스가 점유")
+    void tryLockFail() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(false).when(valueOperations).setIfAbsent(eq(key), anyString(), any(Duration.class));
+
+        // when
+        String token = jobLockService.tryLock(jobName, Duration.ofMinutes(1));
+
+        // then
+        assertThat(token).isNull();
+    }
+
+    @Test
+    @DisplayName("작업 락 해제 - 토큰 일치 시에만 삭제")
+    void unlock() {
+        // given
+        doReturn(1L).when(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq("token"));
+
+        // when
+        jobLockService.unlock(jobName, "token");
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(key)), eq("token"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.SendMessageData;
+import com.chillin.hearting.api.request.SendMessageReq;
+import com.chillin.hearting.exception.DuplicateException;
+import com.chillin.hearting.exception.InvalidIdempotencyKeyException;
+import com.chillin.hearting.exception.MessageQueueFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageIdempotencyServiceTest {
+
+    @InjectMocks
+    private MessageIdempotencyService messageIdempotencyService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final String idempotencyKey = "idempotency-key";
+    private final String scope = "senderId";
+    private final String redisKey = MessageIdempotencyService.KEY_IDEMPOTENCY_PREFIX + scope + ":" + idempotencyKey;
+    private final SendMessageReq sendMessageReq = SendMessageReq.builder().heartId(1L).senderId("senderId").receiverId("receiverId").title("title").build();
+    private final SendMessageData sendMessageData = SendMessageData.builder().messageId(10L).heartId(1L).heartName("하트").heartUrl("url").build();
+    private final AtomicInteger sendCount = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(messageIdempotencyService, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(messageIdempotencyService, "pendingTtlMs", 30_000L);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 Redis 없이 전송")
+    void noKey() {
+        // when
+        SendMessageData result = messageIdempotencyService.sendOnce(null, scope, sendMessageReq, this::send);
+
+        // then
+        assertThat(result).isSameAs(sendMessageData);
+        assertThat(sendCount.get()).isEqualTo(1);
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보내면 전송하지 않고 처음 결과 반환")
+    void replay() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(true).when(valueOperations).setIfAbsent(eq(redisKey), startsWith("P|"), any(Duration.class));
+        messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send);
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(1)).set(eq(redisKey), stored.capture(), eq(Duration.ofSeconds(600)));
+        doReturn(false).when(valueOperations).setIfAbsent(eq(redisKey), startsWith("P|"), any(Duration.class));
+        doReturn(stored.getValue()).when(valueOperations).get(redisKey);
+
+        // when
+        SendMessageData result = messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send);
+
+        // then
+        assertThat(sendCount.get()).isEqualTo(1);
+        assertThat(result.getMessageId()).isEqualTo(sendMessageData.getMessageId());
+        assertThat(result.getHeartName()).isEqualTo(sendMessageData.getHeartName());
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청을 처리하는 중이면 DuplicateException")
+    void pending() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        ArgumentCaptor<String> pending = ArgumentCaptor.forClass(String.class);
+        doReturn(true).when(valueOperations).setIfAbsent(eq(redisKey), pending.capture(), any(Duration.class));
+        messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send);
+        doReturn(false).when(valueOperations).setIfAbsent(eq(redisKey), anyString(), any(Duration.class));
+        doReturn(pending.getValue()).when(valueOperations).get(redisKey);
+
+        // when, then
+        assertThatThrownBy(() -> messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send))
+                .isInstanceOf(DuplicateException.class);
+        assertThat(sendCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 보내면 InvalidIdempotencyKeyException")
+    void reusedKey() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(false).when(valueOperations).setIfAbsent(eq(redisKey), anyString(), any(Duration.class));
+        doReturn("D|other-fingerprint|{}").when(valueOperations).get(redisKey);
+
+        // when, then
+        assertThatThrownBy(() -> messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThat(sendCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 처리 중 표시를 지워 다시 보낼 수 있음")
+    void sendFailed() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        ArgumentCaptor<String> pending = ArgumentCaptor.forClass(String.class);
+        doReturn(true).when(valueOperations).setIfAbsent(eq(redisKey), pending.capture(), any(Duration.class));
+
+        // when, then
+        assertThatThrownBy(() -> messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, () -> {
+            throw new MessageQueueFullException();
+        })).isInstanceOf(MessageQueueFullException.class);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(redisKey)), eq(pending.getValue()));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 키 없이 전송")
+    void redisFailure() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doThrow(new IllegalStateException("down")).when(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+        // when
+        SendMessageData result = messageIdempotencyService.sendOnce(idempotencyKey, scope, sendMessageReq, this::send);
+
+        // then
+        assertThat(result).isSameAs(sendMessageData);
+    }
+
+    private SendMessageData send() {
+        sendCount.incrementAndGet();
+        return sendMessageData;
+    }
+}
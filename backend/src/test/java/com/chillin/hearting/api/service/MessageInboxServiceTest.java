@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.InboxData;
+import com.chillin.hearting.api.data.InboxListData;
+import com.chillin.hearting.api.data.InboxMessageDTO;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.domain.Message;
@@ -13,11 +15,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +38,9 @@ class MessageInboxServiceTest {
     @Mock
     private InboxRepository inboxRepository;
 
+    @Mock
+    private BoardVersionService boardVersionService;
+
     private final String fakeSenderId = "1";
     private final String getFakeReceiverId = "2";
     private User user1 = createUser(fakeSenderId, "test1.com", "nick1");
@@ -83,20 +92,35 @@ class MessageInboxServiceTest {
     @DisplayName("영구보관 메시지 조회")
     void findInboxMessages() {
         // given
-        Message m1 = createMessage(1L);
-        Message m2 = createMessage(2L);
-        m1.toInbox();
-        m2.toInbox();
-        List<Message> inboxList = new ArrayList<>();
-        inboxList.add(m1);
-        inboxList.add(m2);
+        List<InboxMessageDTO> inboxList = new ArrayList<>();
+        inboxList.add(createInboxMessage(1L));
+        inboxList.add(createInboxMessage(2L));
 
         // mocking
-        when(inboxRepository.findAllByReceiverIdAndIsStored(any(), any())).thenReturn(inboxList);
+        when(inboxRepository.findInboxMessages(any())).thenReturn(inboxList);
 
         // when
         List<InboxData> findList = messageInboxService.findInboxMessages(getFakeReceiverId);
         assertThat(findList).hasSameSizeAs(inboxList);
+        assertThat(findList).extracting("messageId").containsExactly(1L, 2L);
+        assertThat(findList).extracting("emojiName").containsOnly(emoji.getName());
+    }
+
+    @Test
+    @DisplayName("영구보관 메시지 커서 조회")
+    void findInboxMessagesWithCursor() {
+        // given
+        List<InboxMessageDTO> inboxList = List.of(createInboxMessage(3L), createInboxMessage(2L), createInboxMessage(1L));
+
+        // mocking
+        when(inboxRepository.findInboxMessagesBefore(eq(getFakeReceiverId), any(LocalDateTime.class), anyLong(), eq(PageRequest.of(0, 3)))).thenReturn(inboxList);
+
+        // when
+        InboxListData result = messageInboxService.findInboxMessages(getFakeReceiverId, null, 2);
+
+        // then
+        assertThat(result.getInboxList()).extracting("messageId").containsExactly(3L, 2L);
+        assertThat(result.getNextCursor().getId()).isEqualTo(2L);
     }
 
     @Test
@@ -134,6 +158,7 @@ class MessageInboxServiceTest {
         // then
         Optional<Message> findMessage = inboxRepository.findById(fakeId);
         assertThat(findMessage.get().isActive()).isFalse();
+        verify(boardVersionService, times(1)).bump(savedMessage.getReceiver().getId());
     }
 
 
@@ -182,4 +207,18 @@ class MessageInboxServiceTest {
                 .content("content")
                 .build();
     }
+
+    private InboxMessageDTO createInboxMessage(Long messageId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("messageId", messageId);
+        row.put("title", "title");
+        row.put("messageContent", "content");
+        row.put("heartId", heart.getId());
+        row.put("heartUrl", heart.getImageUrl());
+        row.put("emojiId", emoji.getId());
+        row.put("emojiName", emoji.getName());
+        row.put("emojiUrl", emoji.getImageUrl());
+        row.put("createdDate", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        return new SpelAwareProxyProjectionFactory().createProjection(InboxMessageDTO.class, row);
+    }
 }
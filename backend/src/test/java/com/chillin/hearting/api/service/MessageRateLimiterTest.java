@@ -0,0 +1,104 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageRateLimiterTest {
+
+    @InjectMocks
+    private MessageRateLimiter messageRateLimiter;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String clientIp = "127.0.0.1";
+    private final String senderId = "senderId";
+    private final String receiverId = "receiverId";
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(messageRateLimiter, "ipLimit", 30);
+        ReflectionTestUtils.setField(messageRateLimiter, "senderLimit", 20);
+        ReflectionTestUtils.setField(messageRateLimiter, "pairLimit", 5);
+        ReflectionTestUtils.setField(messageRateLimiter, "periodMs", 60_000L);
+        messageRateLimiter.start();
+    }
+
+    @Test
+    @DisplayName("제한을 넘지 않으면 IP, 보낸 유저, 받는 유저 키를 한 번에 기록")
+    void acquire() {
+        // given
+        doReturn(Arrays.asList(0L, 0L)).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any());
+
+        // when
+        messageRateLimiter.acquire(clientIp, senderId, receiverId);
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), any());
+        assertThat(keys.getValue()).containsExactly(
+                "rateLimit:message:ip:" + clientIp,
+                "rateLimit:message:sender:" + senderId,
+                "rateLimit:message:pair:" + senderId + ":" + receiverId);
+    }
+
+    @Test
+    @DisplayName("비로그인 전송은 IP만 제한")
+    void acquireAnonymous() {
+        // given
+        doReturn(Arrays.asList(0L, 0L)).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any());
+
+        // when
+        messageRateLimiter.acquire(clientIp, null, receiverId);
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), any());
+        assertThat(keys.getValue()).containsExactly("rateLimit:message:ip:" + clientIp);
+    }
+
+    @Test
+    @DisplayName("제한을 넘으면 TooManyRequestsException, 이후 요청은 Redis를 거치지 않고 거절")
+    void tooManyRequests() {
+        // given
+        doReturn(Arrays.asList(1500L, 3L)).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any());
+
+        // when, then
+        assertThatThrownBy(() -> messageRateLimiter.acquire(clientIp, senderId, receiverId))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds()).isEqualTo(2));
+        assertThatThrownBy(() -> messageRateLimiter.acquire("other-ip", senderId, receiverId))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 제한 없이 전송")
+    void redisFailure() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any());
+
+        // when, then
+        messageRateLimiter.acquire(clientIp, senderId, receiverId);
+    }
+}
@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.api.data.MessageData;
+import com.chillin.hearting.api.data.ReceivedMessageDTO;
 import com.chillin.hearting.api.data.ReceivedMessageData;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
@@ -14,18 +16,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +42,8 @@ class MessageReceivedServiceTest {
     private MessageReceivedService messageReceivedService;
     @Mock
     private MessageRepository messageRepository;
+    @Mock
+    private BoardVersionService boardVersionService;
     private final String senderId = "senderId";
     private final String receiverId = "receiverId";
     private final long messageId = 0L;
@@ -51,48 +61,28 @@ class MessageReceivedServiceTest {
     @Test
     void successGetReceivedMessages() {
         // given
-
-        List<Message> messageList = new ArrayList<>();
-        Message message1 = Message.builder().id(0L).heart(heart).receiver(receiver).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(3)).build();
-        Message message2 = Message.builder().id(0L).heart(heart).receiver(receiver).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(3)).build();
-        Message message3 = Message.builder().id(0L).heart(heart).receiver(receiver).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul"))).build();
-        Message message4 = Message.builder().id(0L).heart(heart).receiver(receiver).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul"))).build();
-
-        message1.undeleteMessage();
-        message2.undeleteMessage();
-        message3.undeleteMessage();
-        message4.undeleteMessage();
-
-        messageList.add(message1);
-        messageList.add(message2);
-        messageList.add(message3);
-        messageList.add(message4);
-
-        doReturn(messageList).when(messageRepository).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
+        List<ReceivedMessageDTO> messageList = List.of(createReceivedMessage(1L, null), createReceivedMessage(2L, null));
+        doReturn(messageList).when(messageRepository).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
 
         // when
         final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, true);
 
         // then
         assertThat(data.getMessageList().size()).isEqualTo(2);
+        assertThat(data.getMessageList().get(0).getHeartName()).isEqualTo(heart.getName());
+        assertThat(data.getMessageList().get(0).getEmojiId()).isEqualTo(-1L);
 
         // verify
-        verify(messageRepository, times(1)).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
-        verify(messageRepository, times(2)).save(any(Message.class));
+        verify(messageRepository, times(1)).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
+        verify(messageRepository, never()).save(any(Message.class));
     }
 
     @Test
     void successGetReceivedMessagesWithEmoji() {
         // given
-        List<Message> messageList = new ArrayList<>();
         Emoji emoji = Emoji.builder().id(1L).name("name").imageUrl("url").build();
-        Message message1 = Message.builder().id(0L).heart(heart).receiver(receiver).emoji(emoji).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(3)).build();
-
-        message1.undeleteMessage();
-
-        messageList.add(message1);
-
-        doReturn(messageList).when(messageRepository).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
+        List<ReceivedMessageDTO> messageList = List.of(createReceivedMessage(1L, emoji));
+        doReturn(messageList).when(messageRepository).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
 
         // when
         final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, true);
@@ -102,31 +92,72 @@ class MessageReceivedServiceTest {
         assertThat(data.getMessageList().get(0).getEmojiId()).isEqualTo(emoji.getId());
         assertThat(data.getMessageList().get(0).getEmojiName()).isEqualTo(emoji.getName());
         assertThat(data.getMessageList().get(0).getEmojiUrl()).isEqualTo(emoji.getImageUrl());
+        assertThat(data.getMessageList().get(0).isRead()).isTrue();
 
         // verify
-        verify(messageRepository, times(1)).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
+        verify(messageRepository, times(1)).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
     }
 
     @Test
     void successGetReceivedMessagesNoLogin() {
         // given
-        List<Message> messageList = new ArrayList<>();
-        Message message1 = Message.builder().id(0L).heart(heart).receiver(receiver).expiredDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(3)).build();
+        List<ReceivedMessageDTO> messageList = List.of(createReceivedMessage(1L, null));
+        doReturn(messageList).when(messageRepository).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
+
+        // when
+        final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, false);
 
-        message1.undeleteMessage();
+        // then
+        assertThat(data.getMessageList().get(0).isRead()).isFalse();
 
-        messageList.add(message1);
+        // verify
+        verify(messageRepository, times(1)).findReceivedMessages(eq(receiverId), any(LocalDateTime.class));
+    }
 
-        doReturn(messageList).when(messageRepository).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
+    @Test
+    void successGetReceivedMessagesWithCursor() {
+        // given
+        List<ReceivedMessageDTO> messageList = List.of(createReceivedMessage(3L, null), createReceivedMessage(2L, null), createReceivedMessage(1L, null));
+        doReturn(messageList).when(messageRepository).findReceivedMessagesBefore(eq(receiverId), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(PageRequest.of(0, 3)));
 
         // when
-        final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, false);
+        final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, true, null, 2);
 
         // then
-        assertThat(data.getMessageList().get(0).isRead()).isEqualTo(message1.isRead());
+        assertThat(data.getMessageList().size()).isEqualTo(2);
+        assertThat(data.getNextCursor().getId()).isEqualTo(2L);
+        assertThat(data.getNextCursor().getCreatedDate()).isEqualTo(messageList.get(1).getCreatedDate());
+    }
 
-        // verify
-        verify(messageRepository, times(1)).findByReceiverIdAndIsActiveTrue(receiverId, Sort.by(Sort.Direction.DESC, "createdDate"));
+    @Test
+    void successGetReceivedMessagesWithCursor_LastPage() {
+        // given
+        MessageCursor cursor = MessageCursor.of(LocalDateTime.now(ZoneId.of("Asia/Seoul")), 2L);
+        List<ReceivedMessageDTO> messageList = List.of(createReceivedMessage(1L, null));
+        doReturn(messageList).when(messageRepository).findReceivedMessagesBefore(eq(receiverId), any(LocalDateTime.class), eq(cursor.getCreatedDate()), eq(2L), any(Pageable.class));
+
+        // when
+        final ReceivedMessageData data = messageReceivedService.getReceivedMessages(receiverId, false, cursor, 2);
+
+        // then
+        assertThat(data.getMessageList().size()).isEqualTo(1);
+        assertThat(data.getNextCursor()).isNull();
+    }
+
+    private ReceivedMessageDTO createReceivedMessage(long messageId, Emoji emoji) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("messageId", messageId);
+        row.put("title", "title");
+        row.put("heartId", heart.getId());
+        row.put("heartName", heart.getName());
+        row.put("heartUrl", heart.getImageUrl());
+        row.put("emojiId", emoji != null ? emoji.getId() : null);
+        row.put("emojiName", emoji != null ? emoji.getName() : null);
+        row.put("emojiUrl", emoji != null ? emoji.getImageUrl() : null);
+        row.put("createdDate", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        row.put("expiredDate", LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(1));
+        row.put("isRead", true);
+        return new SpelAwareProxyProjectionFactory().createProjection(ReceivedMessageDTO.class, row);
     }
 
     // getMessageDetail
@@ -174,6 +205,24 @@ class MessageReceivedServiceTest {
         verify(messageRepository, times(1)).findById(messageIdNoEmoji);
         verify(messageRepository, times(1)).findById(messageIdWithEmoji);
         verify(messageRepository, times(2)).save(any(Message.class));
+        verify(boardVersionService, times(2)).bump(receiverId);
+    }
+
+    @Test
+    void successGetMessageDetail_AlreadyRead() {
+        // given
+        Message readMessage = Message.builder().isRead(true).id(messageId).heart(heart).receiver(receiver).build();
+        doReturn(Optional.of(readMessage)).when(messageRepository).findById(messageId);
+
+        // when
+        final MessageData data = messageReceivedService.getMessageDetail(messageId, receiverId);
+
+        // then
+        assertThat(data.isRead()).isTrue();
+
+        // verify
+        verify(messageRepository, never()).save(any(Message.class));
+        verify(boardVersionService, never()).bump(anyString());
     }
 
 }
@@ -2,6 +2,7 @@ package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.Data;
 import com.chillin.hearting.api.data.SendMessageData;
+import com.chillin.hearting.api.data.SentMessageDTO;
 import com.chillin.hearting.api.data.SentMessageListData;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
@@ -14,10 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -37,17 +42,45 @@ class MessageSentServiceTest {
     void getSentMessages() {
         // given
         String userId = "userId";
-        Message message = createMockMessage();
-        doReturn(LocalDateTime.now()).when(message).getExpiredDate();
-
-        List<Message> messages = List.of(message);
-        doReturn(messages).when(sentMessageRepository).findBySenderIdAndExpiredDateAfterOrderByExpiredDate(eq(userId),any(LocalDateTime.class));
+        Map<String, Object> row = new HashMap<>();
+        row.put("messageId", 1L);
+        row.put("title", "title");
+        row.put("shortDescription", "sd");
+        row.put("heartId", 1L);
+        row.put("heartName", "name");
+        row.put("heartUrl", "imageUrl");
+        row.put("createdDate", LocalDateTime.now());
+        row.put("expiredDate", LocalDateTime.now().plusHours(1));
+        SentMessageDTO dto = new SpelAwareProxyProjectionFactory().createProjection(SentMessageDTO.class, row);
+
+        List<SentMessageDTO> messages = List.of(dto);
+        doReturn(messages).when(sentMessageRepository).findSentMessages(eq(userId),any(LocalDateTime.class));
 
         // when
         SentMessageListData result = messageSentService.getSentMessages(userId);
 
         // then
         assertThat(result.getSentMessageList()).isInstanceOf(List.class);
+        assertThat(result.getSentMessageList().size()).isEqualTo(1);
+        assertThat(result.getSentMessageList().get(0).getHeartName()).isEqualTo("name");
+        assertThat(result.getSentMessageList().get(0).getShortDescription()).isEqualTo("sd");
+        assertThat(result.getSentMessageList().get(0).getEmojiId()).isNull();
+    }
+
+    @Test
+    @DisplayName("보낸 메시지 커서 조회")
+    void getSentMessagesWithCursor() {
+        // given
+        String userId = "userId";
+        List<SentMessageDTO> messages = List.of(createSentMessage(1L), createSentMessage(2L));
+        doReturn(messages).when(sentMessageRepository).findSentMessagesAfter(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class), eq(0L), eq(PageRequest.of(0, 2)));
+
+        // when
+        SentMessageListData result = messageSentService.getSentMessages(userId, null, 1);
+
+        // then
+        assertThat(result.getSentMessageList().size()).isEqualTo(1);
+        assertThat(result.getNextCursor().getId()).isEqualTo(1L);
     }
 
     @Test
@@ -89,6 +122,16 @@ class MessageSentServiceTest {
         verify(message, times(0)).getContent();
     }
 
+    private SentMessageDTO createSentMessage(Long messageId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("messageId", messageId);
+        row.put("title", "title");
+        row.put("heartId", 1L);
+        row.put("createdDate", LocalDateTime.now());
+        row.put("expiredDate", LocalDateTime.now().plusHours(1));
+        return new SpelAwareProxyProjectionFactory().createProjection(SentMessageDTO.class, row);
+    }
+
     private Message createMockMessage() {
         Message message = mock(Message.class);
         Heart heart = mock(Heart.class);
@@ -1,6 +1,8 @@
 package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.api.data.HeartCountDTO;
+import com.chillin.hearting.api.data.ReceiverMessageCountDTO;
+import com.chillin.hearting.api.service.enums.HeartInfo;
 import com.chillin.hearting.db.domain.Message;
 import com.chillin.hearting.db.repository.MessageRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doReturn;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MessageServiceTest extends AbstractTestData {
@@ -43,6 +47,46 @@ class MessageServiceTest extends AbstractTestData {
         assertThat(result).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("동일 사용자에게 보낸 최대 핑크 하트 수 - Redis 조회")
+    void findMaxMessageCountToSameUserFromRedis() {
+        // given
+        HashOperations<String, String, Object> hashOperations = mock(HashOperations.class);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        doReturn(3).when(hashOperations).get(eq("userSentHeartPerReceiver:sender:4"), eq(MessageService.FIELD_MAX_RECEIVER_COUNT));
+
+        // when
+        int result = messageService.findMaxMessageCountToSameUser("sender", HeartInfo.PINK.getId());
+
+        // then
+        assertThat(result).isEqualTo(3);
+        verify(messageRepository, never()).findMaxMessageCountToSameUser(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("동일 사용자에게 보낸 최대 핑크 하트 수 - Redis에 없으면 MySQL로 다시 만듦")
+    void findMaxMessageCountToSameUserMigrate() {
+        // given
+        HashOperations<String, String, Object> hashOperations = mock(HashOperations.class);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        doReturn(null).when(hashOperations).get(anyString(), anyString());
+        ReceiverMessageCountDTO toReceiver1 = mock(ReceiverMessageCountDTO.class);
+        doReturn("receiver1").when(toReceiver1).getReceiverId();
+        doReturn(2L).when(toReceiver1).getMessageCount();
+        ReceiverMessageCountDTO toReceiver2 = mock(ReceiverMessageCountDTO.class);
+        doReturn("receiver2").when(toReceiver2).getReceiverId();
+        doReturn(5L).when(toReceiver2).getMessageCount();
+        doReturn(List.of(toReceiver1, toReceiver2)).when(messageRepository).findMessageCountPerReceiver("sender", HeartInfo.PINK.getId());
+
+        // when
+        int result = messageService.findMaxMessageCountToSameUser("sender", HeartInfo.PINK.getId());
+
+        // then
+        assertThat(result).isEqualTo(5);
+        verify(hashOperations).putAll(eq("userSentHeartPerReceiver:sender:4"),
+                eq(Map.of("receiver1", 2, "receiver2", 5, MessageService.FIELD_MAX_RECEIVER_COUNT, 5)));
+    }
+
     @Test
     @DisplayName("메시지 저장")
     void save() {
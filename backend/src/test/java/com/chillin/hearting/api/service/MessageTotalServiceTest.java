@@ -0,0 +1,153 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageTotalServiceTest {
+
+    @InjectMocks
+    private MessageTotalService messageTotalService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private final String userId = "receiver";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(messageTotalService, "flushBatchSize", 2);
+    }
+
+    @Test
+    @DisplayName("누적 메시지 수 증가 - Redis 카운터 있음")
+    void increment() {
+        // given
+        doReturn(11L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq(userId), eq("1"), eq(""));
+
+        // when
+        long total = messageTotalService.increment(userId, 1);
+
+        // then
+        assertThat(total).isEqualTo(11L);
+        verify(userRepository, never()).findMessageTotalById(anyString());
+    }
+
+    @Test
+    @DisplayName("누적 메시지 수 증가 - Redis 카운터 없으면 DB 값으로 초기화")
+    void incrementWithoutCounter() {
+        // given
+        doReturn(-1L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq(userId), eq("1"), eq(""));
+        doReturn(Optional.of(10L)).when(userRepository).findMessageTotalById(userId);
+        doReturn(11L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq(userId), eq("1"), eq("10"));
+
+        // when
+        long total = messageTotalService.increment(userId, 1);
+
+        // then
+        assertThat(total).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("누적 메시지 수 증가 - 트랜잭션이 커밋된 경우에만 증가")
+    void incrementAfterCommit() {
+        for (int status : new int[]{TransactionSynchronization.STATUS_ROLLED_BACK, TransactionSynchronization.STATUS_COMMITTED}) {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                messageTotalService.incrementAfterCommit(userId, 1);
+
+                // then
+                verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+                TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+                    if (status == TransactionSynchronization.STATUS_COMMITTED) sync.afterCommit();
+                    sync.afterCompletion(status);
+                });
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq(userId), eq("1"), eq(""));
+    }
+
+    @Test
+    @DisplayName("누적 메시지 수 조회 - Redis 카운터 우선")
+    void getMessageTotal() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn("15").when(valueOperations).get(MessageTotalService.KEY_MESSAGE_TOTAL_PREFIX + userId);
+        doReturn(null).when(valueOperations).get(MessageTotalService.KEY_MESSAGE_TOTAL_PREFIX + "other");
+
+        // when, then
+        assertThat(messageTotalService.getMessageTotal(userId, 3L)).isEqualTo(15L);
+        assertThat(messageTotalService.getMessageTotal("other", 3L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("변경된 누적 메시지 수 DB 반영")
+    void flushMessageTotals() {
+        // given
+        doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(List.of("a", "b")).doReturn(List.of("c")).when(setOperations).pop(MessageTotalService.KEY_DIRTY_USERS, 2);
+        doReturn(List.of("1", "2")).when(valueOperations).multiGet(anyCollection());
+        doReturn(List.of("3")).when(valueOperations).multiGet(List.of(MessageTotalService.KEY_MESSAGE_TOTAL_PREFIX + "c"));
+
+        // when
+        messageTotalService.flushMessageTotals();
+
+        // then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(setOperations, never()).add(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 주기에 다시 처리")
+    void flushMessageTotalsFail() {
+        // given
+        doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(List.of("a")).when(setOperations).pop(MessageTotalService.KEY_DIRTY_USERS, 2);
+        doReturn(List.of("1")).when(valueOperations).multiGet(anyCollection());
+        doThrow(new RuntimeException()).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // when
+        messageTotalService.flushMessageTotals();
+
+        // then
+        verify(setOperations, times(1)).add(MessageTotalService.KEY_DIRTY_USERS, "a");
+    }
+}
@@ -50,7 +50,7 @@ class NotificationServiceTest extends AbstractTestData {
 
         NotificationService spyService = spy(notificationService);
         doNothing().when(spyService).processNotification(any(Notification.class), any());
-        doReturn(notificationList).when(notificationRepository).findByUserIdAndIsActiveTrue(anyString(),any(Sort.class));
+        doReturn(notificationList).when(notificationRepository).findByUserIdAndIsActiveTrueAndExpiredDateAfter(anyString(), any(LocalDateTime.class), any(Sort.class));
 
         // when
         NotificationListData result = spyService.getNotifications("user");
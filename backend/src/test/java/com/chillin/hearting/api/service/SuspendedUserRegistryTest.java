@@ -0,0 +1,190 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.api.data.SuspendedUserData;
+import com.chillin.hearting.db.repository.BlockedUserRepository;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuspendedUserRegistryTest {
+
+    @InjectMocks
+    private SuspendedUserRegistry suspendedUserRegistry;
+
+    @Mock
+    private BlockedUserRepository blockedUserRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String userId = "userId";
+    private final long future = System.currentTimeMillis() + 60_000;
+
+    @Test
+    @DisplayName("정지되지 않은 유저는 통과")
+    void checkActive() {
+        suspendedUserRegistry.checkActive(userId);
+        suspendedUserRegistry.checkActive(null);
+    }
+
+    @Test
+    @DisplayName("일시정지, 영구정지 알림 반영 후 각각 pause, out")
+    void applySuspension() {
+        // when
+        suspendedUserRegistry.apply(userId + "|P|" + future);
+        suspendedUserRegistry.apply("other|O|" + future);
+
+        // then
+        assertThatThrownBy(() -> suspendedUserRegistry.checkActive(userId))
+                .isInstanceOf(UnAuthorizedException.class)
+                .hasMessage("pause");
+        assertThatThrownBy(() -> suspendedUserRegistry.checkActive("other"))
+                .isInstanceOf(UnAuthorizedException.class)
+                .hasMessage("out");
+    }
+
+    @Test
+    @DisplayName("정지 기간이 지난 유저는 통과")
+    void suspensionEnded() {
+        // given
+        suspendedUserRegistry.apply(userId + "|P|" + (System.currentTimeMillis() - 1));
+
+        // when, then
+        suspendedUserRegistry.checkActive(userId);
+    }
+
+    @Test
+    @DisplayName("해제 알림 반영 후 통과")
+    void applyRelease() {
+        // given
+        suspendedUserRegistry.apply(userId + "|P|" + future);
+
+        // when
+        boolean applied = suspendedUserRegistry.apply(userId + "|A|0");
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(suspendedUserRegistry.size()).isZero();
+        suspendedUserRegistry.checkActive(userId);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 알림은 무시")
+    void applyInvalid() {
+        assertThat(suspendedUserRegistry.apply("userId")).isFalse();
+        assertThat(suspendedUserRegistry.apply("userId|P|abc")).isFalse();
+        assertThat(suspendedUserRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("정지 시 바로 반영하고 다른 인스턴스에 알림")
+    void suspend() {
+        // given
+        LocalDateTime endDate = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(3);
+
+        // when
+        suspendedUserRegistry.suspend(userId, 'P', endDate);
+
+        // then
+        assertThatThrownBy(() -> suspendedUserRegistry.checkActive(userId)).isInstanceOf(UnAuthorizedException.class);
+        verify(stringRedisTemplate, times(1)).convertAndSend(eq(SuspendedUserRegistry.CHANNEL_USER_SUSPENSION), startsWith(userId + "|P|"));
+    }
+
+    @Test
+    @DisplayName("DB와 다시 맞추면 정지 목록을 DB 기준으로 교체")
+    void resync() {
+        // given
+        suspendedUserRegistry.apply("released|P|" + future);
+        List<SuspendedUserData> suspendedUsers = Collections.singletonList(
+                new SuspendedUserData(userId, 'O', LocalDateTime.of(9999, 12, 31, 0, 0)));
+        doReturn(suspendedUsers).when(blockedUserRepository).findSuspendedUsers(anyCollection(), any(LocalDateTime.class));
+
+        // when
+        suspendedUserRegistry.resync();
+
+        // then
+        assertThat(suspendedUserRegistry.size()).isEqualTo(1);
+        suspendedUserRegistry.checkActive("released");
+        assertThatThrownBy(() -> suspendedUserRegistry.checkActive(userId))
+                .isInstanceOf(UnAuthorizedException.class)
+                .hasMessage("out");
+    }
+
+    @Test
+    @DisplayName("DB와 다시 맞추는 도중 해제된 유저는 조회 결과에 있어도 다시 정지하지 않음")
+    void resyncKeepsReleaseAppliedDuringQuery() {
+        // given
+        suspendedUserRegistry.apply(userId + "|P|" + future);
+        List<SuspendedUserData> suspendedUsers = Collections.singletonList(
+                new SuspendedUserData(userId, 'P', LocalDateTime.of(9999, 12, 31, 0, 0)));
+        doAnswer(invocation -> {
+            Thread.sleep(5);
+            suspendedUserRegistry.apply(userId + "|A|0");
+            return suspendedUsers;
+        }).when(blockedUserRepository).findSuspendedUsers(anyCollection(), any(LocalDateTime.class));
+
+        // when
+        suspendedUserRegistry.resync();
+
+        // then
+        assertThat(suspendedUserRegistry.size()).isZero();
+        suspendedUserRegistry.checkActive(userId);
+    }
+
+    @Test
+    @DisplayName("DB와 다시 맞추는 도중 정지된 유저는 조회 결과의 이전 정지 정보로 덮어쓰지 않음")
+    void resyncKeepsSuspensionAppliedDuringQuery() {
+        // given
+        List<SuspendedUserData> suspendedUsers = Collections.singletonList(
+                new SuspendedUserData(userId, 'P', LocalDateTime.of(9999, 12, 31, 0, 0)));
+        doAnswer(invocation -> {
+            Thread.sleep(5);
+            suspendedUserRegistry.apply(userId + "|O|" + future);
+            return suspendedUsers;
+        }).when(blockedUserRepository).findSuspendedUsers(anyCollection(), any(LocalDateTime.class));
+
+        // when
+        suspendedUserRegistry.resync();
+
+        // then
+        assertThatThrownBy(() -> suspendedUserRegistry.checkActive(userId))
+                .isInstanceOf(UnAuthorizedException.class)
+                .hasMessage("out");
+    }
+
+    @Test
+    @DisplayName("해제된 유저는 DB와 다시 맞춘 뒤 정지 목록에서 제거")
+    void resyncRemovesReleased() {
+        // given
+        suspendedUserRegistry.apply(userId + "|A|0");
+        doReturn(Collections.emptyList()).when(blockedUserRepository).findSuspendedUsers(anyCollection(), any(LocalDateTime.class));
+
+        // when
+        suspendedUserRegistry.resync();
+
+        // then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(suspendedUserRegistry, "suspendedUsers")).isEmpty();
+    }
+}
@@ -2,13 +2,22 @@ package com.chillin.hearting.api.service;
 
 import com.chillin.hearting.db.domain.UserHeart;
 import com.chillin.hearting.db.repository.UserHeartRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +33,17 @@ class UserHeartServiceTest extends AbstractTestData {
     @Mock
     private UserHeartRepository userHeartRepository;
 
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userHeartService, "heartMaskTtlHours", 24L);
+    }
+
     @Test
     @DisplayName("사용자 ID로 유저 하트 조회, 하트 ID로 정렬")
     void findAllByUserIdOrderByHeartId() {
@@ -43,27 +63,32 @@ class UserHeartServiceTest extends AbstractTestData {
     }
 
     @Test
-    @DisplayName("획득한 스페셜 하트")
+    @DisplayName("획득한 스페셜 하트 - Redis 마스크 조회")
     void isUserAcquiredHeartTrue() {
         // given
-        long heartId = 1L;
+        long heartId = 7L;
         String userId = "userId";
-        UserHeart userHeart = mock(UserHeart.class);
-        doReturn(Optional.of(userHeart)).when(userHeartRepository).findByHeartIdAndUserId(eq(heartId),eq(userId));
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(String.valueOf((1L << 7) | (1L << 9))).when(valueOperations).get(eq("userHeartMask:" + userId));
+
         // when
         boolean result = userHeartService.isUserAcquiredHeart(userId,heartId);
 
         // then
         assertThat(result).isTrue();
+        verify(userHeartRepository, never()).findHeartIdsByUserId(anyString());
+        verify(userHeartRepository, never()).findByHeartIdAndUserId(anyLong(), anyString());
     }
 
     @Test
-    @DisplayName("획득 못한 스페셜 하트")
+    @DisplayName("획득 못한 스페셜 하트 - Redis 마스크 조회")
     void isUserAcquiredHeartFalse() {
         // given
-        long heartId = 1L;
+        long heartId = 8L;
         String userId = "userId";
-        doReturn(Optional.empty()).when(userHeartRepository).findByHeartIdAndUserId(eq(heartId),eq(userId));
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(String.valueOf((1L << 7) | (1L << 9))).when(valueOperations).get(eq("userHeartMask:" + userId));
+
         // when
         boolean result = userHeartService.isUserAcquiredHeart(userId,heartId);
 
@@ -71,6 +96,92 @@ class UserHeartServiceTest extends AbstractTestData {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("유저 하트 마스크 - Redis에 없으면 user_heart로 다시 만듦")
+    void getAcquiredHeartMaskRebuild() {
+        // given
+        String userId = "userId";
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(null).when(valueOperations).get(eq("userHeartMask:" + userId));
+        doReturn(List.of(7L, 12L)).when(userHeartRepository).findHeartIdsByUserId(eq(userId));
+
+        // when
+        long result = userHeartService.getAcquiredHeartMask(userId);
+
+        // then
+        assertThat(result).isEqualTo((1L << 7) | (1L << 12));
+        verify(valueOperations, times(1)).setIfAbsent(eq("userHeartMask:" + userId), eq(String.valueOf(result)), eq(Duration.ofHours(24)));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("유저 하트 마스크 - 다시 만드는 사이 다른 요청이 저장한 마스크는 덮어쓰지 않음")
+    void getAcquiredHeartMaskRebuildRace() {
+        // given
+        String userId = "userId";
+        long storedMask = (1L << 7) | (1L << 9);
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        when(valueOperations.get(eq("userHeartMask:" + userId))).thenReturn(null, String.valueOf(storedMask));
+        doReturn(List.of(7L)).when(userHeartRepository).findHeartIdsByUserId(eq(userId));
+        doReturn(false).when(valueOperations).setIfAbsent(eq("userHeartMask:" + userId), eq(String.valueOf(1L << 7)), eq(Duration.ofHours(24)));
+
+        // when
+        long result = userHeartService.getAcquiredHeartMask(userId);
+
+        // then
+        assertThat(result).isEqualTo(storedMask);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("유저 하트 마스크에 획득 하트 추가")
+    void addToHeartMask() {
+        // when
+        userHeartService.addToHeartMask("userId", 9L);
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("userHeartMask:userId")), eq(String.valueOf(1L << 9)), eq(String.valueOf(24 * 60 * 60)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 경우에만 유저 하트 마스크에 반영")
+    void addToHeartMaskAfterCommit() {
+        for (int status : new int[]{TransactionSynchronization.STATUS_ROLLED_BACK, TransactionSynchronization.STATUS_COMMITTED}) {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                userHeartService.addToHeartMask("userId", 9L);
+
+                // then
+                verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+                TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+                    if (status == TransactionSynchronization.STATUS_COMMITTED) sync.afterCommit();
+                    sync.afterCompletion(status);
+                });
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("userHeartMask:userId")), eq(String.valueOf(1L << 9)), eq(String.valueOf(24 * 60 * 60)));
+    }
+
+    @Test
+    @DisplayName("모든 유저 하트 마스크 다시 만들기")
+    void rebuildAllHeartMasks() {
+        // given
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        List<Object[]> rows = List.of(new Object[]{"user1", 7L}, new Object[]{"user1", 8L}, new Object[]{"user2", 15L});
+        doReturn(rows).when(userHeartRepository).findAllUserIdAndHeartId();
+
+        // when
+        int result = userHeartService.rebuildAllHeartMasks();
+
+        // then
+        assertThat(result).isEqualTo(2);
+        verify(valueOperations, times(1)).set(eq("userHeartMask:user1"), eq(String.valueOf((1L << 7) | (1L << 8))), any(Duration.class));
+        verify(valueOperations, times(1)).set(eq("userHeartMask:user2"), eq(String.valueOf(1L << 15)), any(Duration.class));
+    }
+
     @Test
     @DisplayName("유저 하트 저장")
     void save() {
@@ -85,6 +196,22 @@ class UserHeartServiceTest extends AbstractTestData {
         assertThat(result).isEqualTo(userHeart);
     }
 
+    @Test
+    @DisplayName("유저 하트 저장 - 이미 획득한 하트는 무시")
+    void saveIfAbsent() {
+        // given
+        doReturn(1).when(userHeartRepository).insertIgnore(eq("user1"), eq(7L), any(LocalDateTime.class));
+        doReturn(0).when(userHeartRepository).insertIgnore(eq("user1"), eq(8L), any(LocalDateTime.class));
+
+        // when
+        boolean saved = userHeartService.saveIfAbsent("user1", 7L);
+        boolean duplicated = userHeartService.saveIfAbsent("user1", 8L);
+
+        // then
+        assertThat(saved).isTrue();
+        assertThat(duplicated).isFalse();
+    }
+
     @Test
     @DisplayName("획득한 스페셜 하트 조회")
     void findByHeartIdAndUserId() {
@@ -0,0 +1,106 @@
+package com.chillin.hearting.api.service;
+
+import com.chillin.hearting.db.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdAllocatorTest {
+
+    @InjectMocks
+    private UserIdAllocator userIdAllocator;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userIdAllocator, "blockSize", 3);
+    }
+
+    @Test
+    @DisplayName("유저 번호 발급 - 블록을 다 쓴 경우에만 Redis 요청")
+    void nextUserNo() {
+        // given
+        doReturn(3L, 6L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("3"));
+
+        // when
+        long[] userNos = new long[4];
+        for (int i = 0; i < userNos.length; i++) {
+            userNos[i] = userIdAllocator.nextUserNo();
+        }
+
+        // then
+        assertThat(userNos).containsExactly(1, 2, 3, 4);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), eq("3"));
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("유저 번호 발급 - 시퀀스가 없으면 DB에서 발급된 최대 번호로 맞춤")
+    void nextUserNoWithoutSequence() {
+        // given
+        doReturn(-1L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("3"));
+        doReturn(10L).when(userRepository).count();
+        doReturn(Arrays.asList(UserIdAllocator.toUserId(7), UserIdAllocator.toUserId(15))).when(userRepository).findIdsStartingWith("0");
+        doReturn(18L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("3"), eq("15"));
+
+        // when
+        long userNo = userIdAllocator.nextUserNo();
+
+        // then
+        assertThat(userNo).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("유저 번호로 기본 닉네임 생성")
+    void toNickname() {
+        assertThat(UserIdAllocator.toNickname(123)).isEqualTo("하팅123");
+    }
+
+    @Test
+    @DisplayName("유저 ID는 '0'으로 시작하는 10자리이고 유저 번호마다 다름")
+    void toUserId() {
+        // given
+        Set<String> userIds = new HashSet<>();
+
+        // when
+        for (long userNo = 1; userNo <= 100_000; userNo++) {
+            String userId = UserIdAllocator.toUserId(userNo);
+
+            // then
+            assertThat(userId).hasSize(10).startsWith("0").matches("[0-9a-z]+");
+            assertThat(UserIdAllocator.toUserNo(userId)).isEqualTo(userNo);
+            userIds.add(userId);
+        }
+        assertThat(userIds).hasSize(100_000);
+        assertThat(UserIdAllocator.toUserId(1)).isNotEqualTo("0000000001");
+    }
+
+    @Test
+    @DisplayName("발급 형식이 아닌 ID는 유저 번호 -1")
+    void toUserNoInvalid() {
+        assertThat(UserIdAllocator.toUserNo("a1b2c3d4e5")).isEqualTo(-1);
+        assertThat(UserIdAllocator.toUserNo("0abc")).isEqualTo(-1);
+        assertThat(UserIdAllocator.toUserNo(null)).isEqualTo(-1);
+    }
+}
@@ -8,7 +8,7 @@ import com.chillin.hearting.exception.UnAuthorizedException;
 import com.chillin.hearting.jwt.AuthToken;
 import com.chillin.hearting.jwt.AuthTokenProvider;
 import com.chillin.hearting.oauth.domain.AppProperties;
-import com.chillin.hearting.oauth.domain.PrincipalDetails;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,6 +45,8 @@ class UserServiceTest extends AbstractTestData {
     private RedisTemplate<String, Object> redisTemplate;
     @Mock
     private AppProperties appProperties;
+    @Mock
+    private MessageTotalService messageTotalService;
 
     HttpServletRequest mockRequest = mock(HttpServletRequest.class);
     HttpServletResponse mockResponse = mock(HttpServletResponse.class);
@@ -64,8 +66,8 @@ class UserServiceTest extends AbstractTestData {
     final String VALID_ACCESS_TOKEN = "aaa";
     final String VALID_HEADER_VALUE = "Bearer: "+VALID_ACCESS_TOKEN;
 
-    final PrincipalDetails principalDetails = new PrincipalDetails(createUser("id"),null);
-    final Authentication authentication = new UsernamePasswordAuthenticationToken(principalDetails, null, null);
+    final UserPrincipal principal = UserPrincipal.builder().id("id").build();
+    final Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, null);
 
 
     @Test
@@ -131,16 +133,17 @@ class UserServiceTest extends AbstractTestData {
         final String USER_STATUS_MESSAGE = "status message";
         User user = createUser("id");
         user.updateStatusMessage(USER_STATUS_MESSAGE,null);
-        doReturn(Optional.of(user)).when(userRepository).findById(anyString());
+        HeartBoardOwnerData owner = new HeartBoardOwnerData(user.getNickname(), user.getStatusMessage(), user.getMessageTotal());
+        doReturn(Optional.of(owner)).when(userRepository).findBoardOwnerById(anyString());
+        doReturn(7L).when(messageTotalService).getMessageTotal("id", user.getMessageTotal());
 
         // when
         HeartBoardOwnerData result = userService.getBoardOwnerInformation("id");
 
         // then
-        assertThat(result).extracting(dto ->
-                dto.getNickname().equals(user.getNickname()) &&
-                        dto.getStatusMessage().equals(user.getStatusMessage()) &&
-                        dto.getMessageTotal().equals(user.getMessageTotal()));
+        assertThat(result.getNickname()).isEqualTo(user.getNickname());
+        assertThat(result.getStatusMessage()).isEqualTo(USER_STATUS_MESSAGE);
+        assertThat(result.getMessageTotal()).isEqualTo(7L);
     }
 
     @Test
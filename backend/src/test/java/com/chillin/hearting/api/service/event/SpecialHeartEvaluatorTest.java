@@ -0,0 +1,137 @@
+package com.chillin.hearting.api.service.event;
+
+import com.chillin.hearting.api.service.facade.HeartFacade;
+import com.chillin.hearting.api.service.heartcheck.HeartCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpecialHeartEvaluatorTest {
+
+    @InjectMocks
+    private SpecialHeartEvaluator specialHeartEvaluator;
+
+    @Mock
+    private HeartFacade heartFacade;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(specialHeartEvaluator, "threads", 1);
+        ReflectionTestUtils.setField(specialHeartEvaluator, "queueCapacity", 1);
+        specialHeartEvaluator.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        specialHeartEvaluator.stop();
+    }
+
+    @Test
+    @DisplayName("메시지 전송 이벤트 - receiver는 받은 하트, sender는 보낸 하트 카운터로 평가")
+    void onMessageSent() throws InterruptedException {
+        // when
+        specialHeartEvaluator.onMessageSent(new MessageSentEvent("sender", "receiver", 1L));
+        specialHeartEvaluator.stop();
+
+        // then
+        verify(heartFacade, times(1)).notifyAcquirableSpecialHearts("receiver", Set.of(HeartCounter.received(1L)));
+        verify(heartFacade, times(1)).notifyAcquirableSpecialHearts("sender", Set.of(HeartCounter.sent(1L)));
+    }
+
+    @Test
+    @DisplayName("메시지 전송 이벤트 - 비로그인 sender는 평가하지 않음")
+    void onMessageSentNullSender() throws InterruptedException {
+        // when
+        specialHeartEvaluator.onMessageSent(new MessageSentEvent(null, "receiver", 1L));
+        specialHeartEvaluator.stop();
+
+        // then
+        verify(heartFacade, times(1)).notifyAcquirableSpecialHearts(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 유저의 평가는 변경된 카운터와 함께 합쳐지고, 대기열이 가득 차면 캐시를 삭제하고 미룸")
+    void coalesceAndReject() throws InterruptedException {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(heartFacade).notifyAcquirableSpecialHearts(eq("busy"), any());
+
+        // when
+        assertThat(specialHeartEvaluator.submit("busy", HeartCounter.sent(1L))).isTrue();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        boolean queued = specialHeartEvaluator.submit("user", HeartCounter.sent(2L));
+        boolean coalesced = specialHeartEvaluator.submit("user", HeartCounter.received(9L));
+        boolean rejected = specialHeartEvaluator.submit("other", HeartCounter.sent(2L));
+        release.countDown();
+        specialHeartEvaluator.stop();
+
+        // then
+        assertThat(queued).isTrue();
+        assertThat(coalesced).isFalse();
+        assertThat(rejected).isFalse();
+        verify(heartFacade, times(1)).notifyAcquirableSpecialHearts("user", Set.of(HeartCounter.sent(2L), HeartCounter.received(9L)));
+        verify(heartFacade, never()).notifyAcquirableSpecialHearts(eq("other"), any());
+        verify(heartFacade, times(1)).evictSpecialHeartAcqConditions("other", Set.of(HeartCounter.sent(2L)));
+        verify(heartFacade, never()).evictSpecialHeartAcqConditions(eq("user"), any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차서 미뤄 둔 평가는 합쳐진 카운터와 함께 다시 등록")
+    void resubmitDeferred() throws InterruptedException {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedDone = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(heartFacade).notifyAcquirableSpecialHearts(eq("busy"), any());
+        doAnswer(invocation -> {
+            queuedDone.countDown();
+            return null;
+        }).when(heartFacade).notifyAcquirableSpecialHearts(eq("user"), any());
+
+        assertThat(specialHeartEvaluator.submit("busy", HeartCounter.sent(1L))).isTrue();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(specialHeartEvaluator.submit("user", HeartCounter.sent(2L))).isTrue();
+        assertThat(specialHeartEvaluator.submit("other", HeartCounter.sent(2L))).isFalse();
+        assertThat(specialHeartEvaluator.submit("other", HeartCounter.received(3L))).isFalse();
+
+        // when
+        int resubmittedWhileFull = specialHeartEvaluator.resubmitDeferred();
+        release.countDown();
+        assertThat(queuedDone.await(5, TimeUnit.SECONDS)).isTrue();
+        int resubmitted = specialHeartEvaluator.resubmitDeferred();
+        specialHeartEvaluator.stop();
+
+        // then
+        assertThat(resubmittedWhileFull).isZero();
+        assertThat(resubmitted).isEqualTo(1);
+        verify(heartFacade, times(1)).evictSpecialHeartAcqConditions("other", Set.of(HeartCounter.sent(2L)));
+        verify(heartFacade, times(1)).evictSpecialHeartAcqConditions("other", Set.of(HeartCounter.received(3L)));
+        verify(heartFacade, times(1)).notifyAcquirableSpecialHearts("other", Set.of(HeartCounter.sent(2L), HeartCounter.received(3L)));
+    }
+}
@@ -6,9 +6,11 @@ import com.chillin.hearting.api.data.HeartListData;
 import com.chillin.hearting.api.service.*;
 import com.chillin.hearting.api.service.enums.HeartInfo;
 import com.chillin.hearting.api.service.enums.HeartType;
+import com.chillin.hearting.api.service.heartcheck.HeartCounter;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.db.domain.UserHeart;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,9 +20,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,26 +43,26 @@ class HeartFacadeTest extends AbstractTestData {
     private HeartCheckService heartCheckService;
     @Mock
     private UserService userService;
+    @Mock
+    private NotificationService notificationService;
 
     @Test
     @DisplayName("로그인 유저의 하트 도감 조회")
     void findAllHeartsLogin() {
         // given
         String userId = "id";
-        User user = createUser("id");
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
         Heart defaultHeart = createHeart(1L,"name","DEFAULT");
         Heart acquiredHeart = createHeart(2L,"name","SPECIAL");
         Heart acquirableHeart = createHeart(3L,"name","SPECIAL");
         Heart eventHeart = createHeart(4L,"name","EVENT");
         List<Heart> heartList = List.of(defaultHeart,acquiredHeart,acquirableHeart,eventHeart);
-        doReturn(heartList).when(heartService).findAll();
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(userId),eq(2L));
-        doReturn(false).when(userHeartService).isUserAcquiredHeart(eq(userId),eq(3L));
-        doReturn(false).when(userHeartService).isUserAcquiredHeart(eq(userId),eq(4L));
+        doReturn(toHeartDataList(heartList)).when(heartService).findAllHeartData();
+        // 획득 하트 2L
+        doReturn(1L << 2).when(userHeartService).getAcquiredHeartMask(eq(userId));
 
-        doReturn(true).when(heartCheckService).isUserAcquirableHeart(eq(userId),eq(2L));
-        doReturn(true).when(heartCheckService).isUserAcquirableHeart(eq(userId),eq(3L));
-        doReturn(false).when(heartCheckService).isUserAcquirableHeart(eq(userId),eq(4L));
+        // 획득 조건 달성 2L(획득), 3L(미획득)
+        doReturn(Set.of(2L, 3L)).when(heartCheckService).findAcquirableHeartIds(eq(userId), eq(List.of(2L, 3L, 4L)));
 
         // when
         HeartListData data = (HeartListData) heartFacade.findAllHearts(user);
@@ -66,21 +72,23 @@ class HeartFacadeTest extends AbstractTestData {
            if (heartData.getHeartId() == defaultHeart.getId()) {
                return heartData.getIsLocked() == false && heartData.getIsAcq() == null;
            } else if (heartData.getHeartId() == acquiredHeart.getId()) {
-               return heartData.getIsLocked() == false && heartData.getIsAcq() == null;
+               return heartData.getIsLocked() == false && heartData.getIsAcq() == true;
            } else if (heartData.getHeartId() == acquirableHeart.getId()) {
                return heartData.getIsLocked() == true && heartData.getIsAcq() == true;
            } else if (heartData.getHeartId() == eventHeart.getId()) {
                return heartData.getIsLocked() == true && heartData.getIsAcq() == null;
            }
            return false;
-        });
+        }).hasSize(heartList.size());
+        verify(heartCheckService, never()).isUserAcquirableHeart(anyString(), anyLong());
+        verify(userHeartService, never()).isUserAcquiredHeart(anyString(), anyLong());
     }
 
     @Test
     @DisplayName("비로그인 유저의 하트 도감 조회")
     void findAllHeartsNoLogin() {
         // given
-        doReturn(heartList).when(heartService).findAll();
+        doReturn(toHeartDataList(heartList)).when(heartService).findAllHeartData();
 
         // when
         HeartListData data = (HeartListData) heartFacade.findAllHearts(null);
@@ -99,16 +107,17 @@ class HeartFacadeTest extends AbstractTestData {
     @DisplayName("메시지 전송용 하트 리스트 조회 - 로그인")
     void findMessageHeartsLogin() {
         // given
-        User user = createUser("id");
-        doReturn(defaultHeartList).when(heartService).findDefaultTypeHearts();
-        List<UserHeart> userHeart = List.of(UserHeart.of(user, mincho), UserHeart.of(user,noir));
-        doReturn(userHeart).when(userHeartService).findAllByUserIdOrderByHeartId(anyString());
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
+        doReturn(toHeartDataList(heartList)).when(heartService).findAllHeartData();
+        // 획득 하트 민초, 질투의 누아르
+        doReturn((1L << mincho.getId()) | (1L << noir.getId())).when(userHeartService).getAcquiredHeartMask(eq(user.getId()));
 
         // when
         List<HeartData> result = heartFacade.findMessageHearts(user);
 
         // then
-        assertThat(result.size()).isEqualTo(defaultHeartList.size() + userHeart.size());
+        assertThat(result.size()).isEqualTo(defaultHeartList.size() + 2);
+        assertThat(result).extracting("heartId").containsExactly(1L, 2L, 3L, 4L, 5L, mincho.getId(), noir.getId());
         for (HeartData heartData : result) {
             assertThat(heartData.getIsLocked()).isFalse();
         }
@@ -118,7 +127,7 @@ class HeartFacadeTest extends AbstractTestData {
     @DisplayName("메시지 전송용 하트 리스트 조회 - 비로그인")
     void findMessageHeartsNoLogin() {
         // given
-        doReturn(defaultHeartList).when(heartService).findDefaultTypeHearts();
+        doReturn(toHeartDataList(defaultHeartList)).when(heartService).findDefaultHeartData();
 
         // when
         List<HeartData> result = heartFacade.findMessageHearts(null);
@@ -139,7 +148,7 @@ class HeartFacadeTest extends AbstractTestData {
     @DisplayName("하트 상세 조회 - 로그인 유저")
     void findHeartDetailForLogin() {
         // given
-        User user = createUser("id");
+        UserPrincipal user = UserPrincipal.builder().id("id").build();
 
         doReturn(like).when(heartService).findById(eq(1L));
         doReturn(rainbow).when(heartService).findById(eq(7L));
@@ -217,9 +226,8 @@ class HeartFacadeTest extends AbstractTestData {
         doReturn(user).when(userService).findById(eq(user.getId()));
         doReturn(rainbow).when(heartService).findById(eq(7L));
         doReturn(mincho).when(heartService).findById(eq(8L));
-        doReturn(Optional.empty()).when(userHeartService).findByHeartIdAndUserId(eq(7L),eq(user.getId()));
-        doReturn(Optional.of(UserHeart.class)).when(userHeartService).findByHeartIdAndUserId(eq(8L),eq(user.getId()));
-        doReturn(mock(UserHeart.class)).when(userHeartService).save(any(UserHeart.class));
+        doReturn(true).when(userHeartService).saveIfAbsent(eq(user.getId()), eq(7L));
+        doReturn(false).when(userHeartService).saveIfAbsent(eq(user.getId()), eq(8L));
 
         // when
         heartFacade.saveUserHearts(user.getId(),7L);
@@ -228,7 +236,48 @@ class HeartFacadeTest extends AbstractTestData {
         // then
         verify(userService, times(2)).findById(eq(user.getId()));
         verify(heartService, times(2)).findById(anyLong());
-        verify(userHeartService, times(2)).findByHeartIdAndUserId(anyLong(),anyString());
-        verify(userHeartService, times(1)).save(any(UserHeart.class));
+        verify(userHeartService, times(2)).saveIfAbsent(anyString(), anyLong());
+        verify(userHeartService, never()).findByHeartIdAndUserId(anyLong(), anyString());
+        verify(userHeartService, times(1)).addToHeartMask(eq(user.getId()), eq(7L));
+        verify(userHeartService, never()).addToHeartMask(anyString(), eq(8L));
+    }
+
+    @Test
+    @DisplayName("획득 가능한 스페셜 하트 알림 - 변경된 카운터를 참조하는 하트만 평가")
+    void notifyAcquirableSpecialHearts() {
+        // given
+        String userId = receiver.getId();
+        List<HeartCounter> changedCounters = List.of(HeartCounter.sent(1L), HeartCounter.sent(2L), HeartCounter.sent(4L));
+        doReturn(new TreeSet<>(List.of(7L, 8L, 10L, 14L))).when(heartCheckService).findAffectedHeartIds(changedCounters);
+        /**
+         * 하트 이미 획득 7L / 미획득 8L, 10L, 14L
+         */
+        doReturn(1L << 7).when(userHeartService).getAcquiredHeartMask(eq(userId));
+        /**
+         * 미획득 중 하트 획득 가능 8L, 10L
+         */
+        doReturn(new TreeSet<>(List.of(8L, 10L))).when(heartCheckService).findAcquirableHeartIds(eq(userId), eq(List.of(8L, 10L, 14L)));
+        /**
+         * 획득 가능 중 24시간 내 알림 있음 8L
+         */
+        doReturn(true).when(notificationService).hasNotificationIn24Hour(endsWith(":8"));
+        doReturn(false).when(notificationService).hasNotificationIn24Hour(endsWith(":10"));
+
+        // when
+        heartFacade.notifyAcquirableSpecialHearts(userId, changedCounters);
+
+        // then
+        verify(heartService, never()).findSpecialTypeHearts();
+        verify(userHeartService, times(1)).getAcquiredHeartMask(eq(userId));
+        verify(userHeartService, never()).isUserAcquiredHeart(anyString(), anyLong());
+        verify(heartCheckService, times(1)).findAcquirableHeartIds(eq(userId), anyCollection());
+        verify(notificationService, times(2)).hasNotificationIn24Hour(anyString());
+        verify(notificationService, times(1)).save(eq(userId), eq(10L));
+        verify(notificationService, times(1)).setNotificationFor24Hour(endsWith(":10"));
+        verify(heartCheckService, times(4)).evictSpecialHeartAcqCondition(eq(userId), anyLong());
+    }
+
+    private List<HeartData> toHeartDataList(List<Heart> hearts) {
+        return hearts.stream().map(HeartData::of).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,9 @@ import com.chillin.hearting.api.data.EmojiData;
 import com.chillin.hearting.api.data.ReportData;
 import com.chillin.hearting.api.data.SendMessageData;
 import com.chillin.hearting.api.service.*;
+import com.chillin.hearting.api.service.event.MessageSentEvent;
+import com.chillin.hearting.api.service.ingest.MessageIngestionPipeline;
+import com.chillin.hearting.api.service.ingest.PendingMessage;
 import com.chillin.hearting.db.domain.*;
 import com.chillin.hearting.exception.*;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -35,12 +40,6 @@ class MessageFacadeTest extends AbstractTestData {
     @Mock
     private MessageService messageService;
 
-    @Mock
-    private UserHeartService userHeartService;
-
-    @Mock
-    private HeartCheckService heartCheckService;
-
     @Mock
     private EmojiService emojiService;
 
@@ -56,6 +55,24 @@ class MessageFacadeTest extends AbstractTestData {
     @Mock
     private BlockedUserService blockedUserService;
 
+    @Mock
+    private SuspendedUserRegistry suspendedUserRegistry;
+
+    @Mock
+    private MessageIngestionPipeline messageIngestionPipeline;
+
+    @Mock
+    private MessageTotalService messageTotalService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BoardVersionService boardVersionService;
+
+    @Mock
+    private HomeService homeService;
+
     @Test
     @DisplayName("ADMIN 스케줄러 동작")
     void sendScheduledMessageToAdmin() {
@@ -79,19 +96,45 @@ class MessageFacadeTest extends AbstractTestData {
     @DisplayName("ADMIN 메시지 전송")
     void sendScheduledMessages() {
         // given
-        long messageTotal= receiver.getMessageTotal();
         doReturn(mock(Heart.class)).when(heartService).findById(anyLong());
         doReturn(mock(Message.class)).when(messageService).save(any(Message.class));
-        doReturn(mock(User.class)).when(userService).save(any(User.class));
 
         // when
         messageFacade.sendScheduledMessages(receiver);
 
         // then
-        assertThat(receiver.getMessageTotal()).isEqualTo(messageTotal+5);
+        verify(messageService, times(5)).save(any(Message.class));
+        verify(messageTotalService, times(1)).incrementAfterCommit(eq(receiver.getId()), eq(5L));
     }
 
    // sendMessage
+    @Test
+    @DisplayName("호감 메시지 전송 - 정지된 Sender")
+    void failSendMessageSuspendedSender() {
+        // given
+        doThrow(new UnAuthorizedException("pause")).when(suspendedUserRegistry).checkActive(eq(sender.getId()));
+
+        // when, then
+        assertThrows(UnAuthorizedException.class, () -> messageFacade.sendMessage(like.getId(), sender.getId(), receiver.getId(), "title", "content", "ip"));
+        verify(userService, never()).findById(anyString());
+        verify(messageTotalService, never()).incrementAfterCommit(anyString(), anyLong());
+        verify(messageService, never()).save(any(Message.class));
+    }
+
+    @Test
+    @DisplayName("호감 메시지 전송 - 존재하지 않는 하트면 누적 메시지 수를 올리지 않음")
+    void failSendMessageHeartNotFound() {
+        // given
+        doReturn(receiver).when(userService).findById(eq(receiver.getId()));
+        doThrow(new HeartNotFoundException()).when(heartService).findById(eq(like.getId()));
+
+        // when, then
+        assertThrows(HeartNotFoundException.class, () -> messageFacade.sendMessage(like.getId(), null, receiver.getId(), "title", "content", "ip"));
+        verify(messageTotalService, never()).incrementAfterCommit(anyString(), anyLong());
+        verify(messageTotalService, never()).increment(anyString(), anyLong());
+        verify(boardVersionService, never()).bump(anyString());
+    }
+
     @Test
     @DisplayName("호감 메시지 전송 - Sender Null")
     void successSendMessageNullSender() {
@@ -100,45 +143,22 @@ class MessageFacadeTest extends AbstractTestData {
         doReturn(like).when(heartService).findById(eq(like.getId()));
         Message message = createMessage(1L,like,null,receiver,null);
         doReturn(message).when(messageService).save(any(Message.class));
-        doReturn(specialHeartList).when(heartService).findSpecialTypeHearts();
-        /**
-         * 하트 이미 획득 6L,7L,11L,12L,13L,14L / 미획득 8L, 9L, 10L
-         */
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(7L));
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(11L));
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(12L));
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(13L));
-        doReturn(true).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(14L));
-        doReturn(false).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(8L));
-        doReturn(false).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(9L));
-        doReturn(false).when(userHeartService).isUserAcquiredHeart(eq(receiver.getId()),eq(10L));
-        /**
-         * 미획득 중 하트 획득 가능 9L, 10L
-         */
-        doReturn(false).when(heartCheckService).isUserAcquirableHeart(eq(receiver.getId()),eq(8L));
-        doReturn(true).when(heartCheckService).isUserAcquirableHeart(eq(receiver.getId()),eq(9L));
-        doReturn(true).when(heartCheckService).isUserAcquirableHeart(eq(receiver.getId()),eq(10L));
-        /**
-         * 획득 가능 중 24시간 내 알림 있음 9L
-         */
-        doReturn(true).when(notificationService).hasNotificationIn24Hour(contains("9"));
-        doReturn(false).when(notificationService).hasNotificationIn24Hour(contains("10"));
 
         // when
         final SendMessageData sendMessageData = messageFacade.sendMessage(message.getHeart().getId(), null, message.getReceiver().getId(), message.getTitle(), message.getContent(), message.getSenderIp());
 
         // then
-        verify(userHeartService,times(specialHeartList.size())).isUserAcquiredHeart(eq(receiver.getId()),anyLong());
-        verify(heartCheckService,times(3)).isUserAcquirableHeart(eq(receiver.getId()),anyLong());
-        verify(notificationService, times(2)).hasNotificationIn24Hour(anyString());
-        verify(notificationService, times(1)).save(eq(receiver.getId()),eq(10L));
-        verify(notificationService, times(1)).setNotificationFor24Hour(contains("10"));
+        verify(eventPublisher, times(1)).publishEvent(argThat((MessageSentEvent event) ->
+                event.getSenderId() == null && event.getReceiverId().equals(receiver.getId()) && event.getHeartId() == like.getId()));
         verify(userService, times(1)).findById(eq(receiver.getId()));
-        verify(userService, times(1)).save(eq(receiver));
+        verify(messageTotalService, times(1)).incrementAfterCommit(eq(receiver.getId()), eq(1L));
+        verify(userService, never()).save(any(User.class));
         verify(heartService, times(1)).findById(eq(like.getId()));
         verify(messageService, times(1)).save(any(Message.class));
         verify(notificationService, times(1)).save(any(Notification.class));
-        verify(migrationService, times(1)).updateReceivedHeartCount(eq(receiver.getId()),eq(like.getId()));
+        verify(migrationService, times(1)).updateHeartCount(isNull(), eq(receiver.getId()), eq(like.getId()));
+        verify(boardVersionService, times(1)).bump(eq(receiver.getId()));
+        verify(homeService, times(1)).incrementTotalMessageCount();
 
         assertThat(sendMessageData.getMessageId()).isEqualTo(message.getId());
         assertThat(sendMessageData.getHeartId()).isEqualTo(message.getHeart().getId());
@@ -161,7 +181,31 @@ class MessageFacadeTest extends AbstractTestData {
         final SendMessageData sendMessageData = messageFacade.sendMessage(message.getHeart().getId(), message.getSender().getId(), message.getReceiver().getId(), message.getTitle(), message.getContent(), message.getSenderIp());
 
         // then
-        verify(migrationService,times(1)).updateSentHeartCount(eq(message.getSender().getId()), eq(message.getHeart().getId()));
+        verify(migrationService, times(1)).updateHeartCount(eq(message.getSender().getId()), eq(message.getReceiver().getId()), eq(message.getHeart().getId()));
+        verify(eventPublisher, times(1)).publishEvent(any(MessageSentEvent.class));
+    }
+
+    @Test
+    @DisplayName("호감 메시지 전송 - write-behind 모드")
+    void successSendMessageWriteBehind() {
+        // given
+        doReturn(true).when(messageIngestionPipeline).isEnabled();
+        doReturn(receiver).when(userService).findById(eq(receiver.getId()));
+        doReturn(like).when(heartService).findById(eq(like.getId()));
+        PendingMessage pendingMessage = PendingMessage.builder().id(100L).heartId(like.getId()).receiverId(receiver.getId()).build();
+        doReturn(pendingMessage).when(messageIngestionPipeline).submit(eq(like.getId()), isNull(), eq(receiver.getId()), anyString(), anyString(), anyString(), anyString());
+
+        // when
+        final SendMessageData sendMessageData = messageFacade.sendMessage(like.getId(), null, receiver.getId(), "제목", "내용", "127.0.0.1");
+
+        // then
+        verify(messageService, never()).save(any(Message.class));
+        verify(notificationService, never()).save(any(Notification.class));
+        verify(migrationService, times(1)).updateHeartCount(isNull(), eq(receiver.getId()), eq(like.getId()));
+        // 보드 버전은 MessageBatchWriter가 저장 후에 올림
+        verify(boardVersionService, never()).bump(anyString());
+        assertThat(sendMessageData.getMessageId()).isEqualTo(100L);
+        assertThat(sendMessageData.getHeartId()).isEqualTo(like.getId());
     }
 
     // deleteMessage
@@ -251,6 +295,7 @@ class MessageFacadeTest extends AbstractTestData {
         // then
         assertThat(sender.getReportedCount()).isEqualTo(3);
         assertThat(sender.getStatus()).isEqualTo('P');
+        verify(suspendedUserRegistry, times(1)).suspend(eq(sender.getId()), eq('P'), any(LocalDateTime.class));
 
         // when
         Message message4 = createMessage(4L,like,sender,receiver,null);
@@ -266,6 +311,7 @@ class MessageFacadeTest extends AbstractTestData {
         // then
         assertThat(sender.getReportedCount()).isEqualTo(5);
         assertThat(sender.getStatus()).isEqualTo('O');
+        verify(suspendedUserRegistry, times(1)).suspend(eq(sender.getId()), eq('O'), any(LocalDateTime.class));
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.chillin.hearting.api.service.heartcheck;
 
+import com.chillin.hearting.api.service.AbstractTestData;
+import com.chillin.hearting.api.service.HeartCatalog;
 import com.chillin.hearting.api.service.HeartService;
 import com.chillin.hearting.api.service.MessageService;
 import com.chillin.hearting.exception.NoHeartStrategyException;
@@ -14,9 +16,10 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-class HeartCheckStrategyFactoryTest {
+class HeartCheckStrategyFactoryTest extends AbstractTestData {
 
     @InjectMocks
     HeartCheckStrategyFactory heartCheckStrategyFactory;
@@ -29,18 +32,18 @@ class HeartCheckStrategyFactoryTest {
 
     @Test
     @DisplayName("전략 리턴")
-    void createHeartCheckStrategy() {
+    void getHeartCheckStrategy() {
         // when
-        HeartCheckStrategy planetStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(6L);
-        HeartCheckStrategy rainbowStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(7L);
-        HeartCheckStrategy minchoStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(8L);
-        HeartCheckStrategy sunnyStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(9L);
-        HeartCheckStrategy readingGlassesStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(10L);
-        HeartCheckStrategy iceCreamStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(11L);
-        HeartCheckStrategy shamrockStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(12L);
-        HeartCheckStrategy fourLeafStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(13L);
-        HeartCheckStrategy noirStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(14L);
-        HeartCheckStrategy carnationStrategy = heartCheckStrategyFactory.createHeartCheckStrategy(15L);
+        HeartCheckStrategy planetStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(6L);
+        HeartCheckStrategy rainbowStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(7L);
+        HeartCheckStrategy minchoStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(8L);
+        HeartCheckStrategy sunnyStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(9L);
+        HeartCheckStrategy readingGlassesStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(10L);
+        HeartCheckStrategy iceCreamStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(11L);
+        HeartCheckStrategy shamrockStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(12L);
+        HeartCheckStrategy fourLeafStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(13L);
+        HeartCheckStrategy noirStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(14L);
+        HeartCheckStrategy carnationStrategy = heartCheckStrategyFactory.getHeartCheckStrategy(15L);
 
         // then
         assertThat(planetStrategy).isInstanceOf(PlanetHeartCheckStrategy.class);
@@ -63,7 +66,68 @@ class HeartCheckStrategyFactoryTest {
 
         // when, then
         for (long heartId : heartIds) {
-            assertThrows(NoHeartStrategyException.class, ()-> heartCheckStrategyFactory.createHeartCheckStrategy(heartId));
+            assertThrows(NoHeartStrategyException.class, ()-> heartCheckStrategyFactory.getHeartCheckStrategy(heartId));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("전략 재사용 - 같은 하트는 같은 전략 인스턴스")
+    void getHeartCheckStrategySameInstance() {
+        // when
+        HeartCheckStrategy first = heartCheckStrategyFactory.getHeartCheckStrategy(8L);
+        HeartCheckStrategy second = heartCheckStrategyFactory.getHeartCheckStrategy(8L);
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("카운터를 참조하는 하트 ID 조회")
+    void findDependentHeartIds() {
+        // given
+        doReturn(HeartCatalog.of(heartList)).when(heartService).getCatalog();
+        doReturn(defaultHeartList).when(heartService).findDefaultTypeHearts();
+
+        // when
+        List<Long> sentBlue = heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(2L));
+        List<Long> receivedSunny = heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.received(9L));
+        List<Long> sentPlanet = heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(6L));
+
+        // then
+        assertThat(sentBlue).containsExactly(7L, 8L, 14L);
+        assertThat(receivedSunny).containsExactly(11L);
+        assertThat(sentPlanet).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카운터를 참조하는 하트 ID 조회 - 카탈로그를 다시 불러오면 바뀐 기본 하트로 다시 만듦")
+    void findDependentHeartIdsAfterCatalogReload() {
+        // given
+        when(heartService.getCatalog()).thenReturn(HeartCatalog.of(heartList), HeartCatalog.of(heartList));
+        // 의존 관계를 만들 때 무지개, 누아르 전략이 기본 하트를 한 번씩 조회
+        when(heartService.findDefaultTypeHearts()).thenReturn(defaultHeartList, defaultHeartList, List.of(like, cheer));
+
+        // when
+        List<Long> before = heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(love.getId()));
+        List<Long> after = heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(love.getId()));
+
+        // then
+        assertThat(before).containsExactly(7L, 14L);
+        assertThat(after).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카운터를 참조하는 하트 ID 조회 - 같은 카탈로그면 의존 관계를 다시 만들지 않음")
+    void findDependentHeartIdsSameCatalog() {
+        // given
+        doReturn(HeartCatalog.of(heartList)).when(heartService).getCatalog();
+        doReturn(defaultHeartList).when(heartService).findDefaultTypeHearts();
+
+        // when
+        heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(2L));
+        heartCheckStrategyFactory.findDependentHeartIds(HeartCounter.sent(3L));
+
+        // then
+        verify(heartService, times(2)).findDefaultTypeHearts();
+    }
+}
@@ -138,11 +138,6 @@ class HeartCheckStrategyTest extends AbstractTestData {
         doReturn(map.get(3L)).when(messageService).getUserSentHeartCnt(eq(userId), eq(3L));
         doReturn(map.get(4L)).when(messageService).getUserSentHeartCnt(eq(userId), eq(4L));
         doReturn(map.get(5L)).when(messageService).getUserSentHeartCnt(eq(userId), eq(5L));
-        doReturn(like).when(heartService).findById(eq(1L));
-        doReturn(cheer).when(heartService).findById(eq(2L));
-        doReturn(friendship).when(heartService).findById(eq(3L));
-        doReturn(flutter).when(heartService).findById(eq(4L));
-        doReturn(love).when(heartService).findById(eq(5L));
 
         // when
         List<HeartConditionData> result = rainbowHeartCheckStrategy.getAcqCondition(userId);
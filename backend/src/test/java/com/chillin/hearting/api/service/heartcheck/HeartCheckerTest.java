@@ -10,10 +10,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,33 +27,20 @@ class HeartCheckerTest {
     @Mock
     private HeartCheckStrategyFactory heartCheckStrategyFactory;
 
-    @Test
-    @DisplayName("초기화 테스트")
-    void init() {
-        // given
-        doReturn(mock(HeartCheckStrategy.class)).when(heartCheckStrategyFactory).createHeartCheckStrategy(anyLong());
-
-        // when
-        heartChecker.init("userId",1L);
-
-        // then
-        verify(heartCheckStrategyFactory, times(1)).createHeartCheckStrategy(anyLong());
-    }
-
     @Test
     @DisplayName("획득 가능 여부 조회")
     void isAcquirable() {
         // given
         HeartCheckStrategy mockStrategy = mock(HeartCheckStrategy.class);
-        doReturn(mockStrategy).when(heartCheckStrategyFactory).createHeartCheckStrategy(anyLong());
+        doReturn(mockStrategy).when(heartCheckStrategyFactory).getHeartCheckStrategy(anyLong());
         doReturn(true).when(mockStrategy).isAcquirable(anyString());
-        heartChecker.init("userId",1L);
 
         // when
-        boolean result = heartChecker.isAcquirable();
+        boolean result = heartChecker.isAcquirable("userId", 1L);
 
         // then
         assertTrue(result);
+        verify(heartCheckStrategyFactory, times(1)).getHeartCheckStrategy(1L);
     }
 
     @Test
@@ -59,14 +48,35 @@ class HeartCheckerTest {
     void getAcqCondition() {
         // given
         HeartCheckStrategy mockStrategy = mock(HeartCheckStrategy.class);
-        doReturn(mockStrategy).when(heartCheckStrategyFactory).createHeartCheckStrategy(anyLong());
+        doReturn(mockStrategy).when(heartCheckStrategyFactory).getHeartCheckStrategy(anyLong());
         doReturn(new ArrayList<HeartConditionData>()).when(mockStrategy).getAcqCondition(anyString());
-        heartChecker.init("userId",1L);
 
         // when
-        List<HeartConditionData> result = heartChecker.getAcqCondition();
+        List<HeartConditionData> result = heartChecker.getAcqCondition("userId", 1L);
 
         // then
         assertThat(result).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 하트 획득 가능 여부 조회 - 요청마다 유저가 섞이지 않음")
+    void findAcquirableHeartIds() {
+        // given
+        HeartCheckStrategy minchoStrategy = mock(HeartCheckStrategy.class);
+        HeartCheckStrategy sunnyStrategy = mock(HeartCheckStrategy.class);
+        doReturn(minchoStrategy).when(heartCheckStrategyFactory).getHeartCheckStrategy(8L);
+        doReturn(sunnyStrategy).when(heartCheckStrategyFactory).getHeartCheckStrategy(9L);
+        doReturn(true).when(minchoStrategy).isAcquirable("user1");
+        doReturn(false).when(sunnyStrategy).isAcquirable("user1");
+        doReturn(false).when(minchoStrategy).isAcquirable("user2");
+        doReturn(true).when(sunnyStrategy).isAcquirable("user2");
+
+        // when
+        Set<Long> user1Result = heartChecker.findAcquirableHeartIds("user1", List.of(9L, 8L));
+        Set<Long> user2Result = heartChecker.findAcquirableHeartIds("user2", List.of(9L, 8L));
+
+        // then
+        assertThat(user1Result).containsExactly(8L);
+        assertThat(user2Result).containsExactly(9L);
+    }
+}
@@ -0,0 +1,190 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.api.service.JobLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageDeadLetterQueueTest {
+
+    private static final String KEY = MessageDeadLetterQueue.KEY_DEAD_LETTER;
+
+    @InjectMocks
+    private MessageDeadLetterQueue messageDeadLetterQueue;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private MessageBatchWriter messageBatchWriter;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 30, 15, 123_000_000);
+    private final PendingMessage pendingMessage = PendingMessage.builder()
+            .id(100L).heartId(1L).senderId("sender").receiverId("receiver").title("제목").content("내용")
+            .senderIp("127.0.0.1").notificationContent("알림").createdDate(now).expiredDate(now.plusHours(24))
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(messageDeadLetterQueue, "replayBatchSize", 500);
+        ReflectionTestUtils.setField(messageDeadLetterQueue, "lockTtlMs", 60_000L);
+        lenient().doReturn(listOperations).when(stringRedisTemplate).opsForList();
+    }
+
+    @Test
+    @DisplayName("보관한 메시지를 다시 저장하면 같은 내용으로 저장하고 목록에서 제거")
+    void addAndReplay() {
+        // given
+        String json = add();
+        prepareReplay(json, 1L);
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        ArgumentCaptor<List<PendingMessage>> written = ArgumentCaptor.forClass(List.class);
+        verify(messageBatchWriter, times(1)).write(written.capture());
+        PendingMessage replayed = written.getValue().get(0);
+        assertThat(replayed.getId()).isEqualTo(100L);
+        assertThat(replayed.getReceiverId()).isEqualTo("receiver");
+        assertThat(replayed.getCreatedDate()).isEqualTo(now);
+        assertThat(replayed.hasNotification()).isTrue();
+        verify(listOperations, times(1)).remove(KEY, 1, json);
+        verify(jobLockService, times(1)).unlock(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("DB 장애로 다시 저장하지 못하면 목록에 남기고 다음 주기에 재시도")
+    void replayRetryLater() {
+        // given
+        String json = add();
+        prepareReplay(json, 3L);
+        doThrow(new QueryTimeoutException("timeout")).when(messageBatchWriter).write(anyList());
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        verify(messageBatchWriter, times(1)).write(anyList());
+        verify(listOperations, never()).remove(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 메시지는 목록에서 제거")
+    void replayAlreadyStored() {
+        // given
+        String json = add();
+        prepareReplay(json, 1L);
+        doThrow(new DuplicateKeyException("duplicate")).when(messageBatchWriter).write(anyList());
+        doReturn(true).when(messageBatchWriter).isStored(any(PendingMessage.class));
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        verify(listOperations, times(1)).remove(KEY, 1, json);
+    }
+
+    @Test
+    @DisplayName("다른 메시지와 ID가 겹치면 다른 ID로 저장하지 않고 별도 리스트로 옮김")
+    void replayDuplicateId() {
+        // given
+        String json = add();
+        prepareReplay(json, 1L);
+        doThrow(new DuplicateKeyException("duplicate")).when(messageBatchWriter).write(anyList());
+        doReturn(false).when(messageBatchWriter).isStored(any(PendingMessage.class));
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        verify(messageBatchWriter, times(1)).write(anyList());
+        verify(listOperations, times(1)).rightPush(MessageDeadLetterQueue.KEY_PARKED, json);
+        verify(listOperations, times(1)).remove(KEY, 1, json);
+        assertThat(messageDeadLetterQueue.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수신자가 없는 등 다시 저장할 수 없는 메시지는 별도 리스트로 옮기고 다음 메시지를 저장")
+    void replayPoisonMessage() {
+        // given
+        String json = add();
+        prepareReplay(json, 2L);
+        doThrow(new DataIntegrityViolationException("fk")).doNothing().when(messageBatchWriter).write(anyList());
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        verify(messageBatchWriter, times(2)).write(anyList());
+        verify(listOperations, times(1)).rightPush(MessageDeadLetterQueue.KEY_PARKED, json);
+        verify(listOperations, times(2)).remove(KEY, 1, json);
+        assertThat(messageDeadLetterQueue.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에도 보관하지 못하면 유실 수 집계")
+    void dropped() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(listOperations).rightPush(eq(KEY), anyString());
+
+        // when
+        messageDeadLetterQueue.add(pendingMessage);
+
+        // then
+        assertThat(messageDeadLetterQueue.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록이 비어 있으면 작업 락을 잡지 않음")
+    void replayEmpty() {
+        // given
+        doReturn(0L).when(listOperations).size(KEY);
+
+        // when
+        messageDeadLetterQueue.replay();
+
+        // then
+        verify(jobLockService, never()).tryLock(anyString(), any(Duration.class));
+    }
+
+    private String add() {
+        messageDeadLetterQueue.add(pendingMessage);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(listOperations, times(1)).rightPush(eq(KEY), json.capture());
+        return json.getValue();
+    }
+
+    private void prepareReplay(String json, long size) {
+        doReturn(size).when(listOperations).size(KEY);
+        doReturn("token").when(jobLockService).tryLock(anyString(), any(Duration.class));
+        doReturn(json).when(listOperations).rightPopAndLeftPush(KEY, KEY);
+    }
+}
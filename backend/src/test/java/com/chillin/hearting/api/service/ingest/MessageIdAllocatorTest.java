@@ -0,0 +1,79 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.db.repository.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageIdAllocatorTest {
+
+    private static final String KEY = MessageIdAllocator.KEY_MESSAGE_ID_SEQUENCE;
+
+    @InjectMocks
+    private MessageIdAllocator messageIdAllocator;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(messageIdAllocator, "blockSize", 2);
+        lenient().doReturn(valueOperations).when(redisTemplate).opsForValue();
+    }
+
+    @Test
+    @DisplayName("예약한 블록 안에서 차례로 발급하고, 다 쓰면 다음 블록을 예약")
+    void nextId() {
+        // given
+        doReturn(0L).when(messageRepository).findMaxId();
+        doReturn(2L, 4L).when(valueOperations).increment(KEY, 2L);
+
+        // when
+        List<Long> ids = List.of(messageIdAllocator.nextId(), messageIdAllocator.nextId(), messageIdAllocator.nextId());
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("시퀀스가 이미 발급한 ID보다 작아지면 다시 맞춘 뒤 예약")
+    void resyncWhenSequenceGoesBack() {
+        // given
+        doReturn(0L).when(messageRepository).findMaxId();
+        // 두 번째 예약에서 Redis 초기화로 시퀀스가 처음부터 다시 시작
+        doReturn(2L, 2L, 4L).when(valueOperations).increment(KEY, 2L);
+        messageIdAllocator.nextId();
+        messageIdAllocator.nextId();
+
+        // when
+        long id = messageIdAllocator.nextId();
+
+        // then
+        assertThat(id).isEqualTo(3L);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any());
+        // 이미 발급한 ID 이상으로 맞춤
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq(2L));
+    }
+}
@@ -0,0 +1,223 @@
+package com.chillin.hearting.api.service.ingest;
+
+import com.chillin.hearting.exception.MessageQueueFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageIngestionPipelineTest {
+
+    @InjectMocks
+    private MessageIngestionPipeline messageIngestionPipeline;
+
+    @Mock
+    private MessageIdAllocator messageIdAllocator;
+
+    @Mock
+    private MessageBatchWriter messageBatchWriter;
+
+    @Mock
+    private MessageDeadLetterQueue messageDeadLetterQueue;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(messageIngestionPipeline, "enabled", true);
+        ReflectionTestUtils.setField(messageIngestionPipeline, "queueCapacity", 1);
+        ReflectionTestUtils.setField(messageIngestionPipeline, "batchSize", 10);
+        ReflectionTestUtils.setField(messageIngestionPipeline, "offerTimeoutMs", 10L);
+        ReflectionTestUtils.setField(messageIngestionPipeline, "shutdownTimeoutMs", 5000L);
+        lenient().doAnswer(invocation -> sequence.incrementAndGet()).when(messageIdAllocator).nextId();
+    }
+
+    @Test
+    @DisplayName("큐에 적재된 메시지는 종료 시 모두 저장된다")
+    void drainOnStop() {
+        // given
+        List<Long> writtenIds = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<PendingMessage> batch = invocation.getArgument(0);
+            batch.forEach(m -> writtenIds.add(m.getId()));
+            return null;
+        }).when(messageBatchWriter).write(anyList());
+        messageIngestionPipeline.start();
+
+        // when
+        List<Long> submittedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            submittedIds.add(messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림").getId());
+        }
+        messageIngestionPipeline.stop();
+
+        // then
+        verify(messageIdAllocator, times(1)).syncWithDatabase();
+        assertThat(writtenIds).containsExactlyInAnyOrderElementsOf(submittedIds);
+        assertThat(messageIngestionPipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 적재한 메시지는 커밋된 경우에만 저장된다")
+    void submitAfterCommit() {
+        // given
+        List<Long> writtenIds = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<PendingMessage> batch = invocation.getArgument(0);
+            batch.forEach(m -> writtenIds.add(m.getId()));
+            return null;
+        }).when(messageBatchWriter).write(anyList());
+        ReflectionTestUtils.setField(messageIngestionPipeline, "queueCapacity", 2);
+        messageIngestionPipeline.start();
+
+        // when
+        long rolledBackId = submitInTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        long committedId = submitInTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        messageIngestionPipeline.stop();
+
+        // then
+        assertThat(writtenIds).containsExactly(committedId).doesNotContain(rolledBackId);
+        assertThat(messageIngestionPipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 MessageQueueFullException")
+    void queueFull() throws InterruptedException {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(messageBatchWriter).write(anyList());
+        messageIngestionPipeline.start();
+
+        // when
+        messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림");
+
+        // then
+        assertThrows(MessageQueueFullException.class, () -> messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림"));
+        release.countDown();
+        messageIngestionPipeline.stop();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 계속 실패하면 한 건씩 저장한다")
+    void fallbackToSingleWrite() {
+        // given
+        doThrow(new RuntimeException("batch fail")).doThrow(new RuntimeException("batch fail")).doThrow(new RuntimeException("batch fail"))
+                .doNothing().when(messageBatchWriter).write(anyList());
+        messageIngestionPipeline.start();
+
+        // when
+        messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림");
+        messageIngestionPipeline.stop();
+
+        // then
+        verify(messageBatchWriter, times(4)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("한 건씩도 저장하지 못한 메시지는 재시도 목록에 보관한다")
+    void deadLetterOnWriteFailure() {
+        // given
+        doThrow(new RuntimeException("write fail")).when(messageBatchWriter).write(anyList());
+        messageIngestionPipeline.start();
+
+        // when
+        long id = messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림").getId();
+        messageIngestionPipeline.stop();
+
+        // then
+        verify(messageBatchWriter, times(4)).write(anyList());
+        verify(messageDeadLetterQueue, times(1)).add(argThat(m -> m.getId() == id));
+    }
+
+    @Test
+    @DisplayName("종료된 뒤 커밋된 메시지는 재시도 목록에 보관한다")
+    void deadLetterAfterStop() {
+        // given
+        messageIngestionPipeline.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            long id = messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림").getId();
+            messageIngestionPipeline.stop();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            verify(messageBatchWriter, never()).write(anyList());
+            verify(messageDeadLetterQueue, times(1)).add(argThat(m -> m.getId() == id));
+            assertThat(messageIngestionPipeline.pendingCount()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("메시지 ID가 겹치면 시퀀스를 다시 맞추고, 다른 ID로 저장하지 않고 재시도 목록에 보관한다")
+    void deadLetterOnDuplicateKey() {
+        // given
+        doThrow(new DuplicateKeyException("duplicate")).when(messageBatchWriter).write(anyList());
+        messageIngestionPipeline.start();
+
+        // when
+        long submittedId = messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림").getId();
+        messageIngestionPipeline.stop();
+
+        // then
+        verify(messageIdAllocator, times(2)).syncWithDatabase();
+        verify(messageIdAllocator, times(1)).nextId();
+        verify(messageDeadLetterQueue, times(1)).add(argThat(m -> m.getId() == submittedId));
+    }
+
+    @Test
+    @DisplayName("종료된 파이프라인은 메시지를 받지 않는다")
+    void submitAfterStop() {
+        // given
+        messageIngestionPipeline.start();
+        messageIngestionPipeline.stop();
+
+        // when, then
+        assertThrows(MessageQueueFullException.class, () -> messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림"));
+        assertFalse(messageIngestionPipeline.pendingCount() > 0);
+    }
+
+    private long submitInTransaction(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            long id = messageIngestionPipeline.submit(1L, null, "receiver", "제목", "내용", "127.0.0.1", "알림").getId();
+            assertThat(messageIngestionPipeline.pendingCount()).isPositive();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+            return id;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.chillin.hearting.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    @InjectMocks
+    private CacheInvalidationListener cacheInvalidationListener;
+
+    @Mock
+    private TwoLevelCacheManager twoLevelCacheManager;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 알림을 L1에 반영")
+    void onMessage() {
+        // given
+        doReturn("me").when(cacheInvalidationPublisher).getInstanceId();
+
+        // when
+        cacheInvalidationListener.onMessage(message("other|boardOwner|user|1"), null);
+
+        // then
+        verify(twoLevelCacheManager, times(1)).evictLocal("boardOwner", "user|1");
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 보낸 알림은 무시")
+    void onMessageFromSelf() {
+        // given
+        doReturn("me").when(cacheInvalidationPublisher).getInstanceId();
+
+        // when
+        cacheInvalidationListener.onMessage(message("me|boardOwner|user"), null);
+
+        // then
+        verify(twoLevelCacheManager, never()).evictLocal(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 알림은 무시")
+    void onInvalidMessage() {
+        // when
+        cacheInvalidationListener.onMessage(message("invalid"), null);
+
+        // then
+        verify(twoLevelCacheManager, never()).evictLocal(anyString(), anyString());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationPublisher.CHANNEL_CACHE_INVALIDATION.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.chillin.hearting.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "test";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CACHE_NAME, false);
+        twoLevelCache = new TwoLevelCache(CACHE_NAME,
+                Caffeine.newBuilder().maximumSize(10).recordStats().build(),
+                remoteCache, invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 올린 뒤 L1에서 조회")
+    void getFromRemoteThenLocal() {
+        // given
+        remoteCache.put("key", "value");
+
+        // when
+        Object first = twoLevelCache.get("key").get();
+        remoteCache.evict("key");
+        Object second = twoLevelCache.get("key").get();
+
+        // then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+        assertThat(twoLevelCache.getRemoteHitCount()).isEqualTo(1);
+        assertThat(twoLevelCache.getLocalHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 불러온 값을 L1, L2에 저장하고 무효화 알림은 보내지 않음")
+    void getWithValueLoader() {
+        // when
+        String result = twoLevelCache.get(1L, () -> "loaded");
+
+        // then
+        assertThat(result).isEqualTo("loaded");
+        assertThat(remoteCache.get("1").get()).isEqualTo("loaded");
+        assertThat(twoLevelCache.getMissCount()).isEqualTo(1);
+        assertThat(twoLevelCache.getLocalSize()).isEqualTo(1);
+        verify(invalidationPublisher, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 실패")
+    void getMiss() {
+        // when
+        String result = twoLevelCache.get("none", String.class);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(twoLevelCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값 저장 시 다른 인스턴스에 무효화 알림")
+    void put() {
+        // when
+        twoLevelCache.put("key", "value");
+
+        // then
+        assertThat(remoteCache.get("key").get()).isEqualTo("value");
+        assertThat(twoLevelCache.getPutCount()).isEqualTo(1);
+        verify(invalidationPublisher, times(1)).publish(CACHE_NAME, "key");
+    }
+
+    @Test
+    @DisplayName("삭제 시 L1, L2에서 제거하고 다른 인스턴스에 무효화 알림")
+    void evict() {
+        // given
+        twoLevelCache.put("key", "value");
+
+        // when
+        twoLevelCache.evict("key");
+
+        // then
+        assertThat(remoteCache.get("key")).isNull();
+        assertThat(twoLevelCache.get("key")).isNull();
+        verify(invalidationPublisher, times(2)).publish(CACHE_NAME, "key");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 알림은 L1에서만 제거")
+    void evictLocal() {
+        // given
+        twoLevelCache.get("key", () -> "value");
+
+        // when
+        twoLevelCache.evictLocal("key");
+
+        // then
+        assertThat(twoLevelCache.getLocalSize()).isZero();
+        assertThat(remoteCache.get("key").get()).isEqualTo("value");
+        assertThat(twoLevelCache.get("key").get()).isEqualTo("value");
+        assertThat(twoLevelCache.getRemoteHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 캐시 이름만 알림")
+    void clear() {
+        // given
+        twoLevelCache.get("key", () -> "value");
+
+        // when
+        twoLevelCache.clear();
+
+        // then
+        assertThat(twoLevelCache.get("key")).isNull();
+        verify(invalidationPublisher, times(1)).publish(CACHE_NAME, null);
+    }
+}
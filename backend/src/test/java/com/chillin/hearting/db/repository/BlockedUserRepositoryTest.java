@@ -0,0 +1,60 @@
+package com.chillin.hearting.db.repository;
+
+import com.chillin.hearting.api.data.SuspendedUserData;
+import com.chillin.hearting.api.service.AbstractTestData;
+import com.chillin.hearting.db.domain.BlockedUser;
+import com.chillin.hearting.db.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+class BlockedUserRepositoryTest extends AbstractTestData {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlockedUserRepository blockedUserRepository;
+
+    @Test
+    @DisplayName("정지 기간이 끝나지 않은 정지 유저 조회")
+    void findSuspendedUsers() {
+        // given
+        User paused = saveBlockedUser("paused", 'P');
+        User out = saveBlockedUser("out", 'O');
+        User released = saveBlockedUser("released", 'P');
+        released.updateUserStatusToActive(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        userRepository.saveAndFlush(released);
+
+        // when
+        List<SuspendedUserData> result = blockedUserRepository.findSuspendedUsers(Arrays.asList('P', 'O'), LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        SuspendedUserData outData = result.stream().filter(data -> data.getUserId().equals(out.getId())).findFirst().orElseThrow();
+        assertThat(outData.getStatus()).isEqualTo('O');
+        assertThat(outData.getEndDate().getYear()).isEqualTo(9999);
+        assertThat(result.stream().anyMatch(data -> data.getUserId().equals(paused.getId()))).isTrue();
+    }
+
+    private User saveBlockedUser(String id, char status) {
+        User user = userRepository.save(createUser(id));
+        user.updateUserStatus(status);
+        userRepository.saveAndFlush(user);
+
+        BlockedUser blockedUser = BlockedUser.builder().user(user).build();
+        blockedUser.prePersist();
+        blockedUser.updateEndDate(status);
+        blockedUserRepository.saveAndFlush(blockedUser);
+        return user;
+    }
+}
@@ -1,5 +1,7 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.InboxMessageDTO;
+import com.chillin.hearting.api.data.MessageCursor;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
 import com.chillin.hearting.db.domain.Message;
@@ -8,6 +10,7 @@ import com.chillin.hearting.exception.MessageNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
@@ -100,6 +103,73 @@ public class InboxRepositoryTest {
         assertThat(inboxList.size()).isEqualTo(2);
     }
 
+    @Test
+    public void 영구보관메시지목록조회() {
+        // given
+        User savedUser1 = userRepository.save(user1);
+        User savedUser2 = userRepository.save(user2);
+        Heart savedHeart = heartRepository.save(heart);
+        Emoji savedEmoji = emojiRepository.save(emoji);
+        Message stored = Message.builder()
+                .heart(savedHeart)
+                .emoji(savedEmoji)
+                .sender(savedUser1)
+                .receiver(savedUser2)
+                .title("title")
+                .content("content")
+                .build();
+        stored.toInbox();
+        Message notStored = Message.builder()
+                .heart(savedHeart)
+                .sender(savedUser1)
+                .receiver(savedUser2)
+                .title("title")
+                .content("content")
+                .build();
+        Message savedStored = inboxRepository.save(stored);
+        inboxRepository.save(notStored);
+
+        // when
+        List<InboxMessageDTO> inboxList = inboxRepository.findInboxMessages(savedUser2.getId());
+
+        // then
+        assertThat(inboxList).hasSize(1);
+        assertThat(inboxList.get(0).getMessageId()).isEqualTo(savedStored.getId());
+        assertThat(inboxList.get(0).getMessageContent()).isEqualTo("content");
+        assertThat(inboxList.get(0).getHeartUrl()).isEqualTo(savedHeart.getImageUrl());
+        assertThat(inboxList.get(0).getEmojiName()).isEqualTo(savedEmoji.getName());
+    }
+
+    @Test
+    public void 영구보관메시지커서목록조회() {
+        // given
+        User savedUser1 = userRepository.save(user1);
+        User savedUser2 = userRepository.save(user2);
+        Heart savedHeart = heartRepository.save(heart);
+        for (int i = 0; i < 3; i++) {
+            Message stored = Message.builder()
+                    .heart(savedHeart)
+                    .sender(savedUser1)
+                    .receiver(savedUser2)
+                    .title("title" + i)
+                    .content("content")
+                    .build();
+            stored.toInbox();
+            inboxRepository.save(stored);
+        }
+        MessageCursor first = MessageCursor.latest();
+
+        // when
+        List<InboxMessageDTO> firstPage = inboxRepository.findInboxMessagesBefore(savedUser2.getId(), first.getCreatedDate(), first.getId(), PageRequest.of(0, 2));
+        InboxMessageDTO last = firstPage.get(firstPage.size() - 1);
+        List<InboxMessageDTO> secondPage = inboxRepository.findInboxMessagesBefore(savedUser2.getId(), last.getCreatedDate(), last.getMessageId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getMessageId()).isNotIn(firstPage.get(0).getMessageId(), firstPage.get(1).getMessageId());
+    }
+
     @Test
     public void 영구보관메시지상세조회() throws Exception {
         // given
@@ -1,6 +1,10 @@
 package com.chillin.hearting.db.repository;
 
 import com.chillin.hearting.api.data.HeartCountDTO;
+import com.chillin.hearting.api.data.MessageCursor;
+import com.chillin.hearting.api.data.ReceivedMessageDTO;
+import com.chillin.hearting.api.data.ReceiverMessageCountDTO;
+import com.chillin.hearting.api.data.SentMessageDTO;
 import com.chillin.hearting.api.service.AbstractTestData;
 import com.chillin.hearting.db.domain.Emoji;
 import com.chillin.hearting.db.domain.Heart;
@@ -11,8 +15,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -34,6 +42,9 @@ class MessageRepositoryTest extends AbstractTestData {
     @Autowired
     private EmojiRepository emojiRepository;
 
+    @Autowired
+    private SentMessageRepository sentMessageRepository;
+
     private User savedSender;
     private User savedReceiver;
     private Heart savedHeart;
@@ -262,6 +273,167 @@ class MessageRepositoryTest extends AbstractTestData {
         assertThat(result).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("받은 메시지 목록 조회 - 하트, 이모지 컬럼만 조회")
+    void findReceivedMessages() {
+        // given
+        Message withEmoji = messageRepository.save(Message.builder()
+                .title("emoji")
+                .heart(savedHeart)
+                .emoji(savedEmoji)
+                .sender(savedSender)
+                .receiver(savedReceiver)
+                .build());
+        Message noEmoji = messageRepository.save(Message.builder()
+                .title("no emoji")
+                .heart(savedHeart)
+                .receiver(savedReceiver)
+                .build());
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        // when
+        List<ReceivedMessageDTO> result = messageRepository.findReceivedMessages(savedReceiver.getId(), now);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).anySatisfy(dto -> {
+            assertThat(dto.getMessageId()).isEqualTo(withEmoji.getId());
+            assertThat(dto.getHeartName()).isEqualTo(savedHeart.getName());
+            assertThat(dto.getEmojiId()).isEqualTo(savedEmoji.getId());
+            assertThat(dto.getIsRead()).isFalse();
+        });
+        assertThat(result).anySatisfy(dto -> {
+            assertThat(dto.getMessageId()).isEqualTo(noEmoji.getId());
+            assertThat(dto.getEmojiId()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("만료된 메시지 chunk 단위 비활성화")
+    void deactivateExpiredMessages() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            messageRepository.save(Message.builder()
+                    .title("title")
+                    .heart(savedHeart)
+                    .receiver(savedReceiver)
+                    .build());
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime afterExpiry = now.plusHours(Message.EXPIRY_TIME + 1);
+
+        // when
+        int notExpired = messageRepository.deactivateExpiredMessages(now, 2);
+        int firstChunk = messageRepository.deactivateExpiredMessages(afterExpiry, 2);
+        int secondChunk = messageRepository.deactivateExpiredMessages(afterExpiry, 2);
+
+        // then
+        assertThat(notExpired).isEqualTo(0);
+        assertThat(firstChunk).isEqualTo(2);
+        assertThat(secondChunk).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보낸 메시지 목록 조회 - 만료되지 않은 메시지만")
+    void findSentMessages() {
+        // given
+        sentMessageRepository.save(Message.builder()
+                .title("title")
+                .heart(savedHeart)
+                .emoji(savedEmoji)
+                .sender(savedSender)
+                .receiver(savedReceiver)
+                .build());
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        // when
+        List<SentMessageDTO> result = sentMessageRepository.findSentMessages(savedSender.getId(), now);
+        List<SentMessageDTO> expired = sentMessageRepository.findSentMessages(savedSender.getId(), now.plusHours(Message.EXPIRY_TIME + 1));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getShortDescription()).isEqualTo(savedHeart.getShortDescription());
+        assertThat(result.get(0).getEmojiName()).isEqualTo(savedEmoji.getName());
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("받은 메시지 커서 페이지 조회 - 최신순")
+    void findReceivedMessagesBefore() {
+        // given
+        List<Message> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            saved.add(messageRepository.save(Message.builder()
+                    .title("title" + i)
+                    .heart(savedHeart)
+                    .receiver(savedReceiver)
+                    .build()));
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        MessageCursor first = MessageCursor.latest();
+
+        // when
+        List<ReceivedMessageDTO> firstPage = messageRepository.findReceivedMessagesBefore(savedReceiver.getId(), now, first.getCreatedDate(), first.getId(), PageRequest.of(0, 2));
+        ReceivedMessageDTO last = firstPage.get(firstPage.size() - 1);
+        List<ReceivedMessageDTO> secondPage = messageRepository.findReceivedMessagesBefore(savedReceiver.getId(), now, last.getCreatedDate(), last.getMessageId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).noneMatch(dto -> firstPage.stream().anyMatch(f -> f.getMessageId().equals(dto.getMessageId())));
+    }
+
+    @Test
+    @DisplayName("보낸 메시지 커서 페이지 조회 - 먼저 만료되는 순")
+    void findSentMessagesAfter() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            sentMessageRepository.save(Message.builder()
+                    .title("title" + i)
+                    .heart(savedHeart)
+                    .sender(savedSender)
+                    .receiver(savedReceiver)
+                    .build());
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        MessageCursor first = MessageCursor.since(now.minusHours(Message.EXPIRY_TIME));
+
+        // when
+        List<SentMessageDTO> firstPage = sentMessageRepository.findSentMessagesAfter(savedSender.getId(), now, first.getCreatedDate(), first.getId(), PageRequest.of(0, 2));
+        SentMessageDTO last = firstPage.get(firstPage.size() - 1);
+        List<SentMessageDTO> secondPage = sentMessageRepository.findSentMessagesAfter(savedSender.getId(), now, last.getCreatedDate(), last.getMessageId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(firstPage.get(0).getMessageId()).isLessThan(firstPage.get(1).getMessageId());
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getMessageId()).isGreaterThan(last.getMessageId());
+    }
+
+    @Test
+    @DisplayName("하트 별 수신자별 메시지 전송 개수")
+    void findMessageCountPerReceiver() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            messageRepository.save(Message.builder()
+                    .title("title")
+                    .heart(savedHeart)
+                    .emoji(savedEmoji)
+                    .sender(savedSender)
+                    .receiver(savedReceiver)
+                    .senderIp("senderIp")
+                    .build());
+        }
+
+        // when
+        List<ReceiverMessageCountDTO> result = messageRepository.findMessageCountPerReceiver(savedSender.getId(), savedHeart.getId());
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getReceiverId()).isEqualTo(savedReceiver.getId());
+        assertThat(result.get(0).getMessageCount()).isEqualTo(2L);
+    }
+
     @Test
     @DisplayName("유저의 하트 별 메시지 전송 개수")
     void findAllHeartSentCount() {
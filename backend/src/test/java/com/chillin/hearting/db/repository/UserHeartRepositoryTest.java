@@ -6,13 +6,18 @@ import com.chillin.hearting.db.domain.UserHeart;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+// insert ignore 검증을 위해 MySQL 모드로 설정된 H2(application.yml)를 그대로 사용
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class UserHeartRepositoryTest {
 
     @Autowired
@@ -50,6 +55,38 @@ public class UserHeartRepositoryTest {
         });
     }
 
+    @Test
+    public void 유저획득하트ID조회() {
+        // given
+        userHeartRepository.save(UserHeart.of(savedUser,savedSpecialHeart));
+
+        // when
+        List<Long> heartIds = userHeartRepository.findHeartIdsByUserId(savedUser.getId());
+        List<Object[]> rows = userHeartRepository.findAllUserIdAndHeartId();
+
+        // then
+        assertThat(heartIds).containsExactly(savedSpecialHeart.getId());
+        assertThat(rows).anySatisfy(row -> {
+            assertThat(row[0]).isEqualTo(savedUser.getId());
+            assertThat(row[1]).isEqualTo(savedSpecialHeart.getId());
+        });
+    }
+
+    @Test
+    public void 유저하트중복저장무시() {
+        // given
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        // when
+        int first = userHeartRepository.insertIgnore(savedUser.getId(), savedSpecialHeart.getId(), now);
+        int duplicated = userHeartRepository.insertIgnore(savedUser.getId(), savedSpecialHeart.getId(), now);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(duplicated).isEqualTo(0);
+        assertThat(userHeartRepository.findHeartIdsByUserId(savedUser.getId())).containsExactly(savedSpecialHeart.getId());
+    }
+
     public User createUser() {
         User user = User.builder()
                 .id("test123")
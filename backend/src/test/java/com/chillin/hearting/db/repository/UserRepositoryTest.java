@@ -1,8 +1,10 @@
 package com.chillin.hearting.db.repository;
 
+import com.chillin.hearting.api.data.HeartBoardOwnerData;
 import com.chillin.hearting.api.service.AbstractTestData;
 import com.chillin.hearting.db.domain.User;
 import com.chillin.hearting.exception.NotFoundException;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -47,18 +50,63 @@ class UserRepositoryTest extends AbstractTestData {
     }
 
     @Test
-    @DisplayName("유저 메시지 수신 횟수 업데이트")
-    void updateUserMessageTotal() {
+    @DisplayName("유저 메시지 수신 횟수 조회")
+    void findMessageTotalById() {
         // given
-        User savedUser = createUser("id");
-        savedUser = userRepository.save(savedUser);
-        long beforeMessageTotalCnt = savedUser.getMessageTotal();
+        User savedUser = userRepository.save(createUser("id"));
 
         // when
-        savedUser.updateMessageTotal();
-        User findUser = userRepository.save(savedUser);
+        Long result = userRepository.findMessageTotalById("id").orElseThrow(NotFoundException::new);
 
         // then
-        assertThat(findUser.getMessageTotal()).isEqualTo(beforeMessageTotalCnt+1);
+        assertThat(result).isEqualTo(savedUser.getMessageTotal());
+    }
+
+    @Test
+    @DisplayName("하트판 주인 정보 조회")
+    void findBoardOwnerById() {
+        // given
+        User savedUser = userRepository.save(createUser("id"));
+        savedUser.updateStatusMessage("status", null);
+        userRepository.saveAndFlush(savedUser);
+
+        // when
+        HeartBoardOwnerData result = userRepository.findBoardOwnerById("id").orElseThrow(NotFoundException::new);
+
+        // then
+        assertThat(result.getNickname()).isEqualTo(savedUser.getNickname());
+        assertThat(result.getStatusMessage()).isEqualTo("status");
+        assertThat(result.getMessageTotal()).isEqualTo(savedUser.getMessageTotal());
+    }
+
+    @Test
+    @DisplayName("인증 사용자 정보 조회")
+    void findPrincipalById() {
+        // given
+        userRepository.save(createUser("id"));
+
+        // when
+        UserPrincipal result = userRepository.findPrincipalById("id").orElseThrow(NotFoundException::new);
+
+        // then
+        assertThat(result.getId()).isEqualTo("id");
+        assertThat(result.getRole()).isEqualTo("ROLE_USER");
+        assertThat(result.getStatus()).isEqualTo('A');
+    }
+
+    @Test
+    @DisplayName("prefix로 시작하는 유저 ID 조회")
+    void findIdsStartingWith() {
+        // given
+        userRepository.save(createUser("0abc"));
+        userRepository.save(createUser("0def"));
+        userRepository.save(createUser("a0bc"));
+
+        // when
+        List<String> result = userRepository.findIdsStartingWith("0");
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.contains("a0bc")).isFalse();
     }
 }
@@ -0,0 +1,82 @@
+package com.chillin.hearting.jwt;
+
+import com.chillin.hearting.exception.JwtExpiredException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthTokenTest {
+
+    private static final String SECRET = "test-secret-key-for-hearting-auth-token-0123456789";
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final TokenVerifier tokenVerifier = new TokenVerifier(key, 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("한 토큰을 여러 번 검증해도 Claims는 한 번만 파싱")
+    void verifyOnce() {
+        // given
+        String token = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000), key, tokenVerifier).getToken();
+        AuthToken authToken = new AuthToken(token, key, tokenVerifier);
+
+        // when
+        boolean valid = authToken.validate();
+        Claims claims = authToken.getTokenClaims();
+
+        // then
+        assertThat(valid).isTrue();
+        assertThat(claims).isSameAs(authToken.getTokenClaims());
+        assertThat(claims.get("id")).isEqualTo("userId");
+    }
+
+    @Test
+    @DisplayName("최근 검증한 토큰은 다른 요청에서 캐시된 Claims 사용")
+    void verifiedTokenCache() {
+        // given
+        String token = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000), key, tokenVerifier).getToken();
+
+        // when
+        Claims first = new AuthToken(token, key, tokenVerifier).getTokenClaims();
+        Claims second = new AuthToken(token, key, tokenVerifier).getTokenClaims();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(tokenVerifier.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않고 매번 만료 예외")
+    void expiredToken() {
+        // given
+        String token = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() - 1_000), key, tokenVerifier).getToken();
+        AuthToken authToken = new AuthToken(token, key, tokenVerifier);
+
+        // when, then
+        assertThatThrownBy(authToken::validate).isInstanceOf(JwtExpiredException.class);
+        assertThatThrownBy(authToken::getTokenClaims).isInstanceOf(JwtExpiredException.class);
+        assertThat(authToken.getExpiredTokenClaims().get("id")).isEqualTo("userId");
+        assertThat(tokenVerifier.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 검증 실패")
+    void invalidSignature() {
+        // given
+        Key otherKey = Keys.hmacShaKeyFor("other-secret-key-for-hearting-auth-token-0123456789".getBytes());
+        String token = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000), otherKey, tokenVerifier).getToken();
+
+        // when
+        boolean valid = new AuthToken(token, key, tokenVerifier).validate();
+
+        // then
+        assertThat(valid).isFalse();
+    }
+}
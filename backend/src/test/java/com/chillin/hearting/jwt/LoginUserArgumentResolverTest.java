@@ -0,0 +1,126 @@
+package com.chillin.hearting.jwt;
+
+import com.chillin.hearting.api.service.SuspendedUserRegistry;
+import com.chillin.hearting.exception.JwtExpiredException;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.oauth.domain.UserPrincipal;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginUserArgumentResolverTest {
+
+    private static final String SECRET = "test-secret-key-for-hearting-auth-token-0123456789";
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final TokenVerifier tokenVerifier = new TokenVerifier(key, 100, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private LoginUserArgumentResolver loginUserArgumentResolver;
+
+    @Mock
+    private AuthTokenProvider tokenProvider;
+
+    @Mock
+    private SuspendedUserRegistry suspendedUserRegistry;
+
+    private final UserPrincipal user = UserPrincipal.builder().id("userId").role("ROLE_USER").build();
+
+    @Test
+    @DisplayName("필터에서 인증한 요청은 토큰을 다시 검증하지 않음")
+    void alreadyAuthenticated() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.ATTRIBUTE_USER, user);
+
+        // when
+        Object resolved = loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertThat(resolved).isSameAs(user);
+        verify(tokenProvider, never()).getAuthentication(any());
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 요청은 null")
+    void noToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when
+        Object resolved = loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertThat(resolved).isNull();
+        verify(tokenProvider, never()).getAuthentication(any());
+    }
+
+    @Test
+    @DisplayName("핸들러가 요청할 때 토큰을 검증하고 로그인 유저 조회")
+    void lazyAuthentication() {
+        // given
+        AuthToken authToken = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000), key, tokenVerifier);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.ATTRIBUTE_AUTH_TOKEN, authToken);
+        doReturn(new UsernamePasswordAuthenticationToken(user, authToken, Collections.emptyList()))
+                .when(tokenProvider).getAuthentication(authToken);
+
+        // when
+        Object resolved = loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertThat(resolved).isEqualTo(user);
+        assertThat(request.getAttribute(TokenAuthenticationFilter.ATTRIBUTE_USER)).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("정지된 유저는 토큰이 유효해도 인증 실패")
+    void suspendedUser() {
+        // given
+        AuthToken authToken = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000), key, tokenVerifier);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.ATTRIBUTE_AUTH_TOKEN, authToken);
+        doReturn(new UsernamePasswordAuthenticationToken(user, authToken, Collections.emptyList()))
+                .when(tokenProvider).getAuthentication(authToken);
+        doThrow(new UnAuthorizedException("pause")).when(suspendedUserRegistry).checkActive("userId");
+
+        // when, then
+        assertThatThrownBy(() -> loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null))
+                .isInstanceOf(UnAuthorizedException.class)
+                .hasMessage("pause");
+        assertThat(request.getAttribute(TokenAuthenticationFilter.ATTRIBUTE_USER)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 재발급 요청")
+    void expiredToken() {
+        // given
+        AuthToken authToken = new AuthToken("userId", "ROLE_USER", new Date(System.currentTimeMillis() - 1_000), key, tokenVerifier);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.ATTRIBUTE_AUTH_TOKEN, authToken);
+
+        // when, then
+        assertThatThrownBy(() -> loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null))
+                .isInstanceOf(JwtExpiredException.class)
+                .hasMessage("reissue");
+        verify(tokenProvider, never()).getAuthentication(any());
+    }
+}
@@ -0,0 +1,179 @@
+package com.chillin.hearting.oauth.client;
+
+import com.chillin.hearting.exception.SocialLoginBusyException;
+import com.chillin.hearting.exception.UnAuthorizedException;
+import com.chillin.hearting.exception.UserNotFoundException;
+import com.chillin.hearting.oauth.info.OAuth2Attribute;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 stub provider(HttpServer)에 실제 HTTP 요청을 보내 소셜 로그인 클라이언트를 검증합니다.
+ */
+class SocialOAuthClientTest {
+
+    private static final String PROVIDER = "kakao";
+
+    private HttpServer stubProvider;
+    private SocialOAuthClient socialOAuthClient;
+
+    private final AtomicReference<String> tokenRequestBody = new AtomicReference<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubProvider = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubProvider.setExecutor(Executors.newCachedThreadPool());
+        stubProvider.createContext("/oauth/token", exchange -> {
+            tokenRequestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"access_token\":\"socialAccessToken\"}");
+        });
+        stubProvider.createContext("/v2/user/me", exchange -> {
+            if (!"Bearer socialAccessToken".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, 401, "{}");
+                return;
+            }
+            respond(exchange, 200, "{\"kakao_account\":{\"email\":\"user@kakao.com\"}}");
+        });
+        stubProvider.createContext("/slow/token", exchange -> {
+            await();
+            respond(exchange, 200, "{\"access_token\":\"socialAccessToken\"}");
+        });
+        stubProvider.createContext("/error/token", exchange -> respond(exchange, 400, "{\"error\":\"invalid_grant\"}"));
+        stubProvider.start();
+
+        socialOAuthClient = createClient("/oauth/token", 1_000, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        socialOAuthClient.stop();
+        stubProvider.stop(0);
+    }
+
+    @Test
+    @DisplayName("인가 코드로 access token을 받고 사용자 정보 조회")
+    void requestUserAttribute() {
+        // when
+        OAuth2Attribute oAuth2Attribute = socialOAuthClient.requestUserAttribute("code 1", PROVIDER).join();
+
+        // then
+        assertThat(oAuth2Attribute.getEmail()).isEqualTo("user@kakao.com");
+        assertThat(tokenRequestBody.get()).contains("grant_type=authorization_code", "client_id=clientId", "code=code+1");
+        assertThat(socialOAuthClient.availableCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("provider가 에러를 응답하면 UnAuthorizedException")
+    void providerError() throws InterruptedException {
+        // given
+        socialOAuthClient.stop();
+        socialOAuthClient = createClient("/error/token", 1_000, 1);
+
+        // when
+        CompletableFuture<String> future = socialOAuthClient.requestAccessToken("code", PROVIDER);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(UnAuthorizedException.class);
+        assertThat(socialOAuthClient.availableCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰으로 사용자 정보를 조회하면 UserNotFoundException")
+    void userInfoError() {
+        // when
+        CompletableFuture<OAuth2Attribute> future = socialOAuthClient.requestUserInfo("wrongToken", PROVIDER);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("provider 응답이 제한 시간을 넘기면 실패하고 자리를 반납")
+    void responseTimeout() throws InterruptedException {
+        // given
+        socialOAuthClient.stop();
+        socialOAuthClient = createClient("/slow/token", 200, 1);
+
+        // when
+        long start = System.nanoTime();
+        CompletableFuture<String> future = socialOAuthClient.requestAccessToken("code", PROVIDER);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(UnAuthorizedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(socialOAuthClient.availableCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수를 넘으면 기다리지 않고 SocialLoginBusyException")
+    void bulkheadFull() throws InterruptedException {
+        // given
+        socialOAuthClient.stop();
+        socialOAuthClient = createClient("/slow/token", 5_000, 1);
+        CompletableFuture<String> first = socialOAuthClient.requestAccessToken("code", PROVIDER);
+
+        // when, then
+        assertThatThrownBy(() -> socialOAuthClient.requestAccessToken("code", PROVIDER))
+                .isInstanceOf(SocialLoginBusyException.class);
+
+        release.countDown();
+        assertThat(first.join()).isEqualTo("socialAccessToken");
+        assertThat(socialOAuthClient.availableCalls()).isEqualTo(1);
+    }
+
+    private SocialOAuthClient createClient(String tokenPath, long responseTimeoutMs, int maxConcurrentCalls) {
+        String baseUrl = "http://localhost:" + stubProvider.getAddress().getPort();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.security.oauth2.client.provider.kakao.token-uri", baseUrl + tokenPath)
+                .withProperty("spring.security.oauth2.client.provider.kakao.user-info-uri", baseUrl + "/v2/user/me")
+                .withProperty("spring.security.oauth2.client.registration.kakao.client-id", "clientId")
+                .withProperty("spring.security.oauth2.client.registration.kakao.client-secret", "clientSecret")
+                .withProperty("spring.security.oauth2.client.registration.kakao.redirect-uri", "http://localhost/oauth2/code/kakao");
+
+        SocialOAuthClient client = new SocialOAuthClient(environment);
+        ReflectionTestUtils.setField(client, "connectTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(client, "responseTimeoutMs", responseTimeoutMs);
+        ReflectionTestUtils.setField(client, "maxConcurrentCalls", maxConcurrentCalls);
+        ReflectionTestUtils.setField(client, "threads", 2);
+        client.start();
+        return client;
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}